@@ -0,0 +1,131 @@
+package com.management.tab.benchmark;
+
+import com.management.tab.domain.tab.TabTree;
+import com.management.tab.persistence.dao.SelectTabDao;
+import com.management.tab.persistence.dao.TabTreeRowCallbackHandler;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Platform 요청 스레드와 가상 스레드가 MySQL Connector/J 로 트리를 동시에 조회할 때의 처리량을 비교한다.
+ * <p>
+ * {@code ./gradlew jmh -PbenchmarkMysqlUrl=jdbc:mysql://localhost:3306/tab_benchmark} 로 실행하며 대상 데이터베이스의
+ * 스키마는 다시 만들어진다. {@code -Djdk.tracePinnedThreads=short} 가 함께 전달되므로 캐리어 스레드 고정이 일어나면
+ * 고정된 스택이 출력된다.
+ * <p>
+ * {@code spring.threads.virtual.enabled} 고정(pinning) 점검 결과
+ * <ul>
+ *     <li>MySQL Connector/J 8.x 는 쿼리 실행과 소켓 읽기/쓰기를 연결 뮤텍스의 {@code synchronized} 블록 안에서 수행한다.
+ *     JDK 21~23 에서는 응답을 기다리는 가상 스레드가 캐리어를 고정하므로 동시 쿼리 수가 커넥션 풀 크기가 아니라
+ *     캐리어 수(CPU 코어 수)로 제한된다. 실제로 받는 드라이버 버전은 Spring Boot 가 관리하므로
+ *     {@code ./gradlew dependencyInsight --dependency mysql-connector-j} 와 이 벤치마크의 고정 스택으로 확인한다.
+ *     고정이 보이면 가상 스레드를 켜지 않거나 {@code synchronized} 를 락으로 바꾼 드라이버 버전 또는 JDK 24 이상을 쓴다.</li>
+ *     <li>HikariCP 는 커넥션 대기 시 {@code synchronized} 없이 park 하므로 풀 대기는 캐리어를 고정하지 않는다.</li>
+ *     <li>{@code HiLoTabIdAllocator} 는 JDBC 입출력을 {@code ReentrantLock} 안에서 수행한다.</li>
+ *     <li>{@code TimeOrderedTabIdAllocator}, {@code TabGroupEventBroadcaster} 의 송신 스레드 보정, Nimbus JWE 암복호화의
+ *     {@code synchronized} 구간은 입출력이 없는 CPU 작업이다.</li>
+ *     <li>H2 는 개발/테스트용 인메모리 데이터베이스로 입출력 대기가 없다.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExecutionModeBenchmark {
+
+    private static final long GROUP_ID = 1L;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int CONNECTION_POOL_SIZE = 10;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"200", "1000"})
+    private int concurrentRequests;
+
+    @Param({"1000"})
+    private int tabCount;
+
+    private HikariDataSource dataSource;
+    private SelectTabDao selectTabDao;
+    private ExecutorService requestExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = createDataSource();
+
+        var jdbcTemplate = TabTreeFixture.createDatabase(dataSource);
+
+        TabTreeFixture.insertTree(jdbcTemplate, GROUP_ID, tabCount);
+        selectTabDao = new SelectTabDao(jdbcTemplate);
+        requestExecutor = createRequestExecutor();
+    }
+
+    private HikariDataSource createDataSource() {
+        String url = System.getProperty("benchmark.mysql.url");
+
+        if (url == null) {
+            throw new IllegalStateException("-PbenchmarkMysqlUrl 로 MySQL 접속 주소를 지정해야 합니다.");
+        }
+
+        HikariConfig config = new HikariConfig();
+
+        config.setJdbcUrl(url);
+        config.setUsername(System.getProperty("benchmark.mysql.username", "root"));
+        config.setPassword(System.getProperty("benchmark.mysql.password", ""));
+        config.setMaximumPoolSize(CONNECTION_POOL_SIZE);
+        return new HikariDataSource(config);
+    }
+
+    private ExecutorService createRequestExecutor() {
+        if ("virtual".equals(threads)) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+
+        return Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public void concurrentTreeReads(Blackhole blackhole) throws InterruptedException, ExecutionException {
+        List<Future<TabTree>> responses = new ArrayList<>(concurrentRequests);
+
+        for (int i = 0; i < concurrentRequests; i++) {
+            responses.add(requestExecutor.submit(this::readTree));
+        }
+
+        for (Future<TabTree> response : responses) {
+            blackhole.consume(response.get());
+        }
+    }
+
+    private TabTree readTree() {
+        TabTreeRowCallbackHandler rowCallbackHandler = new TabTreeRowCallbackHandler();
+
+        selectTabDao.streamTreeByGroup(GROUP_ID, rowCallbackHandler);
+
+        return TabTree.create(GROUP_ID, rowCallbackHandler.getRootNodes());
+    }
+}
@@ -0,0 +1,77 @@
+package com.management.tab.benchmark;
+
+import com.management.tab.domain.tab.TabNode;
+import com.management.tab.domain.tab.TabTree;
+import com.management.tab.persistence.dao.SelectTabDao;
+import com.management.tab.persistence.dao.TabTreeRowCallbackHandler;
+import com.management.tab.persistence.dao.dto.TabWithDepthDto;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FindTabTreeBenchmark {
+
+    private static final long GROUP_ID = 1L;
+
+    @Param({"1000", "10000", "100000"})
+    private int tabCount;
+
+    private SelectTabDao selectTabDao;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var jdbcTemplate = TabTreeFixture.createDatabase("find-tab-tree-" + tabCount);
+
+        TabTreeFixture.insertTree(jdbcTemplate, GROUP_ID, tabCount);
+        selectTabDao = new SelectTabDao(jdbcTemplate);
+    }
+
+    @Benchmark
+    public TabTree correlatedDepthWithTwoPasses() {
+        List<TabWithDepthDto> tabWithDepthDtos = selectTabDao.findTreeByGroup(GROUP_ID);
+        Map<Long, TabNode> nodeMap = new HashMap<>();
+        List<TabNode> rootNodes = new ArrayList<>();
+
+        for (TabWithDepthDto tabWithDepthDto : tabWithDepthDtos) {
+            TabNode tabNode = tabWithDepthDto.toTabNode();
+
+            nodeMap.put(tabNode.getId().getValue(), tabNode);
+
+            if (tabNode.isRoot()) {
+                rootNodes.add(tabNode);
+            }
+        }
+
+        for (TabWithDepthDto dto : tabWithDepthDtos) {
+            if (dto.hasParent()) {
+                dto.findParentNode(nodeMap)
+                   .ifPresent(parent -> dto.findChildNode(nodeMap).ifPresent(parent::addChild));
+            }
+        }
+
+        return TabTree.create(GROUP_ID, rootNodes);
+    }
+
+    @Benchmark
+    public TabTree groupedDepthWithSinglePass() {
+        TabTreeRowCallbackHandler rowCallbackHandler = new TabTreeRowCallbackHandler();
+
+        selectTabDao.streamTreeByGroup(GROUP_ID, rowCallbackHandler);
+
+        return TabTree.create(GROUP_ID, rowCallbackHandler.getRootNodes());
+    }
+}
@@ -0,0 +1,114 @@
+package com.management.tab.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.management.tab.application.tab.dto.request.InsertMultipleTabRequest;
+import com.management.tab.domain.tab.TabNode;
+import com.management.tab.domain.tab.TabTree;
+import com.management.tab.persistence.dao.SelectTabDao;
+import com.management.tab.persistence.dao.TabTreeRowCallbackHandler;
+import com.management.tab.presentation.tab.dto.response.TabTreeResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TabTreeEncodingBenchmark {
+
+    private static final long GROUP_ID = 1L;
+    private static final TypeReference<List<InsertMultipleTabRequest>> BULK_REQUEST_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"1000", "10000", "100000"})
+    private int tabCount;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private TabTreeResponse treeResponse;
+    private List<InsertMultipleTabRequest> bulkRequests;
+    private byte[] encodedTree;
+    private byte[] encodedBulk;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        var jdbcTemplate = TabTreeFixture.createDatabase("tab-tree-encoding-" + tabCount + "-" + format);
+
+        TabTreeFixture.insertTree(jdbcTemplate, GROUP_ID, tabCount);
+
+        TabTreeRowCallbackHandler rowCallbackHandler = new TabTreeRowCallbackHandler();
+
+        new SelectTabDao(jdbcTemplate).streamTreeByGroup(GROUP_ID, rowCallbackHandler);
+
+        TabTree tabTree = TabTree.create(GROUP_ID, rowCallbackHandler.getRootNodes());
+
+        objectMapper = new ObjectMapper(createFactory());
+        treeResponse = TabTreeResponse.from(tabTree);
+        bulkRequests = tabTree.getRootTabNodes()
+                              .stream()
+                              .map(TabTreeEncodingBenchmark::toBulkRequest)
+                              .toList();
+        encodedTree = objectMapper.writeValueAsBytes(treeResponse);
+        encodedBulk = objectMapper.writeValueAsBytes(bulkRequests);
+
+        System.out.printf(
+                "%npayload bytes (format=%s, tabs=%d): tree=%d, bulk=%d%n",
+                format,
+                tabCount,
+                encodedTree.length,
+                encodedBulk.length
+        );
+    }
+
+    @Benchmark
+    public byte[] encodeTree() throws IOException {
+        return objectMapper.writeValueAsBytes(treeResponse);
+    }
+
+    @Benchmark
+    public TabTreeResponse decodeTree() throws IOException {
+        return objectMapper.readValue(encodedTree, TabTreeResponse.class);
+    }
+
+    @Benchmark
+    public byte[] encodeBulk() throws IOException {
+        return objectMapper.writeValueAsBytes(bulkRequests);
+    }
+
+    @Benchmark
+    public List<InsertMultipleTabRequest> decodeBulk() throws IOException {
+        return objectMapper.readValue(encodedBulk, BULK_REQUEST_TYPE);
+    }
+
+    private JsonFactory createFactory() {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+
+    private static InsertMultipleTabRequest toBulkRequest(TabNode tabNode) {
+        List<InsertMultipleTabRequest> children = tabNode.getChildren()
+                                                         .stream()
+                                                         .map(TabTreeEncodingBenchmark::toBulkRequest)
+                                                         .toList();
+
+        return new InsertMultipleTabRequest(tabNode.getTab().getTitle(), tabNode.getTab().getUrl(), children);
+    }
+}
@@ -0,0 +1,81 @@
+package com.management.tab.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+public final class TabTreeFixture {
+
+    private static final int FAN_OUT = 10;
+    private static final int BATCH_SIZE = 10_000;
+
+    private TabTreeFixture() {
+    }
+
+    public static JdbcTemplate createDatabase(String name) {
+        return createDatabase(new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", ""));
+    }
+
+    public static JdbcTemplate createDatabase(DataSource dataSource) {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("sql/schema.sql"));
+
+        populator.execute(dataSource);
+        return new JdbcTemplate(dataSource);
+    }
+
+    public static void insertTree(JdbcTemplate jdbcTemplate, long groupId, int tabCount) {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, nickname, registration_id, social_id, created_at, updated_at)
+                VALUES (?, 'benchmark', 'KAKAO', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, groupId, "benchmark-" + groupId);
+        jdbcTemplate.update("""
+                INSERT INTO tab_groups (id, name, writer_id, created_at, updated_at)
+                VALUES (?, 'benchmark', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, groupId, groupId);
+
+        long idOffset = (groupId - 1) * tabCount;
+        long[] parents = new long[tabCount + 1];
+        List<Object[]> tabRows = new ArrayList<>();
+        List<Object[]> pathRows = new ArrayList<>();
+
+        for (int i = 1; i <= tabCount; i++) {
+            parents[i] = i <= FAN_OUT ? 0 : (i - 1) / FAN_OUT;
+
+            Long parentId = parents[i] == 0 ? null : parents[i] + idOffset;
+
+            tabRows.add(new Object[]{
+                    i + idOffset, groupId, groupId, parentId, "tab-" + i, "https://tab-" + i + ".com", (i - 1) % FAN_OUT
+            });
+
+            int depth = 0;
+
+            for (long ancestor = i; ancestor != 0; ancestor = parents[(int) ancestor]) {
+                pathRows.add(new Object[]{ancestor + idOffset, i + idOffset, depth++});
+            }
+
+            if (tabRows.size() >= BATCH_SIZE) {
+                flush(jdbcTemplate, tabRows, pathRows);
+            }
+        }
+
+        flush(jdbcTemplate, tabRows, pathRows);
+    }
+
+    private static void flush(JdbcTemplate jdbcTemplate, List<Object[]> tabRows, List<Object[]> pathRows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tabs (id, group_id, writer_id, parent_id, title, url, position, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, tabRows);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tab_tree_paths (ancestor_id, descendant_id, depth)
+                VALUES (?, ?, ?)
+                """, pathRows);
+
+        tabRows.clear();
+        pathRows.clear();
+    }
+}
@@ -0,0 +1,101 @@
+package com.management.tab.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.tab.domain.tab.TabNode;
+import com.management.tab.domain.tab.TabTree;
+import com.management.tab.persistence.dao.SelectTabDao;
+import com.management.tab.persistence.dao.TabPreOrderRowCallbackHandler;
+import com.management.tab.persistence.dao.TabTreeRowCallbackHandler;
+import com.management.tab.presentation.tab.TabTreeColumnarJsonWriter;
+import com.management.tab.presentation.tab.TabTreeFlatJsonWriter;
+import com.management.tab.presentation.tab.TabTreeJsonWriter;
+import com.management.tab.presentation.tab.TabTreeWriter;
+import com.management.tab.presentation.tab.dto.response.TabTreeResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TabTreeSerializationBenchmark {
+
+    private static final long GROUP_ID = 1L;
+
+    @Param({"1000", "10000", "100000"})
+    private int tabCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private TabTree tabTree;
+    private List<TabNode> preOrderNodes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        var jdbcTemplate = TabTreeFixture.createDatabase("tab-tree-serialization-" + tabCount);
+
+        TabTreeFixture.insertTree(jdbcTemplate, GROUP_ID, tabCount);
+
+        SelectTabDao selectTabDao = new SelectTabDao(jdbcTemplate);
+        TabTreeRowCallbackHandler treeRowCallbackHandler = new TabTreeRowCallbackHandler();
+
+        selectTabDao.streamTreeByGroup(GROUP_ID, treeRowCallbackHandler);
+        tabTree = TabTree.create(GROUP_ID, treeRowCallbackHandler.getRootNodes());
+        preOrderNodes = new ArrayList<>(tabCount);
+        selectTabDao.streamPreOrderByGroup(GROUP_ID, new TabPreOrderRowCallbackHandler(preOrderNodes::add));
+
+        System.out.printf(
+                "%npayload bytes (tabs=%d): nested=%d, flat=%d, columnar=%d%n",
+                tabCount,
+                nestedResponse().length,
+                flat().length,
+                columnar().length
+        );
+    }
+
+    @Benchmark
+    public byte[] nestedResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(TabTreeResponse.from(tabTree));
+    }
+
+    @Benchmark
+    public byte[] nestedStreaming() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        return write(output, new TabTreeJsonWriter(objectMapper.getFactory().createGenerator(output)));
+    }
+
+    @Benchmark
+    public byte[] flat() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        return write(output, new TabTreeFlatJsonWriter(objectMapper.getFactory().createGenerator(output)));
+    }
+
+    @Benchmark
+    public byte[] columnar() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        return write(output, new TabTreeColumnarJsonWriter(objectMapper.getFactory().createGenerator(output)));
+    }
+
+    private byte[] write(ByteArrayOutputStream output, TabTreeWriter writer) throws IOException {
+        try (writer) {
+            preOrderNodes.forEach(writer::write);
+            writer.finish();
+        }
+
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,118 @@
+package com.management.tab.benchmark;
+
+import com.management.tab.config.auth.security.enums.TokenProfile;
+import com.management.tab.config.auth.security.enums.TokenType;
+import com.management.tab.config.properties.TokenProperties;
+import com.management.tab.domain.auth.PrivateClaims;
+import com.management.tab.infrastructure.jwt.JweEnvelope;
+import com.management.tab.infrastructure.jwt.JwsEnvelope;
+import com.management.tab.infrastructure.jwt.JwsSignerFinder;
+import com.management.tab.infrastructure.jwt.JwsVerifierFinder;
+import com.management.tab.infrastructure.jwt.JwtDecoder;
+import com.management.tab.infrastructure.jwt.JwtEncoder;
+import com.management.tab.infrastructure.jwt.JwtEnvelope;
+import com.management.tab.infrastructure.jwt.JwtEnvelopeFinder;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.AESDecrypter;
+import com.nimbusds.jose.crypto.AESEncrypter;
+import com.nimbusds.jose.crypto.DirectDecrypter;
+import com.nimbusds.jose.crypto.DirectEncrypter;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenProfileBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final TokenProperties TOKEN_PROPERTIES = new TokenProperties(
+            "thisIsA32ByteAccessTokenKeyForHS",
+            "thisIsA32ByteRefreshTokenKeyForH",
+            "thisIsA32ByteEncryptionKeyForAES",
+            "benchmark",
+            3600,
+            259200,
+            3600000L,
+            259200000L
+    );
+
+    @Param({"NESTED", "DIRECT", "SIGNED"})
+    private TokenProfile profile;
+
+    private JwtEncoder jwtEncoder;
+    private JwtDecoder jwtDecoder;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JOSEException {
+        SecretKey accessTokenSecretKey = hmacKey(TOKEN_PROPERTIES.accessKey());
+        SecretKey refreshTokenSecretKey = hmacKey(TOKEN_PROPERTIES.refreshKey());
+        JwtEnvelope jwtEnvelope = createEnvelope();
+        JwtEnvelopeFinder jwtEnvelopeFinder = new JwtEnvelopeFinder(jwtEnvelope, jwtEnvelope);
+
+        jwtEncoder = new JwtEncoder(
+                jwtEnvelopeFinder,
+                new JwsSignerFinder(new MACSigner(accessTokenSecretKey), new MACSigner(refreshTokenSecretKey)),
+                TOKEN_PROPERTIES
+        );
+        jwtDecoder = new JwtDecoder(
+                Clock.systemDefaultZone(),
+                jwtEnvelopeFinder,
+                new JwsVerifierFinder(new MACVerifier(accessTokenSecretKey), new MACVerifier(refreshTokenSecretKey)),
+                TOKEN_PROPERTIES
+        );
+        token = jwtEncoder.encode(LocalDateTime.now(), TokenType.ACCESS, USER_ID);
+
+        System.out.printf("%s token size: %d bytes%n", profile, token.getBytes(StandardCharsets.US_ASCII).length);
+    }
+
+    private JwtEnvelope createEnvelope() throws JOSEException {
+        return switch (profile) {
+            case NESTED -> {
+                SecretKey keyWrapSecretKey = aesKey("24ByteEncryptionKeyForJWE", 24);
+
+                yield JweEnvelope.keyWrapped(new AESEncrypter(keyWrapSecretKey), new AESDecrypter(keyWrapSecretKey));
+            }
+            case DIRECT -> {
+                SecretKey directSecretKey = aesKey("thisIsA32ByteDirectEncryptionKey", 32);
+
+                yield JweEnvelope.direct(new DirectEncrypter(directSecretKey), new DirectDecrypter(directSecretKey));
+            }
+            case SIGNED -> new JwsEnvelope();
+        };
+    }
+
+    private SecretKey hmacKey(String key) {
+        return new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    }
+
+    private SecretKey aesKey(String key, int length) {
+        return new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), 0, length, "AES");
+    }
+
+    @Benchmark
+    public String encode() {
+        return jwtEncoder.encode(LocalDateTime.now(), TokenType.ACCESS, USER_ID);
+    }
+
+    @Benchmark
+    public PrivateClaims decode() {
+        return jwtDecoder.decode(TokenType.ACCESS, token);
+    }
+}
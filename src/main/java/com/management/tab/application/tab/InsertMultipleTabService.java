@@ -5,6 +5,7 @@ import com.management.tab.application.tab.dto.response.InsertMultipleTabResponse
 import com.management.tab.domain.group.TabGroup;
 import com.management.tab.domain.group.vo.TabGroupId;
 import com.management.tab.domain.repository.TabGroupRepository;
+import com.management.tab.domain.repository.TabIdAllocator;
 import com.management.tab.domain.repository.TabRepository;
 import com.management.tab.domain.tab.Tab;
 import com.management.tab.domain.tab.TabBuilder;
@@ -12,8 +13,12 @@ import com.management.tab.domain.tab.TabTree;
 import com.management.tab.domain.tab.vo.TabId;
 import com.management.tab.domain.tab.vo.TabPosition;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,9 +28,12 @@ public class InsertMultipleTabService {
 
     private final TabRepository tabRepository;
     private final TabGroupRepository tabGroupRepository;
+    private final TabPositionRebalancer tabPositionRebalancer;
+    private final Optional<TabIdAllocator> tabIdAllocator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public List<InsertMultipleTabResponse> insertMultipleRootTabs(
+    public InsertMultipleTabResponse insertMultipleRootTabs(
             Long groupId,
             Long writerId,
             List<InsertMultipleTabRequest> requests
@@ -41,29 +49,17 @@ public class InsertMultipleTabService {
         int requestMaxDepth = calculateMaxDepth(requests);
         tabTree.validateCreateDepth(requestMaxDepth, 0);
 
-        TabPosition nextRootPosition = tabTree.getNextRootPosition();
-
-        List<InsertMultipleTabResponse> responses = new ArrayList<>();
-        TabPosition currentPosition = nextRootPosition;
-
-        for (InsertMultipleTabRequest request : requests) {
-            InsertMultipleTabResponse response = saveBulkTabRecursively(
-                    groupId,
-                    writerId,
-                    request,
-                    null,
-                    currentPosition,
-                    0
-            );
-            responses.add(response);
-            currentPosition = currentPosition.next();
-        }
+        TabPosition nextRootPosition = tabPositionRebalancer.nextRootPosition(
+                tabTree,
+                TabGroupId.create(groupId),
+                requests.size()
+        );
 
-        return responses;
+        return save(groupId, writerId, null, nextRootPosition, requests);
     }
 
     @Transactional
-    public List<InsertMultipleTabResponse> insertMultipleChildTabs(
+    public InsertMultipleTabResponse insertMultipleChildTabs(
             Long groupId,
             Long parentTabId,
             Long writerId,
@@ -90,60 +86,157 @@ public class InsertMultipleTabService {
         int parentDepth = tabTree.findDepth(parentTabIdValue);
         tabTree.validateCreateDepth(requestMaxDepth, parentDepth + 1);
 
-        TabPosition nextChildPosition = tabTree.getNextChildPosition(parentTabIdValue);
+        TabPosition nextChildPosition = tabPositionRebalancer.nextChildPosition(
+                tabTree,
+                TabGroupId.create(groupId),
+                parentTabIdValue,
+                requests.size()
+        );
 
-        List<InsertMultipleTabResponse> responses = new ArrayList<>();
-        TabPosition currentPosition = nextChildPosition;
+        return save(groupId, writerId, parentTab, nextChildPosition, requests);
+    }
+
+    private InsertMultipleTabResponse save(
+            Long groupId,
+            Long writerId,
+            Tab parentTab,
+            TabPosition firstPosition,
+            List<InsertMultipleTabRequest> requests
+    ) {
+        InsertMultipleTabResponse response = tabIdAllocator
+                .map(allocator -> saveWithAllocatedIds(allocator, groupId, writerId, parentTab, firstPosition, requests))
+                .orElseGet(() -> saveLevelByLevel(groupId, writerId, parentTab, firstPosition, requests));
+
+        publishGroupChanged(TabGroupId.create(groupId));
+        return response;
+    }
+
+    private InsertMultipleTabResponse saveWithAllocatedIds(
+            TabIdAllocator allocator,
+            Long groupId,
+            Long writerId,
+            Tab parentTab,
+            TabPosition firstPosition,
+            List<InsertMultipleTabRequest> requests
+    ) {
+        int totalCount = countTabs(requests);
+        Iterator<TabId> allocatedIds = allocator.allocate(totalCount).iterator();
+        List<Tab> tabs = new ArrayList<>(totalCount);
+
+        assignInPreOrder(groupId, writerId, parentTab, firstPosition, requests, allocatedIds, tabs);
+        tabRepository.saveAll(tabs);
+
+        return new InsertMultipleTabResponse(tabs.stream().map(Tab::getId).toList());
+    }
+
+    private void assignInPreOrder(
+            Long groupId,
+            Long writerId,
+            Tab parentTab,
+            TabPosition firstPosition,
+            List<InsertMultipleTabRequest> requests,
+            Iterator<TabId> allocatedIds,
+            List<Tab> tabs
+    ) {
+        TabPosition currentPosition = firstPosition;
 
         for (InsertMultipleTabRequest request : requests) {
-            InsertMultipleTabResponse response = saveBulkTabRecursively(
+            Tab tab = createTab(groupId, writerId, request, parentTab, currentPosition)
+                    .updateAssignedId(allocatedIds.next().getValue());
+
+            tabs.add(tab);
+            assignInPreOrder(
                     groupId,
                     writerId,
-                    request,
-                    parentTab,
-                    currentPosition,
-                    parentDepth + 1
+                    tab,
+                    TabPosition.defaultPosition(),
+                    request.children(),
+                    allocatedIds,
+                    tabs
             );
-            responses.add(response);
             currentPosition = currentPosition.next();
         }
+    }
 
-        return responses;
+    private int countTabs(List<InsertMultipleTabRequest> requests) {
+        return requests.stream()
+                       .mapToInt(request -> 1 + countTabs(request.children()))
+                       .sum();
     }
 
-    private InsertMultipleTabResponse saveBulkTabRecursively(
+    private InsertMultipleTabResponse saveLevelByLevel(
             Long groupId,
             Long writerId,
-            InsertMultipleTabRequest request,
             Tab parentTab,
-            TabPosition position,
-            int currentDepth
+            TabPosition firstPosition,
+            List<InsertMultipleTabRequest> requests
     ) {
-        Tab savedTab = saveTab(groupId, writerId, request, parentTab, position);
+        AtomicInteger clientIndexSequence = new AtomicInteger();
+        List<IndexedRequest> indexedRequests = indexInPreOrder(requests, clientIndexSequence);
+        Long[] tabIds = new Long[clientIndexSequence.get()];
+        List<PendingTab> level = createPendingTabs(groupId, writerId, parentTab, firstPosition, indexedRequests);
 
-        List<InsertMultipleTabResponse> childResponses = new ArrayList<>();
+        while (!level.isEmpty()) {
+            List<Tab> savedTabs = tabRepository.saveAll(level.stream().map(PendingTab::tab).toList());
+            List<PendingTab> nextLevel = new ArrayList<>();
 
-        if (!request.children().isEmpty()) {
-            TabPosition childPosition = TabPosition.defaultPosition();
+            for (int i = 0; i < level.size(); i++) {
+                IndexedRequest indexedRequest = level.get(i).indexedRequest();
+                Tab savedTab = savedTabs.get(i);
 
-            for (InsertMultipleTabRequest childRequest : request.children()) {
-                InsertMultipleTabResponse childResponse = saveBulkTabRecursively(
+                tabIds[indexedRequest.clientIndex()] = savedTab.getId();
+                nextLevel.addAll(createPendingTabs(
                         groupId,
                         writerId,
-                        childRequest,
                         savedTab,
-                        childPosition,
-                        currentDepth + 1
-                );
-                childResponses.add(childResponse);
-                childPosition = childPosition.next();
+                        TabPosition.defaultPosition(),
+                        indexedRequest.children()
+                ));
             }
+
+            level = nextLevel;
+        }
+
+        return new InsertMultipleTabResponse(List.of(tabIds));
+    }
+
+    private List<IndexedRequest> indexInPreOrder(
+            List<InsertMultipleTabRequest> requests,
+            AtomicInteger clientIndexSequence
+    ) {
+        List<IndexedRequest> indexedRequests = new ArrayList<>(requests.size());
+
+        for (InsertMultipleTabRequest request : requests) {
+            int clientIndex = clientIndexSequence.getAndIncrement();
+            List<IndexedRequest> children = indexInPreOrder(request.children(), clientIndexSequence);
+
+            indexedRequests.add(new IndexedRequest(clientIndex, request, children));
+        }
+
+        return indexedRequests;
+    }
+
+    private List<PendingTab> createPendingTabs(
+            Long groupId,
+            Long writerId,
+            Tab parentTab,
+            TabPosition firstPosition,
+            List<IndexedRequest> indexedRequests
+    ) {
+        List<PendingTab> pendingTabs = new ArrayList<>(indexedRequests.size());
+        TabPosition currentPosition = firstPosition;
+
+        for (IndexedRequest indexedRequest : indexedRequests) {
+            Tab tab = createTab(groupId, writerId, indexedRequest.request(), parentTab, currentPosition);
+
+            pendingTabs.add(new PendingTab(indexedRequest, tab));
+            currentPosition = currentPosition.next();
         }
 
-        return mapToResponse(savedTab, currentDepth, childResponses);
+        return pendingTabs;
     }
 
-    private Tab saveTab(
+    private Tab createTab(
             Long groupId,
             Long writerId,
             InsertMultipleTabRequest request,
@@ -151,41 +244,12 @@ public class InsertMultipleTabService {
             TabPosition position
     ) {
         if (parentTab == null) {
-            return saveRootTab(groupId, writerId, request, position);
+            return TabBuilder.createRoot(groupId, writerId, request.title(), request.url(), position)
+                             .build();
         }
-        return saveChildTab(parentTab, request, position);
-    }
-
-    private Tab saveRootTab(Long groupId, Long writerId, InsertMultipleTabRequest request, TabPosition position) {
-        Tab rootTab = TabBuilder.createRoot(
-                groupId,
-                writerId,
-                request.title(),
-                request.url(),
-                position
-        ).build();
-        return tabRepository.saveRoot(rootTab);
-    }
-
-    private Tab saveChildTab(Tab parentTab, InsertMultipleTabRequest request, TabPosition position) {
-        Tab childTab = TabBuilder.createChild(
-                parentTab,
-                request.title(),
-                request.url(),
-                position
-        ).build();
-        return tabRepository.saveChild(childTab);
-    }
-
-    private InsertMultipleTabResponse mapToResponse(Tab tab, int depth, List<InsertMultipleTabResponse> childResponses) {
-        return new InsertMultipleTabResponse(
-                tab.id().getValue(),
-                tab.getTitle(),
-                tab.getUrl(),
-                depth,
-                tab.position().getValue(),
-                childResponses
-        );
+
+        return TabBuilder.createChild(parentTab, request.title(), request.url(), position)
+                         .build();
     }
 
     private int calculateMaxDepth(List<InsertMultipleTabRequest> requests) {
@@ -208,10 +272,26 @@ public class InsertMultipleTabService {
         return maxChildDepth + 1;
     }
 
+    private record IndexedRequest(
+            int clientIndex,
+            InsertMultipleTabRequest request,
+            List<IndexedRequest> children
+    ) {
+    }
+
+    private record PendingTab(IndexedRequest indexedRequest, Tab tab) {
+    }
+
     public static class BulkTabInsertForbiddenException extends IllegalArgumentException {
 
         public BulkTabInsertForbiddenException() {
             super("탭 작성자가 아닙니다.");
         }
     }
+
+    private void publishGroupChanged(TabGroupId tabGroupId) {
+        long version = tabGroupRepository.findVersion(tabGroupId.getValue());
+
+        eventPublisher.publishEvent(new TabGroupChangedEvent(tabGroupId, version));
+    }
 }
@@ -0,0 +1,67 @@
+package com.management.tab.application.tab;
+
+import com.management.tab.application.tab.dto.response.TabChangeSet;
+import com.management.tab.config.properties.TabChangeLogProperties;
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.repository.TabChangeRepository;
+import com.management.tab.domain.repository.TabGroupRepository;
+import com.management.tab.domain.repository.TabRepository;
+import com.management.tab.domain.tab.TabChange;
+import com.management.tab.domain.tab.TabNode;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class TabChangeService {
+
+    private final TabChangeRepository tabChangeRepository;
+    private final TabGroupRepository tabGroupRepository;
+    private final TabRepository tabRepository;
+    private final TabChangeLogProperties tabChangeLogProperties;
+    private final Clock clock;
+
+    @Transactional(readOnly = true)
+    public TabChangeSet getChangesSince(Long groupId, long sinceVersion) {
+        TabGroupId tabGroupId = TabGroupId.create(groupId);
+        long currentVersion = tabGroupRepository.findVersion(groupId);
+        long compactedVersion = tabChangeRepository.findCompactedVersion(tabGroupId);
+
+        if (sinceVersion < compactedVersion || sinceVersion > currentVersion) {
+            return snapshot(tabGroupId, currentVersion);
+        }
+
+        List<TabChange> changes = tabChangeRepository.findAllBetween(tabGroupId, sinceVersion, currentVersion);
+
+        if (sinceVersion < tabChangeRepository.findCompactedVersion(tabGroupId)) {
+            return snapshot(tabGroupId, currentVersion);
+        }
+
+        return TabChangeSet.delta(currentVersion, changes);
+    }
+
+    private TabChangeSet snapshot(TabGroupId tabGroupId, long currentVersion) {
+        List<TabNode> tabs = new ArrayList<>();
+
+        tabRepository.streamPreOrder(tabGroupId, tabs::add);
+        return TabChangeSet.snapshot(currentVersion, tabs);
+    }
+
+    @Transactional
+    @Scheduled(
+            initialDelayString = "${tab.change-log.compaction-interval:1h}",
+            fixedDelayString = "${tab.change-log.compaction-interval:1h}"
+    )
+    public void compact() {
+        LocalDateTime threshold = LocalDateTime.now(clock)
+                                               .minus(tabChangeLogProperties.retention());
+
+        tabChangeRepository.compactBefore(threshold);
+    }
+}
@@ -2,9 +2,13 @@ package com.management.tab.application.tab;
 
 import com.management.tab.domain.content.TabContent;
 import com.management.tab.domain.repository.TabContentRepository;
+import com.management.tab.domain.repository.TabGroupRepository;
+import com.management.tab.domain.repository.TabRepository;
+import com.management.tab.domain.tab.Tab;
 import com.management.tab.domain.tab.vo.TabId;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +17,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class TabContentService {
 
     private final TabContentRepository tabContentRepository;
+    private final TabRepository tabRepository;
+    private final TabGroupRepository tabGroupRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<TabContent> getAllContentsByTabId(TabId tabId) {
         return tabContentRepository.findAllByTabId(tabId);
@@ -26,8 +33,11 @@ public class TabContentService {
     public Long createContent(TabId tabId, String content) {
         TabContent newTabContent = TabContent.create(tabId, content);
 
-        return tabContentRepository.save(newTabContent)
-                                   .getId();
+        Long tabContentId = tabContentRepository.save(newTabContent)
+                                                .getId();
+
+        publishGroupChanged(tabId);
+        return tabContentId;
     }
 
     @Transactional
@@ -36,19 +46,32 @@ public class TabContentService {
         TabContent updatedTabContent = tabContent.updateContent(newContent);
 
         tabContentRepository.update(updatedTabContent);
+        publishGroupChanged(TabId.create(updatedTabContent.getTabId()));
     }
 
     @Transactional
     public void delete(Long contentId) {
+        TabContent tabContent = tabContentRepository.findById(contentId);
+
         tabContentRepository.delete(contentId);
+        publishGroupChanged(TabId.create(tabContent.getTabId()));
     }
 
     @Transactional
     public void deleteAllByTabId(TabId tabId) {
         tabContentRepository.deleteAllByTabId(tabId);
+        publishGroupChanged(tabId);
     }
 
     public int countContents(TabId tabId) {
         return tabContentRepository.countByTabId(tabId);
     }
+
+    private void publishGroupChanged(TabId tabId) {
+        Tab tab = tabRepository.findTab(tabId.getValue());
+
+        long version = tabGroupRepository.findVersion(tab.getTabGroupId());
+
+        eventPublisher.publishEvent(new TabGroupChangedEvent(tab.tabGroupId(), version));
+    }
 }
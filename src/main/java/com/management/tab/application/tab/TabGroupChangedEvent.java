@@ -0,0 +1,6 @@
+package com.management.tab.application.tab;
+
+import com.management.tab.domain.group.vo.TabGroupId;
+
+public record TabGroupChangedEvent(TabGroupId tabGroupId, long version) {
+}
@@ -1,7 +1,11 @@
 package com.management.tab.application.tab;
 
+import com.management.tab.application.tab.dto.response.TabGroupPage;
+import com.management.tab.application.tab.dto.response.TabGroupSummaryPage;
 import com.management.tab.domain.group.TabGroup;
+import com.management.tab.domain.group.TabGroupSummary;
 import com.management.tab.domain.repository.TabGroupRepository;
+import com.management.tab.domain.tab.vo.TabId;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -11,14 +15,37 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TabGroupService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TabGroupRepository tabGroupRepository;
 
-    public List<TabGroup> getAllGroups() {
-        return tabGroupRepository.findAll();
+    public TabGroupPage getAllGroups(long afterId, int size) {
+        int pageSize = validatePageSize(size);
+        List<TabGroup> tabGroups = tabGroupRepository.findAll(afterId, pageSize + 1);
+
+        return TabGroupPage.of(tabGroups, pageSize);
+    }
+
+    public TabGroupPage getAllWriterGroups(Long writerId, long afterId, int size) {
+        int pageSize = validatePageSize(size);
+        List<TabGroup> tabGroups = tabGroupRepository.findAllByWriterId(writerId, afterId, pageSize + 1);
+
+        return TabGroupPage.of(tabGroups, pageSize);
+    }
+
+    public TabGroupSummaryPage getGroupSummaries(long afterId, int size) {
+        int pageSize = validatePageSize(size);
+        List<TabGroupSummary> summaries = tabGroupRepository.findSummaries(afterId, pageSize + 1);
+
+        return TabGroupSummaryPage.of(summaries, pageSize);
     }
 
-    public List<TabGroup> getAllWriterGroups(Long writerId) {
-        return tabGroupRepository.findAllByWriterId(writerId);
+    private int validatePageSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
     public TabGroup getGroup(Long id) {
@@ -61,6 +88,14 @@ public class TabGroupService {
         return tabGroupRepository.countTabs(id);
     }
 
+    public long getVersion(Long id) {
+        return tabGroupRepository.findVersion(id);
+    }
+
+    public long getVersionByTabId(TabId tabId) {
+        return tabGroupRepository.findVersionByTabId(tabId.getValue());
+    }
+
     public static class TabGroupForbiddenException extends IllegalArgumentException {
 
         public TabGroupForbiddenException() {
@@ -0,0 +1,273 @@
+package com.management.tab.application.tab;
+
+import com.management.tab.application.tab.dto.request.ImportedTab;
+import com.management.tab.application.tab.dto.response.TabImportProgress;
+import com.management.tab.config.properties.TabImportProperties;
+import com.management.tab.domain.group.TabGroup;
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.repository.TabGroupRepository;
+import com.management.tab.domain.repository.TabIdAllocator;
+import com.management.tab.domain.repository.TabRepository;
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabBuilder;
+import com.management.tab.domain.tab.TabTree;
+import com.management.tab.domain.tab.vo.TabId;
+import com.management.tab.domain.tab.vo.TabPosition;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+public class TabImportService {
+
+    private final TabRepository tabRepository;
+    private final TabGroupRepository tabGroupRepository;
+    private final TabPositionRebalancer tabPositionRebalancer;
+    private final Optional<TabIdAllocator> tabIdAllocator;
+    private final TransactionTemplate transactionTemplate;
+    private final TabImportProperties tabImportProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ImportTarget prepareImport(Long groupId, Long parentTabId, Long writerId) {
+        TabGroup tabGroup = tabGroupRepository.findById(groupId);
+
+        if (tabGroup.isNotWriter(writerId)) {
+            throw new TabImportForbiddenException();
+        }
+
+        TabGroupId tabGroupId = TabGroupId.create(groupId);
+        TabTree tabTree = tabRepository.findTabTree(tabGroupId);
+
+        if (parentTabId == null) {
+            TabPosition firstPosition = transactionTemplate.execute(
+                    status -> tabPositionRebalancer.nextRootPosition(tabTree, tabGroupId, 1)
+            );
+
+            return new ImportTarget(groupId, writerId, null, firstPosition, 0, tabTree);
+        }
+
+        Tab parentTab = tabRepository.findTab(parentTabId);
+        TabId parentId = TabId.create(parentTabId);
+
+        if (parentTab.isNotWriterId(writerId)) {
+            throw new TabImportForbiddenException();
+        }
+
+        tabTree.validateAddChildDepth(parentId);
+
+        TabPosition firstPosition = transactionTemplate.execute(
+                status -> tabPositionRebalancer.nextChildPosition(tabTree, tabGroupId, parentId, 1)
+        );
+
+        return new ImportTarget(
+                groupId,
+                writerId,
+                parentTab,
+                firstPosition,
+                tabTree.findDepth(parentId) + 1,
+                tabTree
+        );
+    }
+
+    public TabImportProgress importTabs(
+            ImportTarget target,
+            Iterator<ImportedTab> importedTabs,
+            Consumer<TabImportProgress> progressListener
+    ) {
+        ImportNode importRoot = ImportNode.root(target.parentTab(), target.firstPosition());
+        Deque<ImportNode> openNodes = new ArrayDeque<>();
+        List<ImportNode> chunk = new ArrayList<>(tabImportProperties.chunkSize());
+        long importedCount = 0L;
+
+        try {
+            while (importedTabs.hasNext()) {
+                ImportedTab importedTab = importedTabs.next();
+
+                target.validateDepth(importedTab.depth());
+                closeNodesUntil(openNodes, importedTab.depth());
+
+                ImportNode parent = openNodes.isEmpty() ? importRoot : openNodes.peek();
+                ImportNode node = parent.addChild(importedTab);
+
+                openNodes.push(node);
+                chunk.add(node);
+
+                if (chunk.size() == tabImportProperties.chunkSize()) {
+                    importedCount += saveChunk(target, chunk);
+                    chunk.clear();
+                    progressListener.accept(TabImportProgress.inProgress(importedCount));
+                }
+            }
+
+            importedCount += saveChunk(target, chunk);
+        } catch (IllegalArgumentException e) {
+            TabImportProgress failed = TabImportProgress.failed(importedCount, e.getMessage());
+
+            progressListener.accept(failed);
+            return failed;
+        }
+
+        TabImportProgress completed = TabImportProgress.completed(importedCount);
+
+        progressListener.accept(completed);
+        return completed;
+    }
+
+    private void closeNodesUntil(Deque<ImportNode> openNodes, int depth) {
+        if (depth > openNodes.size()) {
+            throw new IllegalArgumentException("부모 탭 없이 깊이 " + depth + "의 탭을 가져올 수 없습니다.");
+        }
+
+        while (openNodes.size() > depth) {
+            openNodes.pop();
+        }
+    }
+
+    private int saveChunk(ImportTarget target, List<ImportNode> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            tabIdAllocator.ifPresentOrElse(
+                    allocator -> saveWithAllocatedIds(allocator, target, chunk),
+                    () -> saveLevelByLevel(target, chunk)
+            );
+
+            publishGroupChanged(TabGroupId.create(target.groupId()));
+        });
+        return chunk.size();
+    }
+
+    private void publishGroupChanged(TabGroupId tabGroupId) {
+        long version = tabGroupRepository.findVersion(tabGroupId.getValue());
+
+        eventPublisher.publishEvent(new TabGroupChangedEvent(tabGroupId, version));
+    }
+
+    private void saveWithAllocatedIds(TabIdAllocator allocator, ImportTarget target, List<ImportNode> chunk) {
+        Iterator<TabId> allocatedIds = allocator.allocate(chunk.size()).iterator();
+        List<Tab> tabs = new ArrayList<>(chunk.size());
+
+        for (ImportNode node : chunk) {
+            node.tab = createTab(target, node).updateAssignedId(allocatedIds.next().getValue());
+            tabs.add(node.tab);
+        }
+
+        tabRepository.saveAll(tabs);
+    }
+
+    private void saveLevelByLevel(ImportTarget target, List<ImportNode> chunk) {
+        Map<Integer, List<ImportNode>> levels = new TreeMap<>();
+
+        for (ImportNode node : chunk) {
+            levels.computeIfAbsent(node.depth, depth -> new ArrayList<>())
+                  .add(node);
+        }
+
+        for (List<ImportNode> level : levels.values()) {
+            List<Tab> savedTabs = tabRepository.saveAll(level.stream()
+                                                              .map(node -> createTab(target, node))
+                                                              .toList());
+
+            for (int i = 0; i < level.size(); i++) {
+                level.get(i).tab = savedTabs.get(i);
+            }
+        }
+    }
+
+    private Tab createTab(ImportTarget target, ImportNode node) {
+        Tab parentTab = node.parent.tab;
+
+        if (parentTab == null) {
+            return createRootTab(target, node).build();
+        }
+        if (node.url == null) {
+            return TabBuilder.createChildFolder(parentTab, node.title, node.position)
+                             .build();
+        }
+
+        return TabBuilder.createChild(parentTab, node.title, node.url, node.position)
+                         .build();
+    }
+
+    private TabBuilder createRootTab(ImportTarget target, ImportNode node) {
+        if (node.url == null) {
+            return TabBuilder.createRootFolder(target.groupId(), target.writerId(), node.title, node.position);
+        }
+
+        return TabBuilder.createRoot(target.groupId(), target.writerId(), node.title, node.url, node.position);
+    }
+
+    public record ImportTarget(
+            Long groupId,
+            Long writerId,
+            Tab parentTab,
+            TabPosition firstPosition,
+            int baseDepth,
+            TabTree tabTree
+    ) {
+
+        private void validateDepth(int depth) {
+            tabTree.validateCreateDepth(depth + 1, baseDepth);
+        }
+    }
+
+    private static final class ImportNode {
+
+        private final ImportNode parent;
+        private final int depth;
+        private final String title;
+        private final String url;
+        private final TabPosition position;
+        private TabPosition nextChildPosition = TabPosition.defaultPosition();
+        private Tab tab;
+
+        private ImportNode(ImportNode parent, int depth, String title, String url, TabPosition position) {
+            this.parent = parent;
+            this.depth = depth;
+            this.title = title;
+            this.url = url;
+            this.position = position;
+        }
+
+        private static ImportNode root(Tab parentTab, TabPosition firstPosition) {
+            ImportNode root = new ImportNode(null, -1, null, null, null);
+
+            root.tab = parentTab;
+            root.nextChildPosition = firstPosition;
+            return root;
+        }
+
+        private ImportNode addChild(ImportedTab importedTab) {
+            ImportNode child = new ImportNode(
+                    this,
+                    importedTab.depth(),
+                    importedTab.title(),
+                    importedTab.url(),
+                    nextChildPosition
+            );
+
+            nextChildPosition = nextChildPosition.next();
+            return child;
+        }
+    }
+
+    public static class TabImportForbiddenException extends IllegalArgumentException {
+
+        public TabImportForbiddenException() {
+            super("탭 그룹 작성자가 아닙니다.");
+        }
+    }
+}
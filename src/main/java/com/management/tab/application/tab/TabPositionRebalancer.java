@@ -0,0 +1,100 @@
+package com.management.tab.application.tab;
+
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.repository.TabGroupRepository;
+import com.management.tab.domain.repository.TabRepository;
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabTree;
+import com.management.tab.domain.tab.vo.TabId;
+import com.management.tab.domain.tab.vo.TabPosition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class TabPositionRebalancer {
+
+    private final TabRepository tabRepository;
+    private final TabGroupRepository tabGroupRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Async
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void rebalance(TabPositionsExhaustedEvent event) {
+        tabGroupRepository.lockVersion(event.tabGroupId().getValue());
+        renumber(findSiblings(event));
+        publishGroupChanged(event.tabGroupId());
+    }
+
+    public void renumber(List<Tab> orderedSiblings) {
+        List<Tab> renumberedSiblings = new ArrayList<>(orderedSiblings.size());
+
+        for (int i = 0; i < orderedSiblings.size(); i++) {
+            Tab sibling = orderedSiblings.get(i);
+            TabPosition spacedPosition = TabPosition.spaced(i);
+
+            if (sibling.position().equals(spacedPosition)) {
+                continue;
+            }
+
+            renumberedSiblings.add(sibling.updatePosition(spacedPosition.getValue()));
+        }
+
+        if (!renumberedSiblings.isEmpty()) {
+            tabRepository.updatePositions(renumberedSiblings);
+        }
+    }
+
+    public TabPosition nextRootPosition(TabTree tabTree, TabGroupId tabGroupId, int count) {
+        if (tabTree.hasRootPositionsFor(count)) {
+            return tabTree.getNextRootPosition();
+        }
+
+        return renumberRootsForAppend(tabGroupId);
+    }
+
+    public TabPosition nextChildPosition(TabTree tabTree, TabGroupId tabGroupId, TabId parentId, int count) {
+        if (tabTree.hasChildPositionsFor(parentId, count)) {
+            return tabTree.getNextChildPosition(parentId);
+        }
+
+        return renumberForAppend(tabGroupId, () -> tabRepository.findSiblings(parentId));
+    }
+
+    public TabPosition renumberRootsForAppend(TabGroupId tabGroupId) {
+        return renumberForAppend(tabGroupId, () -> tabRepository.findRootSiblings(tabGroupId));
+    }
+
+    private TabPosition renumberForAppend(TabGroupId tabGroupId, Supplier<List<Tab>> siblingsFinder) {
+        tabGroupRepository.lockVersion(tabGroupId.getValue());
+
+        List<Tab> orderedSiblings = siblingsFinder.get();
+
+        renumber(orderedSiblings);
+        return TabPosition.spaced(orderedSiblings.size());
+    }
+
+    private List<Tab> findSiblings(TabPositionsExhaustedEvent event) {
+        if (event.parentId().isRoot()) {
+            return tabRepository.findRootSiblings(event.tabGroupId());
+        }
+
+        return tabRepository.findSiblings(event.parentId());
+    }
+
+    private void publishGroupChanged(TabGroupId tabGroupId) {
+        long version = tabGroupRepository.findVersion(tabGroupId.getValue());
+
+        eventPublisher.publishEvent(new TabGroupChangedEvent(tabGroupId, version));
+    }
+}
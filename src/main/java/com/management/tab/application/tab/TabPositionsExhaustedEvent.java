@@ -0,0 +1,7 @@
+package com.management.tab.application.tab;
+
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.tab.vo.TabId;
+
+public record TabPositionsExhaustedEvent(TabGroupId tabGroupId, TabId parentId) {
+}
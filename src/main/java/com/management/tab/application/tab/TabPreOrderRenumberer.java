@@ -0,0 +1,38 @@
+package com.management.tab.application.tab;
+
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.repository.TabRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+public class TabPreOrderRenumberer {
+
+    private final TabRepository tabRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void renumber(TabGroupChangedEvent event) {
+        renumber(event.tabGroupId());
+    }
+
+    @Scheduled(
+            initialDelayString = "${tab.pre-order.renumber-interval:1m}",
+            fixedDelayString = "${tab.pre-order.renumber-interval:1m}"
+    )
+    public void renumberStaleGroups() {
+        tabRepository.findStalePreOrderGroupIds()
+                     .forEach(this::renumber);
+    }
+
+    public void renumber(TabGroupId tabGroupId) {
+        transactionTemplate.executeWithoutResult(status -> tabRepository.renumberPreOrder(tabGroupId));
+    }
+}
@@ -1,18 +1,27 @@
 package com.management.tab.application.tab;
 
+import com.management.tab.application.tab.dto.response.TabOutlinePage;
+import com.management.tab.application.tab.dto.response.TabTreeWindow;
 import com.management.tab.domain.group.TabGroup;
 import com.management.tab.domain.group.vo.TabGroupId;
 import com.management.tab.domain.repository.TabGroupRepository;
 import com.management.tab.domain.repository.TabRepository;
+import com.management.tab.domain.repository.TabRepository.TabNotFoundException;
 import com.management.tab.domain.tab.Tab;
 import com.management.tab.domain.tab.TabBuilder;
+import com.management.tab.domain.tab.TabCursor;
+import com.management.tab.domain.tab.TabNode;
+import com.management.tab.domain.tab.TabOutline;
 import com.management.tab.domain.tab.TabTree;
 import com.management.tab.domain.tab.vo.TabId;
 import com.management.tab.domain.tab.vo.TabPosition;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,8 +29,13 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TabService {
 
+    private static final int MAX_SUBTREE_DEPTH = 10;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final TabRepository tabRepository;
     private final TabGroupRepository tabGroupRepository;
+    private final TabPositionRebalancer tabPositionRebalancer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TabId createRootTab(Long groupId, Long writerId, String title, String url) {
@@ -32,11 +46,17 @@ public class TabService {
         }
 
         TabPosition lastRootPosition = tabRepository.findLastRootPosition(groupId);
-        Tab rootTab = TabBuilder.createRoot(groupId, writerId, title, url, lastRootPosition.next())
+        TabPosition nextRootPosition = lastRootPosition.hasRoomFor(1)
+                ? lastRootPosition.next()
+                : tabPositionRebalancer.renumberRootsForAppend(TabGroupId.create(groupId));
+        Tab rootTab = TabBuilder.createRoot(groupId, writerId, title, url, nextRootPosition)
                                 .build();
 
-        return tabRepository.saveRoot(rootTab)
-                            .id();
+        TabId rootTabId = tabRepository.saveRoot(rootTab)
+                                       .id();
+
+        publishGroupChanged(rootTab.tabGroupId());
+        return rootTabId;
     }
 
     @Transactional
@@ -51,12 +71,20 @@ public class TabService {
 
         tabTree.validateAddChildDepth(parentTab.id());
 
-        TabPosition nextChildPosition = tabTree.getNextChildPosition(parentTab.id());
+        TabPosition nextChildPosition = tabPositionRebalancer.nextChildPosition(
+                tabTree,
+                parentTab.tabGroupId(),
+                parentTab.id(),
+                1
+        );
         Tab childTab = TabBuilder.createChild(parentTab, title, url, nextChildPosition)
                                  .build();
 
-        return tabRepository.saveChild(childTab)
-                            .id();
+        TabId childTabId = tabRepository.saveChild(childTab)
+                                        .id();
+
+        publishGroupChanged(childTab.tabGroupId());
+        return childTabId;
     }
 
     @Transactional
@@ -68,6 +96,7 @@ public class TabService {
         }
 
         tabRepository.deleteTab(tab);
+        publishGroupChanged(tab.tabGroupId());
     }
 
     @Transactional
@@ -79,6 +108,7 @@ public class TabService {
         }
 
         tabRepository.deleteTabWithSubtree(tab);
+        publishGroupChanged(tab.tabGroupId());
     }
 
     @Transactional
@@ -90,10 +120,11 @@ public class TabService {
         }
 
         TabTree tabTree = tabRepository.findTabTree(tab.tabGroupId());
-        TabPosition nextRootPosition = tabTree.getNextRootPosition();
+        TabPosition nextRootPosition = tabPositionRebalancer.nextRootPosition(tabTree, tab.tabGroupId(), 1);
         Tab movedTab = tab.moveToRoot(nextRootPosition);
 
         tabRepository.updateMovedRoot(movedTab, tab.parentId());
+        publishGroupChanged(movedTab.tabGroupId());
     }
 
     @Transactional
@@ -105,10 +136,11 @@ public class TabService {
         }
 
         TabTree tabTree = tabRepository.findTabTree(tab.tabGroupId());
-        TabPosition nextRootPosition = tabTree.getNextRootPosition();
+        TabPosition nextRootPosition = tabPositionRebalancer.nextRootPosition(tabTree, tab.tabGroupId(), 1);
         Tab movedTab = tab.moveToRoot(nextRootPosition);
 
         tabRepository.updateMovedRootWithSubtree(movedTab);
+        publishGroupChanged(movedTab.tabGroupId());
     }
 
     @Transactional
@@ -124,10 +156,16 @@ public class TabService {
         tabTree.validateMove(tab.id(), TabId.create(newParentId));
         tabTree.validateMoveDepth(TabId.create(newParentId));
 
-        TabPosition nextChildPosition = tabTree.getNextChildPosition(TabId.create(newParentId));
+        TabPosition nextChildPosition = tabPositionRebalancer.nextChildPosition(
+                tabTree,
+                tab.tabGroupId(),
+                TabId.create(newParentId),
+                1
+        );
         Tab movedTab = tab.moveTo(TabId.create(newParentId), nextChildPosition);
 
         tabRepository.updateMoved(movedTab, tab.parentId());
+        publishGroupChanged(movedTab.tabGroupId());
     }
 
     @Transactional
@@ -143,10 +181,16 @@ public class TabService {
         tabTree.validateMove(tab.id(), TabId.create(newParentId));
         tabTree.validateMoveDepthWithSubtree(tab.id(), TabId.create(newParentId));
 
-        TabPosition nextChildPosition = tabTree.getNextChildPosition(TabId.create(newParentId));
+        TabPosition nextChildPosition = tabPositionRebalancer.nextChildPosition(
+                tabTree,
+                tab.tabGroupId(),
+                TabId.create(newParentId),
+                1
+        );
         Tab movedTab = tab.moveTo(TabId.create(newParentId), nextChildPosition);
 
         tabRepository.updateMovedTabWithSubtree(movedTab);
+        publishGroupChanged(movedTab.tabGroupId());
     }
 
     @Transactional
@@ -162,21 +206,58 @@ public class TabService {
             throw new TabForbiddenException();
         }
 
+        tabGroupRepository.lockVersion(movingTab.getTabGroupId());
+
         List<Tab> siblings = findMovingSiblings(movingParentId, movingTab);
         int targetIndex = findTabIndexInDomain(siblings, TabId.create(targetTabId));
         int insertIndex = after ? targetIndex + 1 : targetIndex;
-        List<Tab> reorderedSiblings = new ArrayList<>(siblings);
+        Optional<TabPosition> sparsePosition = findSparsePosition(siblings, insertIndex);
+
+        if (sparsePosition.isEmpty()) {
+            List<Tab> reorderedSiblings = new ArrayList<>(siblings);
+
+            reorderedSiblings.add(insertIndex, movingTab);
+            tabPositionRebalancer.renumber(reorderedSiblings);
+            publishGroupChanged(movingTab.tabGroupId());
+            return;
+        }
 
-        reorderedSiblings.add(insertIndex, movingTab);
+        TabPosition newPosition = sparsePosition.get();
 
-        for (int i = 0; i < reorderedSiblings.size(); i++) {
-            Tab sibling = reorderedSiblings.get(i);
-            Tab updatedTab = sibling.updatePosition(i);
+        tabRepository.updatePosition(movingTab.updatePosition(newPosition.getValue()));
+        publishGroupChanged(movingTab.tabGroupId());
 
-            tabRepository.updatePosition(updatedTab.id(), updatedTab.position());
+        if (isGapExhausted(siblings, insertIndex, newPosition)) {
+            eventPublisher.publishEvent(new TabPositionsExhaustedEvent(movingTab.tabGroupId(), movingParentId));
         }
     }
 
+    private Optional<TabPosition> findSparsePosition(List<Tab> siblings, int insertIndex) {
+        if (insertIndex == siblings.size()) {
+            TabPosition lastPosition = siblings.get(insertIndex - 1).position();
+
+            return lastPosition.hasRoomFor(1) ? Optional.of(lastPosition.next()) : Optional.empty();
+        }
+
+        TabPosition upper = siblings.get(insertIndex).position();
+
+        if (insertIndex == 0) {
+            return upper.before();
+        }
+
+        return siblings.get(insertIndex - 1)
+                       .position()
+                       .between(upper);
+    }
+
+    private boolean isGapExhausted(List<Tab> siblings, int insertIndex, TabPosition newPosition) {
+        if (insertIndex > 0 && siblings.get(insertIndex - 1).position().isAdjacentTo(newPosition)) {
+            return true;
+        }
+
+        return insertIndex < siblings.size() && siblings.get(insertIndex).position().isAdjacentTo(newPosition);
+    }
+
     private void validateReorderTab(TabId movingParentId, TabId targetParentId) {
         boolean sameLevel = (movingParentId.isRoot() && targetParentId.isRoot())
                 || (!movingParentId.isRoot() && movingParentId.equals(targetParentId));
@@ -188,7 +269,7 @@ public class TabService {
 
     private List<Tab> findMovingSiblings(TabId movingParentId, Tab movingTab) {
         if (movingParentId.isRoot()) {
-           return tabRepository.findRootSiblings()
+           return tabRepository.findRootSiblings(movingTab.tabGroupId())
                                .stream()
                                .filter(tab -> !tab.isEqualId(movingTab))
                                .toList();
@@ -218,12 +299,87 @@ public class TabService {
         Tab updatedTab = tab.updateInfo(title, url);
 
         tabRepository.updateTabInfo(updatedTab);
+        publishGroupChanged(updatedTab.tabGroupId());
+    }
+
+    public List<TabOutline> getSubtree(Long tabId, int depth, int size) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("조회 깊이는 0 이상이어야 합니다.");
+        }
+
+        List<TabOutline> subtree = tabRepository.findSubtree(
+                TabId.create(tabId),
+                Math.min(depth, MAX_SUBTREE_DEPTH),
+                validatePageSize(size),
+                MAX_PAGE_SIZE
+        );
+
+        if (subtree.isEmpty()) {
+            throw new TabNotFoundException();
+        }
+
+        return subtree;
+    }
+
+    public TabOutlinePage getChildren(Long parentTabId, TabCursor after, int size) {
+        Tab parentTab = tabRepository.findTab(parentTabId);
+        int pageSize = validatePageSize(size);
+        List<TabOutline> children = tabRepository.findChildren(
+                parentTab.tabGroupId(),
+                parentTab.id(),
+                after,
+                pageSize + 1
+        );
+
+        return TabOutlinePage.of(children, pageSize);
+    }
+
+    public TabOutlinePage getRootTabs(Long groupId, TabCursor after, int size) {
+        int pageSize = validatePageSize(size);
+        List<TabOutline> rootTabs = tabRepository.findChildren(
+                TabGroupId.create(groupId),
+                TabId.EMPTY_TAB_ID,
+                after,
+                pageSize + 1
+        );
+
+        return TabOutlinePage.of(rootTabs, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public TabTreeWindow getPreOrderWindow(Long groupId, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("조회 시작 위치는 0 이상이어야 합니다.");
+        }
+
+        TabGroupId tabGroupId = TabGroupId.create(groupId);
+        List<TabNode> rows = tabRepository.findPreOrderWindow(tabGroupId, offset, validatePageSize(limit));
+
+        return new TabTreeWindow(offset, tabRepository.countPreOrdered(tabGroupId), rows);
+    }
+
+    private int validatePageSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
     public TabTree getTabTree(Long groupId) {
         return tabRepository.findTabTree(TabGroupId.create(groupId));
     }
 
+    public void streamTabsInPreOrder(Long groupId, Consumer<TabNode> tabNodeConsumer) {
+        tabRepository.streamPreOrder(TabGroupId.create(groupId), tabNodeConsumer);
+    }
+
+    private void publishGroupChanged(TabGroupId tabGroupId) {
+        long version = tabGroupRepository.findVersion(tabGroupId.getValue());
+
+        eventPublisher.publishEvent(new TabGroupChangedEvent(tabGroupId, version));
+    }
+
     public static class TabForbiddenException extends IllegalArgumentException {
 
         public TabForbiddenException() {
@@ -0,0 +1,4 @@
+package com.management.tab.application.tab.dto.request;
+
+public record ImportedTab(int depth, String title, String url) {
+}
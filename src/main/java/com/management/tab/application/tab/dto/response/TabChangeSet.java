@@ -0,0 +1,16 @@
+package com.management.tab.application.tab.dto.response;
+
+import com.management.tab.domain.tab.TabChange;
+import com.management.tab.domain.tab.TabNode;
+import java.util.List;
+
+public record TabChangeSet(long version, boolean snapshot, List<TabChange> changes, List<TabNode> tabs) {
+
+    public static TabChangeSet delta(long version, List<TabChange> changes) {
+        return new TabChangeSet(version, false, changes, List.of());
+    }
+
+    public static TabChangeSet snapshot(long version, List<TabNode> tabs) {
+        return new TabChangeSet(version, true, List.of(), tabs);
+    }
+}
@@ -0,0 +1,21 @@
+package com.management.tab.application.tab.dto.response;
+
+import com.management.tab.domain.group.TabGroup;
+import java.util.List;
+
+public record TabGroupPage(List<TabGroup> groups, Long nextCursor) {
+
+    public static TabGroupPage of(List<TabGroup> fetchedGroups, int size) {
+        if (fetchedGroups.size() <= size) {
+            return new TabGroupPage(fetchedGroups, null);
+        }
+
+        List<TabGroup> groups = fetchedGroups.subList(0, size);
+
+        return new TabGroupPage(groups, groups.get(size - 1).getId());
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.management.tab.application.tab.dto.response;
+
+import com.management.tab.domain.group.TabGroupSummary;
+import java.util.List;
+
+public record TabGroupSummaryPage(List<TabGroupSummary> summaries, Long nextCursor) {
+
+    public static TabGroupSummaryPage of(List<TabGroupSummary> fetchedSummaries, int size) {
+        if (fetchedSummaries.size() <= size) {
+            return new TabGroupSummaryPage(fetchedSummaries, null);
+        }
+
+        List<TabGroupSummary> summaries = fetchedSummaries.subList(0, size);
+
+        return new TabGroupSummaryPage(summaries, summaries.get(size - 1).tabGroup().getId());
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
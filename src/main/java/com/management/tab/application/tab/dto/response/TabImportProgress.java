@@ -0,0 +1,22 @@
+package com.management.tab.application.tab.dto.response;
+
+public record TabImportProgress(long importedCount, Status status, String message) {
+
+    public static TabImportProgress inProgress(long importedCount) {
+        return new TabImportProgress(importedCount, Status.IN_PROGRESS, null);
+    }
+
+    public static TabImportProgress completed(long importedCount) {
+        return new TabImportProgress(importedCount, Status.COMPLETED, null);
+    }
+
+    public static TabImportProgress failed(long importedCount, String message) {
+        return new TabImportProgress(importedCount, Status.FAILED, message);
+    }
+
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED,
+        FAILED
+    }
+}
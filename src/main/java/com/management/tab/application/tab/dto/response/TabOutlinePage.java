@@ -0,0 +1,22 @@
+package com.management.tab.application.tab.dto.response;
+
+import com.management.tab.domain.tab.TabCursor;
+import com.management.tab.domain.tab.TabOutline;
+import java.util.List;
+
+public record TabOutlinePage(List<TabOutline> tabs, TabCursor nextCursor) {
+
+    public static TabOutlinePage of(List<TabOutline> fetchedTabs, int size) {
+        if (fetchedTabs.size() <= size) {
+            return new TabOutlinePage(fetchedTabs, null);
+        }
+
+        List<TabOutline> tabs = fetchedTabs.subList(0, size);
+
+        return new TabOutlinePage(tabs, TabCursor.after(tabs.get(size - 1).tab()));
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.management.tab.application.tab.dto.response;
+
+import com.management.tab.domain.tab.TabNode;
+import java.util.List;
+
+public record TabTreeWindow(int offset, int totalCount, List<TabNode> rows) {
+}
@@ -0,0 +1,39 @@
+package com.management.tab.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.management.tab.config.properties.TabTreeCacheProperties;
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.tab.PersistentTabTree;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(TabTreeCacheProperties.class)
+public class CacheConfig {
+
+    private static final String TAB_TREE_CACHE_NAME = "tabTree";
+
+    private final TabTreeCacheProperties tabTreeCacheProperties;
+
+    @Bean
+    public Cache<TabGroupId, PersistentTabTree> tabTreeCache(MeterRegistry meterRegistry) {
+        Cache<TabGroupId, PersistentTabTree> cache = Caffeine.newBuilder()
+                                                             .maximumWeight(tabTreeCacheProperties.maximumWeight())
+                                                             .weigher(CacheConfig::weighTabTree)
+                                                             .expireAfterAccess(tabTreeCacheProperties.expireAfterAccess())
+                                                             .recordStats()
+                                                             .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, TAB_TREE_CACHE_NAME);
+    }
+
+    private static int weighTabTree(TabGroupId groupId, PersistentTabTree tabTree) {
+        return tabTree.getTotalCount() + 1;
+    }
+}
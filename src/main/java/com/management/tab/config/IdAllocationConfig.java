@@ -0,0 +1,53 @@
+package com.management.tab.config;
+
+import com.management.tab.config.properties.TabIdProperties;
+import com.management.tab.config.properties.TabIdProperties.Strategy;
+import com.management.tab.domain.repository.TabIdAllocator;
+import com.management.tab.persistence.HiLoTabIdAllocator;
+import com.management.tab.persistence.TimeOrderedTabIdAllocator;
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(TabIdProperties.class)
+public class IdAllocationConfig {
+
+    private final TabIdProperties tabIdProperties;
+
+    @Bean
+    @Conditional(PreAllocatingStrategyCondition.class)
+    public TabIdAllocator tabIdAllocator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            Clock clock
+    ) {
+        if (tabIdProperties.strategy() == Strategy.HILO) {
+            return new HiLoTabIdAllocator(jdbcTemplate, transactionManager, tabIdProperties.blockSize());
+        }
+
+        return new TimeOrderedTabIdAllocator(clock, tabIdProperties.nodeId());
+    }
+
+    static class PreAllocatingStrategyCondition implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            Strategy strategy = Binder.get(context.getEnvironment())
+                                      .bind("tab.id.strategy", Strategy.class)
+                                      .orElse(Strategy.IDENTITY);
+
+            return strategy != Strategy.IDENTITY;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.management.tab.config.auth.security.handler.OAuth2AuthenticationFailu
 import com.management.tab.config.auth.security.handler.OAuth2SuccessHandler;
 import com.management.tab.config.properties.TokenProperties;
 import com.management.tab.domain.auth.TokenDecoder;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -43,6 +44,7 @@ public class SecurityConfig {
             .formLogin(AbstractHttpConfigurer::disable)
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authorize -> authorize
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                     .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                     .requestMatchers(HttpMethod.GET, "/*.html").permitAll()
                     .requestMatchers(HttpMethod.GET, "/api/groups/**").permitAll()
@@ -85,7 +87,7 @@ public class SecurityConfig {
 
     @Bean
     public OAuth2AuthenticationFilter oAuth2AuthenticationFilter() {
-        return new OAuth2AuthenticationFilter(oAuth2UserDetailsService());
+        return new OAuth2AuthenticationFilter(oAuth2UserDetailsService(), handlerExceptionResolver);
     }
 
     @Bean
@@ -0,0 +1,12 @@
+package com.management.tab.config;
+
+import com.management.tab.config.properties.TabChangeLogProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(TabChangeLogProperties.class)
+public class TabChangeLogConfig {
+}
@@ -0,0 +1,10 @@
+package com.management.tab.config;
+
+import com.management.tab.config.properties.TabEventProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TabEventProperties.class)
+public class TabEventConfig {
+}
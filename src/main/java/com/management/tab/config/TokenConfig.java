@@ -1,12 +1,24 @@
 package com.management.tab.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.management.tab.config.properties.TokenCacheProperties;
+import com.management.tab.config.properties.TokenProfileProperties;
 import com.management.tab.config.properties.TokenProperties;
 import com.management.tab.domain.auth.TokenDecoder;
 import com.management.tab.domain.auth.TokenEncoder;
+import com.management.tab.infrastructure.jwt.CachingTokenDecoder;
+import com.management.tab.infrastructure.jwt.CachingTokenDecoder.TokenCacheKey;
+import com.management.tab.infrastructure.jwt.DecodedToken;
+import com.management.tab.infrastructure.jwt.JweEnvelope;
+import com.management.tab.infrastructure.jwt.JwsEnvelope;
 import com.management.tab.infrastructure.jwt.JwsSignerFinder;
 import com.management.tab.infrastructure.jwt.JwsVerifierFinder;
 import com.management.tab.infrastructure.jwt.JwtDecoder;
 import com.management.tab.infrastructure.jwt.JwtEncoder;
+import com.management.tab.infrastructure.jwt.JwtEnvelope;
+import com.management.tab.infrastructure.jwt.JwtEnvelopeFinder;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWEDecrypter;
 import com.nimbusds.jose.JWEEncrypter;
@@ -14,10 +26,17 @@ import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.KeyLengthException;
 import com.nimbusds.jose.crypto.AESDecrypter;
 import com.nimbusds.jose.crypto.AESEncrypter;
+import com.nimbusds.jose.crypto.DirectDecrypter;
+import com.nimbusds.jose.crypto.DirectEncrypter;
 import com.nimbusds.jose.crypto.MACSigner;
 import com.nimbusds.jose.crypto.MACVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Base64;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -28,23 +47,87 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @RequiredArgsConstructor
-@EnableConfigurationProperties(TokenProperties.class)
+@EnableConfigurationProperties({TokenProperties.class, TokenCacheProperties.class, TokenProfileProperties.class})
 public class TokenConfig {
 
     private static final String HMAC_SHA_256 = "HmacSHA256";
     private static final String AES = "AES";
+    private static final String SHA_256 = "SHA-256";
+    private static final String TOKEN_CACHE_NAME = "token";
 
     private final Clock clock;
     private final TokenProperties tokenProperties;
+    private final TokenCacheProperties tokenCacheProperties;
+    private final TokenProfileProperties tokenProfileProperties;
 
     @Bean
-    public TokenEncoder tokenEncoder(JWEEncrypter jweEncrypter, JwsSignerFinder jwsSignerFinder) {
-        return new JwtEncoder(jweEncrypter, jwsSignerFinder, tokenProperties);
+    public TokenEncoder tokenEncoder(JwtEnvelopeFinder jwtEnvelopeFinder, JwsSignerFinder jwsSignerFinder) {
+        return new JwtEncoder(jwtEnvelopeFinder, jwsSignerFinder, tokenProperties);
     }
 
     @Bean
-    public TokenDecoder tokenDecoder(JWEDecrypter jweDecrypter, JwsVerifierFinder jwsVerifierFinder) {
-        return new JwtDecoder(clock, jweDecrypter, jwsVerifierFinder, tokenProperties);
+    public TokenDecoder tokenDecoder(
+            JwtEnvelopeFinder jwtEnvelopeFinder,
+            JwsVerifierFinder jwsVerifierFinder,
+            Cache<TokenCacheKey, DecodedToken> tokenCache
+    ) {
+        JwtDecoder jwtDecoder = new JwtDecoder(clock, jwtEnvelopeFinder, jwsVerifierFinder, tokenProperties);
+
+        return new CachingTokenDecoder(clock, jwtDecoder, tokenCache);
+    }
+
+    @Bean
+    public Cache<TokenCacheKey, DecodedToken> tokenCache(MeterRegistry meterRegistry) {
+        Cache<TokenCacheKey, DecodedToken> cache = Caffeine.newBuilder()
+                                                           .maximumSize(tokenCacheProperties.maximumSize())
+                                                           .expireAfter(Expiry.creating(this::calculateTokenTtl))
+                                                           .recordStats()
+                                                           .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, TOKEN_CACHE_NAME);
+    }
+
+    private Duration calculateTokenTtl(TokenCacheKey key, DecodedToken decodedToken) {
+        Duration remaining = Duration.between(clock.instant(), decodedToken.expiresAt());
+
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+
+        return remaining.compareTo(tokenCacheProperties.maximumTtl()) < 0 ? remaining : tokenCacheProperties.maximumTtl();
+    }
+
+    @Bean
+    public JwtEnvelopeFinder jwtEnvelopeFinder(
+            JWEEncrypter jweEncrypter,
+            JWEDecrypter jweDecrypter
+    ) throws KeyLengthException {
+        JwtEnvelope nestedEnvelope = JweEnvelope.keyWrapped(jweEncrypter, jweDecrypter);
+
+        return new JwtEnvelopeFinder(createAccessTokenEnvelope(nestedEnvelope), nestedEnvelope);
+    }
+
+    private JwtEnvelope createAccessTokenEnvelope(JwtEnvelope nestedEnvelope) throws KeyLengthException {
+        return switch (tokenProfileProperties.access()) {
+            case NESTED -> nestedEnvelope;
+            case DIRECT -> createDirectEnvelope();
+            case SIGNED -> new JwsEnvelope();
+        };
+    }
+
+    private JwtEnvelope createDirectEnvelope() throws KeyLengthException {
+        SecretKey directSecretKey = new SecretKeySpec(deriveDirectKey(), AES);
+
+        return JweEnvelope.direct(new DirectEncrypter(directSecretKey), new DirectDecrypter(directSecretKey));
+    }
+
+    private byte[] deriveDirectKey() {
+        try {
+            return MessageDigest.getInstance(SHA_256)
+                                .digest(decodeKey());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("토큰 암호화 키를 생성할 수 없는 환경입니다.", e);
+        }
     }
 
     @Bean
@@ -1,23 +1,32 @@
 package com.management.tab.config.auth;
 
 import com.management.tab.domain.user.vo.UserId;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.function.Supplier;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
 
 @Component
 public class AuthStore {
 
-    private final ThreadLocal<UserId> threadLocalAuthenticationStore = new ThreadLocal<>();
+    private static final String USER_ID_ATTRIBUTE = AuthStore.class.getName() + ".USER_ID";
 
-    public void set(UserId userInfo) {
-        threadLocalAuthenticationStore.set(userInfo);
+    public void set(HttpServletRequest request, Supplier<UserId> userInfoSupplier) {
+        request.setAttribute(USER_ID_ATTRIBUTE, userInfoSupplier);
     }
 
-    public UserId get() {
-        return threadLocalAuthenticationStore.get();
-    }
+    @SuppressWarnings("unchecked")
+    public UserId get(WebRequest webRequest) {
+        Supplier<UserId> userInfoSupplier = (Supplier<UserId>) webRequest.getAttribute(
+                USER_ID_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST
+        );
+
+        if (userInfoSupplier == null) {
+            return null;
+        }
 
-    public void remove() {
-        threadLocalAuthenticationStore.remove();
+        return userInfoSupplier.get();
     }
 }
-
@@ -4,12 +4,15 @@ import com.management.tab.config.auth.AuthStore;
 import com.management.tab.domain.user.vo.UserId;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 @Component
@@ -20,27 +23,21 @@ public class AuthInterceptor implements HandlerInterceptor {
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        Authentication authentication = SecurityContextHolder.getContext()
-                                                             .getAuthentication();
+        Supplier<SecurityContext> securityContext = SecurityContextHolder.getDeferredContext();
+
+        store.set(request, SingletonSupplier.of(() -> findUserId(securityContext.get())));
+        return true;
+    }
+
+    private UserId findUserId(SecurityContext securityContext) {
+        Authentication authentication = securityContext.getAuthentication();
 
         if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
-            store.set(UserId.EMPTY_USER_ID);
-            return true;
+            return UserId.EMPTY_USER_ID;
         }
 
         String id = ((UserDetails) authentication.getPrincipal()).getUsername();
 
-        store.set(UserId.create(Long.parseLong(id)));
-        return true;
-    }
-
-    @Override
-    public void afterCompletion(
-            HttpServletRequest ignoreRequest,
-            HttpServletResponse ignoreResponse,
-            Object ignoreHandler,
-            Exception ignoreEx
-    ) {
-        store.remove();
+        return UserId.create(Long.parseLong(id));
     }
 }
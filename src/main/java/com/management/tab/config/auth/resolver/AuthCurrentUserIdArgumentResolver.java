@@ -30,7 +30,7 @@ public class AuthCurrentUserIdArgumentResolver implements HandlerMethodArgumentR
             NativeWebRequest webRequest,
             WebDataBinderFactory binderFactory
     ) {
-        UserId userId = store.get();
+        UserId userId = store.get(webRequest);
 
         validateUserPrincipal(userId);
 
@@ -29,7 +29,7 @@ public class AuthGuestUserIdArgumentResolver implements HandlerMethodArgumentRes
             NativeWebRequest webRequest,
             WebDataBinderFactory binderFactory
     ) throws Exception {
-        UserId userId = store.get();
+        UserId userId = store.get(webRequest);
 
         if (userId == null || userId == UserId.EMPTY_USER_ID) {
             return GuestUserId.EMPTY_GUEST_ID;
@@ -0,0 +1,5 @@
+package com.management.tab.config.auth.security.enums;
+
+public enum TokenProfile {
+    NESTED, DIRECT, SIGNED
+}
@@ -3,6 +3,8 @@ package com.management.tab.config.auth.security.filter;
 import com.management.tab.config.auth.security.core.OAuth2AuthenticationToken;
 import com.management.tab.config.auth.security.core.OAuth2UserDetails;
 import com.management.tab.config.auth.security.core.OAuth2UserDetailsService;
+import com.management.tab.infrastructure.jwt.JwtDecoder.ExpiredTokenException;
+import com.management.tab.infrastructure.jwt.JwtDecoder.InvalidTokenException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,8 +13,11 @@ import java.io.IOException;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 
 @RequiredArgsConstructor
 public class OAuth2AuthenticationFilter extends OncePerRequestFilter {
@@ -20,6 +25,7 @@ public class OAuth2AuthenticationFilter extends OncePerRequestFilter {
     private static final String TOKEN_SCHEME = "Bearer ";
 
     private final OAuth2UserDetailsService oAuth2UserDetailsService;
+    private final HandlerExceptionResolver handlerExceptionResolver;
 
     @Override
     protected void doFilterInternal(
@@ -28,20 +34,30 @@ public class OAuth2AuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
         extractToken(request).map(this::parseToken)
-                             .map(oAuth2UserDetailsService::loadUserByUsername)
-                             .ifPresent(this::setAuthentication);
+                             .ifPresent(this::deferAuthentication);
 
-        filterChain.doFilter(request, response);
+        try {
+            filterChain.doFilter(request, response);
+        } catch (InvalidTokenException | ExpiredTokenException e) {
+            handlerExceptionResolver.resolveException(request, response, null, e);
+        }
+    }
+
+    private void deferAuthentication(String token) {
+        SecurityContextHolder.setDeferredContext(SingletonSupplier.of(() -> createSecurityContext(token)));
     }
 
-    private void setAuthentication(OAuth2UserDetails oAuth2UserDetails) {
-        SecurityContextHolder.getContext()
-                             .setAuthentication(
-                                     new OAuth2AuthenticationToken(
-                                             oAuth2UserDetails,
-                                             oAuth2UserDetails.getAuthorities()
-                                     )
-                             );
+    private SecurityContext createSecurityContext(String token) {
+        OAuth2UserDetails oAuth2UserDetails = oAuth2UserDetailsService.loadUserByUsername(token);
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+
+        securityContext.setAuthentication(
+                new OAuth2AuthenticationToken(
+                        oAuth2UserDetails,
+                        oAuth2UserDetails.getAuthorities()
+                )
+        );
+        return securityContext;
     }
 
     private Optional<String> extractToken(HttpServletRequest request) {
@@ -0,0 +1,9 @@
+package com.management.tab.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("tab.change-log")
+public record TabChangeLogProperties(@DefaultValue("7d") Duration retention) {
+}
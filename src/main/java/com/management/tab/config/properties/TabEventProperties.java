@@ -0,0 +1,14 @@
+package com.management.tab.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("tab.events")
+public record TabEventProperties(
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("32") int queueCapacity,
+        @DefaultValue("4") int senderThreads,
+        @DefaultValue("10s") Duration sendTimeout
+) {
+}
@@ -0,0 +1,18 @@
+package com.management.tab.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("tab.id")
+public record TabIdProperties(
+        @DefaultValue("identity") Strategy strategy,
+        @DefaultValue("100") int blockSize,
+        @DefaultValue("0") long nodeId
+) {
+
+    public enum Strategy {
+        IDENTITY,
+        HILO,
+        TIME_ORDERED
+    }
+}
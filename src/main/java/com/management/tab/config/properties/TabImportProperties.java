@@ -0,0 +1,8 @@
+package com.management.tab.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("tab.import")
+public record TabImportProperties(@DefaultValue("1000") int chunkSize) {
+}
@@ -0,0 +1,8 @@
+package com.management.tab.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("cache.tab-tree")
+public record TabTreeCacheProperties(long maximumWeight, Duration expireAfterAccess) {
+}
@@ -0,0 +1,12 @@
+package com.management.tab.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("cache.token")
+public record TokenCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("5m") Duration maximumTtl
+) {
+}
@@ -0,0 +1,9 @@
+package com.management.tab.config.properties;
+
+import com.management.tab.config.auth.security.enums.TokenProfile;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("token.profile")
+public record TokenProfileProperties(@DefaultValue("NESTED") TokenProfile access) {
+}
@@ -0,0 +1,12 @@
+package com.management.tab.domain.group;
+
+import java.time.LocalDateTime;
+
+public record TabGroupSummary(
+        TabGroup tabGroup,
+        int tabCount,
+        int contentCount,
+        int maxDepth,
+        LocalDateTime lastUpdatedAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.management.tab.domain.repository;
+
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.tab.TabChange;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TabChangeRepository {
+
+    List<TabChange> findAllBetween(TabGroupId groupId, long sinceVersion, long untilVersion);
+
+    long findCompactedVersion(TabGroupId groupId);
+
+    void compactBefore(LocalDateTime threshold);
+}
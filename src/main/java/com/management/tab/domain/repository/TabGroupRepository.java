@@ -1,13 +1,16 @@
 package com.management.tab.domain.repository;
 
 import com.management.tab.domain.group.TabGroup;
+import com.management.tab.domain.group.TabGroupSummary;
 import java.util.List;
 
 public interface TabGroupRepository {
 
-    List<TabGroup> findAll();
+    List<TabGroup> findAll(long afterId, int limit);
 
-    List<TabGroup> findAllByWriterId(Long userId);
+    List<TabGroup> findAllByWriterId(Long userId, long afterId, int limit);
+
+    List<TabGroupSummary> findSummaries(long afterId, int limit);
 
     TabGroup findById(Long id);
 
@@ -19,6 +22,12 @@ public interface TabGroupRepository {
 
     int countTabs(Long id);
 
+    long findVersion(Long id);
+
+    long findVersionByTabId(Long tabId);
+
+    long lockVersion(Long id);
+
     class TabGroupNotFoundException extends IllegalArgumentException {
 
         public TabGroupNotFoundException() {
@@ -0,0 +1,9 @@
+package com.management.tab.domain.repository;
+
+import com.management.tab.domain.tab.vo.TabId;
+import java.util.List;
+
+public interface TabIdAllocator {
+
+    List<TabId> allocate(int count);
+}
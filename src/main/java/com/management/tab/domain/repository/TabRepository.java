@@ -2,10 +2,14 @@ package com.management.tab.domain.repository;
 
 import com.management.tab.domain.group.vo.TabGroupId;
 import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabCursor;
+import com.management.tab.domain.tab.TabNode;
+import com.management.tab.domain.tab.TabOutline;
 import com.management.tab.domain.tab.TabTree;
 import com.management.tab.domain.tab.vo.TabId;
 import com.management.tab.domain.tab.vo.TabPosition;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TabRepository {
 
@@ -13,17 +17,33 @@ public interface TabRepository {
 
     Tab saveChild(Tab childTab);
 
+    List<Tab> saveAll(List<Tab> tabs);
+
     Tab findTab(Long tabId);
 
     TabTree findTabTree(TabGroupId groupId);
 
+    void streamPreOrder(TabGroupId groupId, Consumer<TabNode> tabNodeConsumer);
+
+    List<TabNode> findPreOrderWindow(TabGroupId groupId, int offset, int limit);
+
+    int countPreOrdered(TabGroupId groupId);
+
+    List<TabGroupId> findStalePreOrderGroupIds();
+
+    void renumberPreOrder(TabGroupId groupId);
+
+    List<TabOutline> findSubtree(TabId tabId, int maxDepth, int childrenLimit, int rowLimit);
+
+    List<TabOutline> findChildren(TabGroupId groupId, TabId parentId, TabCursor after, int limit);
+
     TabId findParentId(Long tabId);
 
     TabPosition findLastRootPosition(Long groupId);
 
     List<Tab> findSiblings(TabId parentId);
 
-    List<Tab> findRootSiblings();
+    List<Tab> findRootSiblings(TabGroupId groupId);
 
     void updateMoved(Tab movedTab, TabId currentParentId);
 
@@ -33,7 +53,9 @@ public interface TabRepository {
 
     void updateMovedRootWithSubtree(Tab movedTab);
 
-    void updatePosition(TabId id, TabPosition position);
+    void updatePosition(Tab repositionedTab);
+
+    void updatePositions(List<Tab> repositionedTabs);
 
     void updateTabInfo(Tab updatedTab);
 
@@ -0,0 +1,299 @@
+package com.management.tab.domain.tab;
+
+import com.management.tab.domain.tab.vo.TabId;
+import java.util.Arrays;
+
+final class PersistentTabIndex {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final PersistentTabIndex EMPTY = new PersistentTabIndex(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentTabIndex(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    static PersistentTabIndex empty() {
+        return EMPTY;
+    }
+
+    PersistentTabNode get(TabId tabId) {
+        return root.find(tabId, hash(tabId), 0);
+    }
+
+    boolean contains(TabId tabId) {
+        return get(tabId) != null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    PersistentTabIndex put(PersistentTabNode node) {
+        int newSize = contains(node.getId()) ? size : size + 1;
+
+        return new PersistentTabIndex(root.put(node, hash(node.getId()), 0), newSize);
+    }
+
+    PersistentTabIndex remove(TabId tabId) {
+        if (!contains(tabId)) {
+            return this;
+        }
+
+        return new PersistentTabIndex(root.remove(tabId, hash(tabId), 0), size - 1);
+    }
+
+    private static int hash(TabId tabId) {
+        int hash = tabId.hashCode();
+
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int index(int hash, int shift) {
+        return (hash >>> shift) & LEVEL_MASK;
+    }
+
+    private interface Node {
+
+        PersistentTabNode find(TabId tabId, int hash, int shift);
+
+        Node put(PersistentTabNode node, int hash, int shift);
+
+        Node remove(TabId tabId, int hash, int shift);
+
+        boolean isEmpty();
+
+        PersistentTabNode singleEntry();
+    }
+
+    private static final class BitmapNode implements Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        private BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private static Node merge(PersistentTabNode first, int firstHash, PersistentTabNode second, int secondHash, int shift) {
+            if (firstHash == secondHash) {
+                return new CollisionNode(firstHash, new PersistentTabNode[]{first, second});
+            }
+
+            int firstIndex = index(firstHash, shift);
+            int secondIndex = index(secondHash, shift);
+
+            if (firstIndex == secondIndex) {
+                Node child = merge(first, firstHash, second, secondHash, shift + BITS_PER_LEVEL);
+
+                return new BitmapNode(1 << firstIndex, new Object[]{child});
+            }
+
+            Object[] slots = firstIndex < secondIndex ? new Object[]{first, second} : new Object[]{second, first};
+
+            return new BitmapNode((1 << firstIndex) | (1 << secondIndex), slots);
+        }
+
+        @Override
+        public PersistentTabNode find(TabId tabId, int hash, int shift) {
+            int bit = 1 << index(hash, shift);
+
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+
+            Object slot = slots[slotIndex(bit)];
+
+            if (slot instanceof Node child) {
+                return child.find(tabId, hash, shift + BITS_PER_LEVEL);
+            }
+
+            PersistentTabNode entry = (PersistentTabNode) slot;
+
+            return entry.getId().equals(tabId) ? entry : null;
+        }
+
+        @Override
+        public Node put(PersistentTabNode node, int hash, int shift) {
+            int bit = 1 << index(hash, shift);
+            int slotIndex = slotIndex(bit);
+
+            if ((bitmap & bit) == 0) {
+                Object[] newSlots = new Object[slots.length + 1];
+
+                System.arraycopy(slots, 0, newSlots, 0, slotIndex);
+                newSlots[slotIndex] = node;
+                System.arraycopy(slots, slotIndex, newSlots, slotIndex + 1, slots.length - slotIndex);
+
+                return new BitmapNode(bitmap | bit, newSlots);
+            }
+
+            Object slot = slots[slotIndex];
+
+            if (slot instanceof Node child) {
+                return replaced(slotIndex, child.put(node, hash, shift + BITS_PER_LEVEL));
+            }
+
+            PersistentTabNode entry = (PersistentTabNode) slot;
+
+            if (entry.getId().equals(node.getId())) {
+                return replaced(slotIndex, node);
+            }
+
+            Node merged = merge(entry, hash(entry.getId()), node, hash, shift + BITS_PER_LEVEL);
+
+            return replaced(slotIndex, merged);
+        }
+
+        @Override
+        public Node remove(TabId tabId, int hash, int shift) {
+            int bit = 1 << index(hash, shift);
+
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+
+            int slotIndex = slotIndex(bit);
+            Object slot = slots[slotIndex];
+
+            if (slot instanceof Node child) {
+                Node newChild = child.remove(tabId, hash, shift + BITS_PER_LEVEL);
+
+                if (newChild.isEmpty()) {
+                    return removed(bit, slotIndex);
+                }
+
+                PersistentTabNode singleEntry = newChild.singleEntry();
+
+                return replaced(slotIndex, singleEntry == null ? newChild : singleEntry);
+            }
+
+            if (((PersistentTabNode) slot).getId().equals(tabId)) {
+                return removed(bit, slotIndex);
+            }
+
+            return this;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return bitmap == 0;
+        }
+
+        @Override
+        public PersistentTabNode singleEntry() {
+            if (slots.length == 1 && slots[0] instanceof PersistentTabNode entry) {
+                return entry;
+            }
+
+            return null;
+        }
+
+        private int slotIndex(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private BitmapNode replaced(int slotIndex, Object slot) {
+            Object[] newSlots = slots.clone();
+
+            newSlots[slotIndex] = slot;
+
+            return new BitmapNode(bitmap, newSlots);
+        }
+
+        private BitmapNode removed(int bit, int slotIndex) {
+            Object[] newSlots = new Object[slots.length - 1];
+
+            System.arraycopy(slots, 0, newSlots, 0, slotIndex);
+            System.arraycopy(slots, slotIndex + 1, newSlots, slotIndex, slots.length - slotIndex - 1);
+
+            return new BitmapNode(bitmap & ~bit, newSlots);
+        }
+    }
+
+    private static final class CollisionNode implements Node {
+
+        private final int hash;
+        private final PersistentTabNode[] entries;
+
+        private CollisionNode(int hash, PersistentTabNode[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        @Override
+        public PersistentTabNode find(TabId tabId, int hash, int shift) {
+            int entryIndex = entryIndex(tabId);
+
+            return entryIndex < 0 ? null : entries[entryIndex];
+        }
+
+        @Override
+        public Node put(PersistentTabNode node, int hash, int shift) {
+            if (hash != this.hash) {
+                Node wrapped = new BitmapNode(1 << index(this.hash, shift), new Object[]{this});
+
+                return wrapped.put(node, hash, shift);
+            }
+
+            int entryIndex = entryIndex(node.getId());
+
+            if (entryIndex >= 0) {
+                PersistentTabNode[] newEntries = entries.clone();
+
+                newEntries[entryIndex] = node;
+
+                return new CollisionNode(hash, newEntries);
+            }
+
+            PersistentTabNode[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+
+            newEntries[entries.length] = node;
+
+            return new CollisionNode(hash, newEntries);
+        }
+
+        @Override
+        public Node remove(TabId tabId, int hash, int shift) {
+            int entryIndex = entryIndex(tabId);
+
+            if (entryIndex < 0) {
+                return this;
+            }
+
+            PersistentTabNode[] newEntries = new PersistentTabNode[entries.length - 1];
+
+            System.arraycopy(entries, 0, newEntries, 0, entryIndex);
+            System.arraycopy(entries, entryIndex + 1, newEntries, entryIndex, entries.length - entryIndex - 1);
+
+            return new CollisionNode(hash, newEntries);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return entries.length == 0;
+        }
+
+        @Override
+        public PersistentTabNode singleEntry() {
+            return entries.length == 1 ? entries[0] : null;
+        }
+
+        private int entryIndex(TabId tabId) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].getId().equals(tabId)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
+}
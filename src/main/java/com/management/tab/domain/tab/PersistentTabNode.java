@@ -0,0 +1,81 @@
+package com.management.tab.domain.tab;
+
+import com.management.tab.domain.tab.vo.TabId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode(of = "tab")
+public final class PersistentTabNode {
+
+    static final Comparator<PersistentTabNode> POSITION_ORDER =
+            Comparator.comparingInt(PersistentTabNode::getPosition)
+                      .thenComparing(PersistentTabNode::getIdValue);
+
+    private final Tab tab;
+    private final List<PersistentTabNode> children;
+
+    public static PersistentTabNode create(Tab tab) {
+        return new PersistentTabNode(tab, Collections.emptyList());
+    }
+
+    static PersistentTabNode from(TabNode tabNode) {
+        List<PersistentTabNode> children = new ArrayList<>();
+
+        for (TabNode child : tabNode.getChildren()) {
+            children.add(from(child));
+        }
+
+        return new PersistentTabNode(tabNode.getTab(), sort(children));
+    }
+
+    private PersistentTabNode(Tab tab, List<PersistentTabNode> children) {
+        this.tab = Objects.requireNonNull(tab, "Tab은 필수입니다");
+        this.children = children;
+    }
+
+    PersistentTabNode withTab(Tab newTab) {
+        return new PersistentTabNode(newTab, children);
+    }
+
+    PersistentTabNode withChildren(List<PersistentTabNode> newChildren) {
+        return new PersistentTabNode(tab, newChildren);
+    }
+
+    public boolean isLeaf() {
+        return children.isEmpty();
+    }
+
+    public boolean isRoot() {
+        return tab.isRoot();
+    }
+
+    public TabId getId() {
+        return tab.id();
+    }
+
+    public int getPosition() {
+        return tab.getPosition();
+    }
+
+    public TabId parentId() {
+        return tab.parentId();
+    }
+
+    static List<PersistentTabNode> sort(List<PersistentTabNode> nodes) {
+        List<PersistentTabNode> sorted = new ArrayList<>(nodes);
+
+        sorted.sort(POSITION_ORDER);
+
+        return Collections.unmodifiableList(sorted);
+    }
+
+    private Long getIdValue() {
+        return tab.getId();
+    }
+}
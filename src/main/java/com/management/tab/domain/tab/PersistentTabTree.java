@@ -0,0 +1,332 @@
+package com.management.tab.domain.tab;
+
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.tab.TabTree.TabNodeNotFoundException;
+import com.management.tab.domain.tab.vo.TabId;
+import com.management.tab.domain.tab.vo.TabPosition;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+public final class PersistentTabTree {
+
+    private final TabGroupId tabGroupId;
+    private final List<PersistentTabNode> rootNodes;
+
+    @Getter(AccessLevel.NONE)
+    private final PersistentTabIndex nodeIndex;
+
+    @Getter(AccessLevel.NONE)
+    private volatile TabTree tabTree;
+
+    public static PersistentTabTree create(Long groupId) {
+        Objects.requireNonNull(groupId, "탭 그룹 ID는 null일 수 없습니다.");
+
+        return new PersistentTabTree(TabGroupId.create(groupId), Collections.emptyList(), PersistentTabIndex.empty());
+    }
+
+    public static PersistentTabTree from(TabTree tabTree) {
+        List<PersistentTabNode> rootNodes = new ArrayList<>();
+        PersistentTabIndex nodeIndex = PersistentTabIndex.empty();
+
+        for (TabNode rootTabNode : tabTree.getRootTabNodes()) {
+            PersistentTabNode rootNode = PersistentTabNode.from(rootTabNode);
+
+            rootNodes.add(rootNode);
+            nodeIndex = addToIndex(rootNode, nodeIndex);
+        }
+
+        PersistentTabTree persistentTabTree = new PersistentTabTree(
+                tabTree.getTabGroupId(),
+                PersistentTabNode.sort(rootNodes),
+                nodeIndex
+        );
+
+        persistentTabTree.tabTree = tabTree;
+
+        return persistentTabTree;
+    }
+
+    private static PersistentTabIndex addToIndex(PersistentTabNode node, PersistentTabIndex nodeIndex) {
+        PersistentTabIndex newNodeIndex = nodeIndex.put(node);
+
+        for (PersistentTabNode child : node.getChildren()) {
+            newNodeIndex = addToIndex(child, newNodeIndex);
+        }
+
+        return newNodeIndex;
+    }
+
+    private PersistentTabTree(
+            TabGroupId tabGroupId,
+            List<PersistentTabNode> rootNodes,
+            PersistentTabIndex nodeIndex
+    ) {
+        this.tabGroupId = tabGroupId;
+        this.rootNodes = rootNodes;
+        this.nodeIndex = nodeIndex;
+    }
+
+    public PersistentTabTree insert(Tab tab) {
+        validateInsertion(tab);
+
+        PersistentTabNode insertedNode = PersistentTabNode.create(tab);
+
+        return attach(insertedNode, nodeIndex);
+    }
+
+    public PersistentTabTree reorder(TabId tabId, TabPosition newPosition) {
+        PersistentTabNode node = getNode(tabId);
+        PersistentTabNode reorderedNode = node.withTab(node.getTab().updatePosition(newPosition.getValue()));
+
+        return rebuildPath(node.parentId(), children -> replaced(children, reorderedNode), nodeIndex.put(reorderedNode));
+    }
+
+    public PersistentTabTree update(Tab updatedTab) {
+        PersistentTabNode node = getNode(updatedTab.id());
+
+        if (!isSameParent(node.parentId(), updatedTab.parentId())) {
+            throw new IllegalArgumentException("탭 정보 수정으로 부모를 바꿀 수 없습니다.");
+        }
+
+        PersistentTabNode updatedNode = node.withTab(updatedTab);
+
+        return rebuildPath(node.parentId(), children -> replaced(children, updatedNode), nodeIndex.put(updatedNode));
+    }
+
+    public PersistentTabTree move(TabId tabId, TabId newParentId, TabPosition newPosition) {
+        validateMove(tabId, newParentId);
+
+        Tab movedTab = moveTab(getNode(tabId).getTab(), newParentId, newPosition);
+
+        return delete(tabId).insert(movedTab);
+    }
+
+    public PersistentTabTree moveWithSubtree(TabId tabId, TabId newParentId, TabPosition newPosition) {
+        validateMove(tabId, newParentId);
+
+        PersistentTabNode node = getNode(tabId);
+        PersistentTabNode movedNode = node.withTab(moveTab(node.getTab(), newParentId, newPosition));
+        PersistentTabTree detachedTree = detach(node, nodeIndex);
+
+        return detachedTree.attach(movedNode, detachedTree.nodeIndex);
+    }
+
+    public PersistentTabTree delete(TabId tabId) {
+        PersistentTabNode node = getNode(tabId);
+        PersistentTabIndex newNodeIndex = nodeIndex.remove(tabId);
+        List<PersistentTabNode> promotedChildren = new ArrayList<>();
+
+        for (PersistentTabNode child : node.getChildren()) {
+            Tab promotedTab = moveTab(child.getTab(), node.parentId(), child.getTab().position());
+            PersistentTabNode promotedChild = child.withTab(promotedTab);
+
+            newNodeIndex = newNodeIndex.put(promotedChild);
+            promotedChildren.add(promotedChild);
+        }
+
+        return rebuildPath(
+                node.parentId(),
+                children -> added(removed(children, tabId), promotedChildren),
+                newNodeIndex
+        );
+    }
+
+    public PersistentTabTree deleteWithSubtree(TabId tabId) {
+        PersistentTabNode node = getNode(tabId);
+
+        return detach(node, removeFromIndex(node, nodeIndex));
+    }
+
+    public Optional<PersistentTabNode> findNode(TabId tabId) {
+        return Optional.ofNullable(nodeIndex.get(tabId));
+    }
+
+    public boolean contains(TabId tabId) {
+        return nodeIndex.contains(tabId);
+    }
+
+    public int findDepth(TabId tabId) {
+        PersistentTabNode node = getNode(tabId);
+        int depth = 0;
+
+        while (!isRootId(node.parentId())) {
+            node = getNode(node.parentId());
+            depth++;
+        }
+
+        return depth;
+    }
+
+    public int getTotalCount() {
+        return nodeIndex.size();
+    }
+
+    public TabTree toTabTree() {
+        TabTree materializedTabTree = tabTree;
+
+        if (materializedTabTree == null) {
+            materializedTabTree = materialize();
+            tabTree = materializedTabTree;
+        }
+
+        return materializedTabTree;
+    }
+
+    private TabTree materialize() {
+        List<TabNode> rootTabNodes = new ArrayList<>();
+
+        for (PersistentTabNode rootNode : rootNodes) {
+            rootTabNodes.add(toTabNode(rootNode, 0));
+        }
+
+        return TabTree.create(tabGroupId.getValue(), rootTabNodes);
+    }
+
+    private TabNode toTabNode(PersistentTabNode node, int depth) {
+        TabNode tabNode = TabNode.create(node.getTab(), depth);
+
+        for (PersistentTabNode child : node.getChildren()) {
+            tabNode.addChild(toTabNode(child, depth + 1));
+        }
+
+        return tabNode;
+    }
+
+    private void validateInsertion(Tab tab) {
+        if (contains(tab.id())) {
+            throw new IllegalArgumentException("이미 트리에 존재하는 탭입니다.");
+        }
+
+        if (!isRootId(tab.parentId())) {
+            getNode(tab.parentId());
+        }
+    }
+
+    private void validateMove(TabId tabId, TabId newParentId) {
+        getNode(tabId);
+
+        if (isRootId(newParentId)) {
+            return;
+        }
+
+        if (tabId.equals(newParentId)) {
+            throw new IllegalArgumentException("자기 자신을 부모로 설정할 수 없습니다.");
+        }
+
+        if (isAncestor(tabId, newParentId)) {
+            throw new IllegalArgumentException("순환 참조가 발생합니다: 자손을 부모로 설정할 수 없습니다.");
+        }
+    }
+
+    private boolean isAncestor(TabId potentialAncestor, TabId tabId) {
+        PersistentTabNode node = getNode(tabId);
+
+        while (!isRootId(node.parentId())) {
+            if (node.parentId().equals(potentialAncestor)) {
+                return true;
+            }
+
+            node = getNode(node.parentId());
+        }
+
+        return false;
+    }
+
+    private Tab moveTab(Tab tab, TabId newParentId, TabPosition newPosition) {
+        if (isRootId(newParentId)) {
+            return tab.moveToRoot(newPosition);
+        }
+
+        return tab.moveTo(newParentId, newPosition);
+    }
+
+    private PersistentTabTree attach(PersistentTabNode node, PersistentTabIndex newNodeIndex) {
+        return rebuildPath(node.parentId(), children -> added(children, List.of(node)), newNodeIndex.put(node));
+    }
+
+    private PersistentTabTree detach(PersistentTabNode node, PersistentTabIndex newNodeIndex) {
+        return rebuildPath(node.parentId(), children -> removed(children, node.getId()), newNodeIndex);
+    }
+
+    private PersistentTabTree rebuildPath(
+            TabId parentId,
+            UnaryOperator<List<PersistentTabNode>> childrenChange,
+            PersistentTabIndex newNodeIndex
+    ) {
+        TabId currentParentId = parentId;
+        UnaryOperator<List<PersistentTabNode>> currentChange = childrenChange;
+        PersistentTabIndex currentNodeIndex = newNodeIndex;
+
+        while (!isRootId(currentParentId)) {
+            PersistentTabNode parentNode = getNode(currentParentId);
+            PersistentTabNode copiedParentNode = parentNode.withChildren(currentChange.apply(parentNode.getChildren()));
+
+            currentNodeIndex = currentNodeIndex.put(copiedParentNode);
+            currentChange = children -> replaced(children, copiedParentNode);
+            currentParentId = parentNode.parentId();
+        }
+
+        return new PersistentTabTree(
+                tabGroupId,
+                currentChange.apply(rootNodes),
+                currentNodeIndex
+        );
+    }
+
+    private PersistentTabIndex removeFromIndex(PersistentTabNode node, PersistentTabIndex nodeIndex) {
+        PersistentTabIndex newNodeIndex = nodeIndex.remove(node.getId());
+
+        for (PersistentTabNode child : node.getChildren()) {
+            newNodeIndex = removeFromIndex(child, newNodeIndex);
+        }
+
+        return newNodeIndex;
+    }
+
+    private List<PersistentTabNode> added(List<PersistentTabNode> nodes, List<PersistentTabNode> addedNodes) {
+        List<PersistentTabNode> result = new ArrayList<>(nodes);
+
+        result.addAll(addedNodes);
+
+        return PersistentTabNode.sort(result);
+    }
+
+    private List<PersistentTabNode> removed(List<PersistentTabNode> nodes, TabId removedId) {
+        return nodes.stream()
+                    .filter(node -> !node.getId().equals(removedId))
+                    .toList();
+    }
+
+    private List<PersistentTabNode> replaced(List<PersistentTabNode> nodes, PersistentTabNode replacement) {
+        List<PersistentTabNode> result = new ArrayList<>(nodes.size());
+
+        for (PersistentTabNode node : nodes) {
+            result.add(node.getId().equals(replacement.getId()) ? replacement : node);
+        }
+
+        return PersistentTabNode.sort(result);
+    }
+
+    private PersistentTabNode getNode(TabId tabId) {
+        return findNode(tabId).orElseThrow(TabNodeNotFoundException::new);
+    }
+
+    private boolean isSameParent(TabId parentId, TabId otherParentId) {
+        if (isRootId(parentId)) {
+            return isRootId(otherParentId);
+        }
+
+        return parentId.equals(otherParentId);
+    }
+
+    private boolean isRootId(TabId tabId) {
+        return tabId == null || tabId.isRoot();
+    }
+}
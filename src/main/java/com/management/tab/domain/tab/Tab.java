@@ -112,6 +112,10 @@ public class Tab {
         return parentId.isRoot();
     }
 
+    public boolean hasUrl() {
+        return !url.isEmpty();
+    }
+
     public boolean isWriterId(Long writerId) {
         return this.writerId.isEqualId(writerId);
     }
@@ -25,26 +25,34 @@ public class TabBuilder {
     }
 
     public static TabBuilder createRoot(Long groupId, Long writerId, String title, String url, TabPosition position) {
+        return createRootFolder(groupId, writerId, title, position).url(url);
+    }
+
+    public static TabBuilder createRootFolder(Long groupId, Long writerId, String title, TabPosition position) {
         TabBuilder builder = new TabBuilder();
 
         builder.position = position;
+        builder.url = TabUrl.EMPTY_URL;
 
         return builder.groupId(groupId)
                       .writerId(writerId)
-                      .title(title)
-                      .url(url);
+                      .title(title);
     }
 
     public static TabBuilder createChild(Tab parentTab, String title, String url, TabPosition position) {
+        return createChildFolder(parentTab, title, position).url(url);
+    }
+
+    public static TabBuilder createChildFolder(Tab parentTab, String title, TabPosition position) {
         TabBuilder builder = new TabBuilder();
 
         builder.tabGroupId = parentTab.tabGroupId();
         builder.parentId = parentTab.id();
         builder.writerId = parentTab.writerId();
         builder.position = position;
+        builder.url = TabUrl.EMPTY_URL;
 
-        return builder.title(title)
-                      .url(url);
+        return builder.title(title);
     }
 
     private TabBuilder() {
@@ -86,6 +94,15 @@ public class TabBuilder {
         return this;
     }
 
+    public TabBuilder nullableUrl(String url) {
+        if (url == null) {
+            this.url = TabUrl.EMPTY_URL;
+            return this;
+        }
+
+        return url(url);
+    }
+
     public TabBuilder position(int position) {
         this.position = TabPosition.create(position);
 
@@ -0,0 +1,13 @@
+package com.management.tab.domain.tab;
+
+public record TabChange(
+        long version,
+        TabChangeType type,
+        Long tabId,
+        Long parentId,
+        String title,
+        String url,
+        Integer position,
+        boolean withSubtree
+) {
+}
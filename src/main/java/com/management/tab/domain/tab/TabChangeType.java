@@ -0,0 +1,10 @@
+package com.management.tab.domain.tab;
+
+public enum TabChangeType {
+
+    CREATE,
+    MOVE,
+    REORDER,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,10 @@
+package com.management.tab.domain.tab;
+
+public record TabCursor(int position, long id) {
+
+    public static final TabCursor FIRST = new TabCursor(Integer.MIN_VALUE, Long.MIN_VALUE);
+
+    public static TabCursor after(Tab tab) {
+        return new TabCursor(tab.getPosition(), tab.getId());
+    }
+}
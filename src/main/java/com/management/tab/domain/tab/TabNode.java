@@ -15,6 +15,9 @@ public class TabNode {
     private final Tab tab;
     private final int depth;
     private final List<TabNode> children;
+    private int subtreeHeight;
+    private int descendantCount;
+    private int maxChildPosition = -1;
 
     public static TabNode create(Tab tab, Integer depth) {
         return new TabNode(tab, depth, new ArrayList<>());
@@ -33,10 +36,20 @@ public class TabNode {
     public void addChild(TabNode child) {
         validateChildAddition(child);
         this.children.add(child);
+        accumulate(child);
     }
 
     public void removeChild(TabId childId) {
         this.children.removeIf(child -> child.tab.isEqualId(childId));
+        refreshFromChildren();
+    }
+
+    void refreshAggregates() {
+        for (TabNode child : children) {
+            child.refreshAggregates();
+        }
+
+        refreshFromChildren();
     }
 
     public List<TabNode> getChildren() {
@@ -67,6 +80,22 @@ public class TabNode {
         return tab.parentId();
     }
 
+    private void refreshFromChildren() {
+        this.subtreeHeight = 0;
+        this.descendantCount = 0;
+        this.maxChildPosition = -1;
+
+        for (TabNode child : children) {
+            accumulate(child);
+        }
+    }
+
+    private void accumulate(TabNode child) {
+        this.subtreeHeight = Math.max(this.subtreeHeight, child.subtreeHeight + 1);
+        this.descendantCount += child.descendantCount + 1;
+        this.maxChildPosition = Math.max(this.maxChildPosition, child.getPosition());
+    }
+
     private void validateChildAddition(TabNode child) {
         if (child == null) {
             throw new IllegalArgumentException("자식 노드는 null일 수 없습니다.");
@@ -0,0 +1,8 @@
+package com.management.tab.domain.tab;
+
+public record TabOutline(Tab tab, int depth, int childCount) {
+
+    public boolean hasChildren() {
+        return childCount > 0;
+    }
+}
@@ -20,6 +20,8 @@ public class TabTree {
     private final TabGroupId tabGroupId;
     private final List<TabNode> rootTabNodes;
     private final Map<TabId, TabNode> tabNodeMap;
+    private final int maxDepth;
+    private final int maxRootPosition;
 
     public static TabTree create(Long groupId) {
         return TabTree.create(groupId, new ArrayList<>());
@@ -31,7 +33,13 @@ public class TabTree {
         List<TabNode> unmodifiableRootNodes = Collections.unmodifiableList(rootNodes);
         Map<TabId, TabNode> unmodifiableTabNodes = buildNodeMap(rootNodes);
 
-        return new TabTree(TabGroupId.create(groupId), unmodifiableRootNodes, unmodifiableTabNodes);
+        return new TabTree(
+                TabGroupId.create(groupId),
+                unmodifiableRootNodes,
+                unmodifiableTabNodes,
+                calculateMaxDepth(unmodifiableTabNodes),
+                calculateMaxRootPosition(rootNodes)
+        );
     }
 
     private static void validateCreation(Long groupId, List<TabNode> rootNodes) {
@@ -43,6 +51,7 @@ public class TabTree {
         Map<TabId, TabNode> map = new HashMap<>();
 
         for (TabNode root : roots) {
+            root.refreshAggregates();
             addToMap(root, map);
         }
 
@@ -57,10 +66,33 @@ public class TabTree {
         }
     }
 
-    private TabTree(TabGroupId tabGroupId, List<TabNode> rootTabNodes, Map<TabId, TabNode> tabNodeMap) {
+    private static int calculateMaxDepth(Map<TabId, TabNode> tabNodeMap) {
+        return tabNodeMap.values()
+                         .stream()
+                         .mapToInt(TabNode::getDepth)
+                         .max()
+                         .orElse(0);
+    }
+
+    private static int calculateMaxRootPosition(List<TabNode> rootNodes) {
+        return rootNodes.stream()
+                        .mapToInt(TabNode::getPosition)
+                        .max()
+                        .orElse(-1);
+    }
+
+    private TabTree(
+            TabGroupId tabGroupId,
+            List<TabNode> rootTabNodes,
+            Map<TabId, TabNode> tabNodeMap,
+            int maxDepth,
+            int maxRootPosition
+    ) {
         this.tabGroupId = tabGroupId;
         this.rootTabNodes = rootTabNodes;
         this.tabNodeMap = tabNodeMap;
+        this.maxDepth = maxDepth;
+        this.maxRootPosition = maxRootPosition;
     }
 
     public void validateAddChildDepth(TabId parentId) {
@@ -96,10 +128,30 @@ public class TabTree {
     }
 
     public boolean isDescendant(TabId potentialAncestor, TabId potentialDescendant) {
-        Optional<TabNode> ancestorNode = findNode(potentialAncestor);
+        Optional<TabNode> currentNode = findNode(potentialDescendant).flatMap(this::findParent);
+
+        while (currentNode.isPresent()) {
+            if (currentNode.get().getId().equals(potentialAncestor)) {
+                return true;
+            }
+
+            currentNode = currentNode.flatMap(this::findParent);
+        }
 
-        return ancestorNode.filter(tabNode -> containsDescendant(tabNode, potentialDescendant))
-                           .isPresent();
+        return false;
+    }
+
+    public List<TabNode> ancestorsOf(TabId tabId) {
+        TabNode node = findNode(tabId).orElseThrow(TabNodeNotFoundException::new);
+        List<TabNode> ancestors = new ArrayList<>(node.getDepth());
+        Optional<TabNode> currentNode = findParent(node);
+
+        while (currentNode.isPresent()) {
+            ancestors.add(currentNode.get());
+            currentNode = currentNode.flatMap(this::findParent);
+        }
+
+        return Collections.unmodifiableList(ancestors);
     }
 
     public List<TabNode> findSiblings(TabId tabId) {
@@ -117,24 +169,22 @@ public class TabTree {
         return tabNodeMap.size();
     }
 
-    public int getMaxDepth() {
-        return tabNodeMap.values().stream()
-                         .mapToInt(TabNode::getDepth)
-                         .max()
-                         .orElse(0);
-    }
-
     public TabPosition getNextRootPosition() {
         if (rootTabNodes.isEmpty()) {
             return TabPosition.defaultPosition();
         }
 
-        int position = rootTabNodes.stream()
-                                   .mapToInt(TabNode::getPosition)
-                                   .max()
-                                   .orElse(-1) + 1;
+        return TabPosition.create(maxRootPosition).next();
+    }
+
+    public boolean hasRootPositionsFor(int count) {
+        return rootTabNodes.isEmpty() || TabPosition.create(maxRootPosition).hasRoomFor(count);
+    }
+
+    public boolean hasChildPositionsFor(TabId parentId, int count) {
+        TabNode parentNode = findNode(parentId).orElseThrow(TabNodeNotFoundException::new);
 
-        return TabPosition.create(position);
+        return parentNode.isLeaf() || TabPosition.create(parentNode.getMaxChildPosition()).hasRoomFor(count);
     }
 
     public TabPosition getNextChildPosition(TabId parentId) {
@@ -173,38 +223,20 @@ public class TabTree {
         }
     }
 
-    private boolean containsDescendant(TabNode node, TabId targetId) {
-        return node.getChildren()
-                   .stream()
-                   .anyMatch(child -> child.getId().equals(targetId) || containsDescendant(child, targetId));
-    }
-
-    private int calculateAfterMovedDepth(TabNode newParentNode, TabNode movingNode) {
-        int newParentDepth = newParentNode.getDepth();
-        int subtreeDepth = calculateSubtreeDepth(movingNode);
+    private Optional<TabNode> findParent(TabNode node) {
+        TabId parentId = node.parentId();
 
-        return newParentDepth + 1 + subtreeDepth;
-    }
-
-    private int calculateSubtreeDepth(TabNode node) {
-        if (node.isLeaf()) {
-            return 0;
+        if (parentId == null || parentId.isRoot()) {
+            return Optional.empty();
         }
 
-        int maxChildDepth = calculateMaxChildDepth(node);
-
-        return maxChildDepth + 1;
+        return findNode(parentId);
     }
 
-    private int calculateMaxChildDepth(TabNode node) {
-        int maxChildDepth = 0;
-
-        for (TabNode child : node.getChildren()) {
-            int childDepth = calculateSubtreeDepth(child);
-            maxChildDepth = Math.max(maxChildDepth, childDepth);
-        }
+    private int calculateAfterMovedDepth(TabNode newParentNode, TabNode movingNode) {
+        int newParentDepth = newParentNode.getDepth();
 
-        return maxChildDepth;
+        return newParentDepth + 1 + movingNode.getSubtreeHeight();
     }
 
     private List<TabNode> getSiblingsOf(TabNode node) {
@@ -217,13 +249,7 @@ public class TabTree {
     }
 
     private TabPosition calculateNextChildPosition(TabNode parentNode) {
-        int position = parentNode.getChildren()
-                                 .stream()
-                                 .mapToInt(TabNode::getPosition)
-                                 .max()
-                                 .orElse(-1) + 1;
-
-        return TabPosition.create(position);
+        return TabPosition.create(parentNode.getMaxChildPosition()).next();
     }
 
     public static class TabNodeNotFoundException extends IllegalArgumentException {
@@ -1,5 +1,6 @@
 package com.management.tab.domain.tab.vo;
 
+import java.util.Optional;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
@@ -7,14 +8,44 @@ import lombok.Getter;
 @EqualsAndHashCode
 public class TabPosition {
 
+    public static final int GAP = 1024;
+
+    private static final int LOWER_BOUND = -1;
+
     private final int value;
 
     public static TabPosition defaultPosition() {
         return new TabPosition(0);
     }
 
+    public static TabPosition spaced(int index) {
+        return TabPosition.create(Math.multiplyExact(index, GAP));
+    }
+
     public TabPosition next() {
-        return new TabPosition(value + 1);
+        return new TabPosition(Math.addExact(value, GAP));
+    }
+
+    public boolean hasRoomFor(int count) {
+        return (long) value + (long) GAP * count <= Integer.MAX_VALUE;
+    }
+
+    public Optional<TabPosition> before() {
+        return midpoint(LOWER_BOUND, value);
+    }
+
+    public Optional<TabPosition> between(TabPosition upper) {
+        return midpoint(value, upper.value);
+    }
+
+    private static Optional<TabPosition> midpoint(int lower, int upper) {
+        int midpoint = lower + (upper - lower) / 2;
+
+        if (midpoint <= lower || midpoint >= upper) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new TabPosition(midpoint));
     }
 
     public static TabPosition create(int value) {
@@ -36,4 +67,8 @@ public class TabPosition {
     public boolean isFirst() {
         return value == 0;
     }
+
+    public boolean isAdjacentTo(TabPosition other) {
+        return Math.abs((long) value - other.value) <= 1;
+    }
 }
@@ -7,7 +7,7 @@ import lombok.Getter;
 @EqualsAndHashCode
 public class TabTitle {
 
-    private static final int MAX_LENGTH = 50;
+    public static final int MAX_LENGTH = 50;
 
     private final String value;
 
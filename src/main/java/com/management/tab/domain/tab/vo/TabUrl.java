@@ -13,6 +13,8 @@ public class TabUrl {
             "^https?://(?:www\\.)?[-a-zA-Z0-9@:%._\\+~#=]{1,256}\\.[a-zA-Z0-9()]{1,6}\\b[-a-zA-Z0-9()@:%_\\+.~#?&/=]*$"
     );
 
+    public static final TabUrl EMPTY_URL = new TabUrl(null);
+
     private final String value;
 
     public static TabUrl create(String value) {
@@ -33,4 +35,8 @@ public class TabUrl {
     private TabUrl(String value) {
         this.value = value;
     }
+
+    public boolean isEmpty() {
+        return value == null;
+    }
 }
@@ -0,0 +1,208 @@
+package com.management.tab.infrastructure.bookmark;
+
+import com.management.tab.application.tab.dto.request.ImportedTab;
+import com.management.tab.domain.tab.vo.TabTitle;
+import com.management.tab.domain.tab.vo.TabUrl;
+import com.management.tab.infrastructure.imports.InvalidTabImportException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.web.util.HtmlUtils;
+
+public class BookmarkHtmlTabImportReader implements Iterator<ImportedTab> {
+
+    private static final int MAX_TOKEN_LENGTH = 65_536;
+    private static final String UNTITLED = "제목 없음";
+    private static final Pattern HREF_PATTERN = Pattern.compile(
+            "\\bHREF\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s>]+))",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    private final Reader reader;
+
+    private int openLists;
+    private ImportedTab next;
+    private boolean finished;
+
+    public BookmarkHtmlTabImportReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = read();
+            finished = next == null;
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public ImportedTab next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        ImportedTab current = next;
+
+        next = null;
+        return current;
+    }
+
+    private ImportedTab read() {
+        try {
+            return readNextTab();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ImportedTab readNextTab() throws IOException {
+        int character;
+
+        while ((character = reader.read()) != -1) {
+            if (character != '<') {
+                continue;
+            }
+
+            String tag = readTag();
+
+            switch (tagName(tag)) {
+                case "DL" -> openLists++;
+                case "/DL" -> openLists--;
+                case "H3" -> {
+                    return readFolder(tag);
+                }
+                case "A" -> {
+                    ImportedTab link = readLink(tag);
+
+                    if (link != null) {
+                        return link;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private ImportedTab readFolder(String tag) throws IOException {
+        String href = findHref(tag);
+        String title = readTextUntil("/H3");
+
+        return new ImportedTab(depth(), toTitle(title, UNTITLED), isValidUrl(href) ? href : null);
+    }
+
+    private ImportedTab readLink(String tag) throws IOException {
+        String href = findHref(tag);
+        String title = readTextUntil("/A");
+
+        if (!isValidUrl(href)) {
+            return null;
+        }
+
+        return new ImportedTab(depth(), toTitle(title, href), href);
+    }
+
+    private int depth() {
+        return Math.max(openLists - 1, 0);
+    }
+
+    private String readTag() throws IOException {
+        StringBuilder tag = new StringBuilder();
+        int character;
+
+        while ((character = reader.read()) != -1 && character != '>') {
+            append(tag, character);
+        }
+
+        return tag.toString();
+    }
+
+    private String readTextUntil(String closingTagName) throws IOException {
+        StringBuilder text = new StringBuilder();
+        int character;
+
+        while ((character = reader.read()) != -1) {
+            if (character != '<') {
+                append(text, character);
+                continue;
+            }
+            if (tagName(readTag()).equals(closingTagName)) {
+                break;
+            }
+        }
+
+        return text.toString();
+    }
+
+    private void append(StringBuilder builder, int character) {
+        if (builder.length() >= MAX_TOKEN_LENGTH) {
+            throw new InvalidTabImportException("북마크 파일의 태그나 제목이 너무 깁니다.");
+        }
+
+        builder.append((char) character);
+    }
+
+    private String tagName(String tag) {
+        String trimmed = tag.strip();
+        int end = 0;
+
+        while (end < trimmed.length() && !Character.isWhitespace(trimmed.charAt(end))) {
+            end++;
+        }
+
+        return trimmed.substring(0, end).toUpperCase(Locale.ROOT);
+    }
+
+    private String findHref(String tag) {
+        Matcher matcher = HREF_PATTERN.matcher(tag);
+
+        if (!matcher.find()) {
+            return null;
+        }
+
+        for (int group = 1; group <= matcher.groupCount(); group++) {
+            if (matcher.group(group) != null) {
+                return HtmlUtils.htmlUnescape(matcher.group(group)).strip();
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isValidUrl(String url) {
+        if (url == null) {
+            return false;
+        }
+
+        try {
+            TabUrl.create(url);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private String toTitle(String text, String fallback) {
+        String title = HtmlUtils.htmlUnescape(text).strip();
+
+        if (title.isEmpty()) {
+            title = fallback;
+        }
+        if (title.length() > TabTitle.MAX_LENGTH) {
+            return title.substring(0, TabTitle.MAX_LENGTH);
+        }
+
+        return title;
+    }
+}
@@ -0,0 +1,115 @@
+package com.management.tab.infrastructure.bookmark;
+
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabNode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import org.springframework.web.util.HtmlUtils;
+
+public class BookmarkHtmlWriter {
+
+    private static final String INDENT = "    ";
+    private static final String HEADER = """
+            <!DOCTYPE NETSCAPE-Bookmark-file-1>
+            <META HTTP-EQUIV="Content-Type" CONTENT="text/html; charset=UTF-8">
+            <TITLE>Bookmarks</TITLE>
+            <H1>%s</H1>
+            <DL><p>
+            """;
+
+    private final Writer writer;
+    private final ZoneId zoneId;
+
+    private TabNode pending;
+    private int openFolders;
+
+    public BookmarkHtmlWriter(Writer writer, ZoneId zoneId) {
+        this.writer = writer;
+        this.zoneId = zoneId;
+    }
+
+    public void writeHeader(String title) {
+        write(HEADER.formatted(escape(title)));
+    }
+
+    public void write(TabNode tabNode) {
+        if (pending != null) {
+            writePending(tabNode.getDepth() > pending.getDepth());
+        }
+
+        closeFoldersUntil(tabNode.getDepth());
+        pending = tabNode;
+    }
+
+    public void finish() {
+        if (pending != null) {
+            writePending(false);
+            pending = null;
+        }
+
+        closeFoldersUntil(0);
+        write("</DL><p>\n");
+        flush();
+    }
+
+    private void writePending(boolean hasChildren) {
+        Tab tab = pending.getTab();
+        String indent = INDENT.repeat(pending.getDepth() + 1);
+
+        if (!hasChildren && tab.hasUrl()) {
+            write(indent + "<DT><A HREF=\"" + escape(tab.getUrl()) + "\"" + addDate(tab) + ">"
+                    + escape(tab.getTitle()) + "</A>\n");
+            return;
+        }
+
+        String href = tab.hasUrl() ? " HREF=\"" + escape(tab.getUrl()) + "\"" : "";
+
+        write(indent + "<DT><H3" + addDate(tab) + href + ">" + escape(tab.getTitle()) + "</H3>\n");
+        write(indent + "<DL><p>\n");
+
+        if (hasChildren) {
+            openFolders++;
+            return;
+        }
+
+        write(indent + "</DL><p>\n");
+    }
+
+    private void closeFoldersUntil(int depth) {
+        while (openFolders > depth) {
+            write(INDENT.repeat(openFolders) + "</DL><p>\n");
+            openFolders--;
+        }
+    }
+
+    private String addDate(Tab tab) {
+        if (tab.getCreatedAt() == null) {
+            return "";
+        }
+
+        return " ADD_DATE=\"" + tab.getCreatedAt().atZone(zoneId).toEpochSecond() + "\"";
+    }
+
+    private String escape(String value) {
+        return HtmlUtils.htmlEscape(value, StandardCharsets.UTF_8.name());
+    }
+
+    private void write(String value) {
+        try {
+            writer.write(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
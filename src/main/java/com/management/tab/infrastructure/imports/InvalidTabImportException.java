@@ -0,0 +1,8 @@
+package com.management.tab.infrastructure.imports;
+
+public class InvalidTabImportException extends IllegalArgumentException {
+
+    public InvalidTabImportException(String message) {
+        super(message);
+    }
+}
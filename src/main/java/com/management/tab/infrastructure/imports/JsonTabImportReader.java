@@ -0,0 +1,147 @@
+package com.management.tab.infrastructure.imports;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.management.tab.application.tab.dto.request.ImportedTab;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class JsonTabImportReader implements Iterator<ImportedTab> {
+
+    private final JsonParser parser;
+
+    private int depth = -1;
+    private String title;
+    private String url;
+    private boolean emitted;
+    private ImportedTab next;
+    private boolean finished;
+
+    public JsonTabImportReader(JsonFactory jsonFactory, InputStream inputStream) {
+        try {
+            this.parser = jsonFactory.createParser(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = read();
+            finished = next == null;
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public ImportedTab next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        ImportedTab current = next;
+
+        next = null;
+        return current;
+    }
+
+    private ImportedTab read() {
+        try {
+            return readNextTab();
+        } catch (JsonProcessingException e) {
+            throw new InvalidTabImportException(e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ImportedTab readNextTab() throws IOException {
+        JsonToken token;
+
+        while ((token = parser.nextToken()) != null) {
+            if (depth < 0 && token != JsonToken.START_ARRAY) {
+                throw new InvalidTabImportException("가져올 탭 목록은 배열이어야 합니다.");
+            }
+
+            switch (token) {
+                case START_ARRAY -> depth++;
+                case END_ARRAY -> depth--;
+                case START_OBJECT -> startTab();
+                case FIELD_NAME -> {
+                    ImportedTab importedTab = readField();
+
+                    if (importedTab != null) {
+                        return importedTab;
+                    }
+                }
+                case END_OBJECT -> {
+                    if (!emitted) {
+                        return emit();
+                    }
+                }
+                default -> throw new InvalidTabImportException("탭 목록에는 탭 객체만 올 수 있습니다.");
+            }
+        }
+
+        return null;
+    }
+
+    private void startTab() {
+        title = null;
+        url = null;
+        emitted = false;
+    }
+
+    private ImportedTab readField() throws IOException {
+        String fieldName = parser.currentName();
+        JsonToken valueToken = parser.nextToken();
+
+        switch (fieldName) {
+            case "title" -> title = readText(valueToken);
+            case "url" -> url = readText(valueToken);
+            case "children" -> {
+                return readChildren(valueToken);
+            }
+            default -> parser.skipChildren();
+        }
+
+        return null;
+    }
+
+    private String readText(JsonToken valueToken) throws IOException {
+        if (emitted) {
+            throw new InvalidTabImportException("title과 url은 children보다 앞에 와야 합니다.");
+        }
+        if (valueToken == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        return parser.getValueAsString();
+    }
+
+    private ImportedTab readChildren(JsonToken valueToken) {
+        if (valueToken == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (valueToken != JsonToken.START_ARRAY) {
+            throw new InvalidTabImportException("children은 배열이어야 합니다.");
+        }
+
+        ImportedTab importedTab = emit();
+
+        depth++;
+        return importedTab;
+    }
+
+    private ImportedTab emit() {
+        emitted = true;
+        return new ImportedTab(depth, title, url);
+    }
+}
@@ -0,0 +1,64 @@
+package com.management.tab.infrastructure.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.tab.application.tab.dto.request.ImportedTab;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+public class NdjsonTabImportReader implements Iterator<ImportedTab> {
+
+    private final MappingIterator<ImportedTab> lines;
+
+    private int previousDepth = -1;
+
+    public NdjsonTabImportReader(ObjectMapper objectMapper, InputStream inputStream) {
+        try {
+            this.lines = objectMapper.readerFor(ImportedTab.class)
+                                     .readValues(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return lines.hasNextValue();
+        } catch (JsonProcessingException e) {
+            throw new InvalidTabImportException(e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ImportedTab next() {
+        ImportedTab importedTab = readLine();
+
+        validateDepth(importedTab.depth());
+        previousDepth = importedTab.depth();
+        return importedTab;
+    }
+
+    private ImportedTab readLine() {
+        try {
+            return lines.nextValue();
+        } catch (JsonProcessingException e) {
+            throw new InvalidTabImportException(e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void validateDepth(int depth) {
+        if (depth < 0 || depth > previousDepth + 1) {
+            throw new InvalidTabImportException(
+                    "탭의 깊이는 0 이상이고 이전 탭보다 최대 1만 깊어질 수 있습니다. 깊이: " + depth
+            );
+        }
+    }
+}
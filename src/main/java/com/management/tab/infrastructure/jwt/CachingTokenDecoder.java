@@ -0,0 +1,54 @@
+package com.management.tab.infrastructure.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.management.tab.config.auth.security.enums.TokenType;
+import com.management.tab.domain.auth.PrivateClaims;
+import com.management.tab.domain.auth.TokenDecoder;
+import com.management.tab.infrastructure.jwt.JwtDecoder.ExpiredTokenException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CachingTokenDecoder implements TokenDecoder {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Clock clock;
+    private final JwtDecoder jwtDecoder;
+    private final Cache<TokenCacheKey, DecodedToken> cache;
+
+    @Override
+    public PrivateClaims decode(TokenType tokenType, String token) {
+        if (token == null || token.isBlank()) {
+            return jwtDecoder.decode(tokenType, token);
+        }
+
+        TokenCacheKey key = new TokenCacheKey(tokenType, digest(token));
+        DecodedToken decodedToken = cache.get(key, ignored -> jwtDecoder.decodeToken(tokenType, token));
+
+        if (decodedToken.isExpiredAt(clock.instant())) {
+            cache.invalidate(key);
+            throw new ExpiredTokenException();
+        }
+
+        return decodedToken.privateClaims();
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance(DIGEST_ALGORITHM)
+                                       .digest(token.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("토큰 해시 알고리즘을 지원하지 않는 환경입니다.", e);
+        }
+    }
+
+    public record TokenCacheKey(TokenType tokenType, String digest) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.management.tab.infrastructure.jwt;
+
+import com.management.tab.domain.auth.PrivateClaims;
+import java.time.Instant;
+
+public record DecodedToken(PrivateClaims privateClaims, Instant expiresAt) {
+
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,60 @@
+package com.management.tab.infrastructure.jwt;
+
+import com.management.tab.infrastructure.jwt.JwtDecoder.InvalidTokenException;
+import com.nimbusds.jose.EncryptionMethod;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWEDecrypter;
+import com.nimbusds.jose.JWEEncrypter;
+import com.nimbusds.jose.JWEHeader;
+import com.nimbusds.jose.JWEObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jwt.SignedJWT;
+import java.text.ParseException;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class JweEnvelope implements JwtEnvelope {
+
+    private static final String TOKEN_CONTENT_TYPE = "JWT";
+
+    private final JWEAlgorithm algorithm;
+    private final EncryptionMethod encryptionMethod;
+    private final JWEEncrypter jweEncrypter;
+    private final JWEDecrypter jweDecrypter;
+
+    public static JweEnvelope keyWrapped(JWEEncrypter jweEncrypter, JWEDecrypter jweDecrypter) {
+        return new JweEnvelope(JWEAlgorithm.A192KW, EncryptionMethod.A256GCM, jweEncrypter, jweDecrypter);
+    }
+
+    public static JweEnvelope direct(JWEEncrypter jweEncrypter, JWEDecrypter jweDecrypter) {
+        return new JweEnvelope(JWEAlgorithm.DIR, EncryptionMethod.A256GCM, jweEncrypter, jweDecrypter);
+    }
+
+    @Override
+    public String seal(SignedJWT signedJwt) throws JOSEException {
+        JWEHeader header = new JWEHeader.Builder(algorithm, encryptionMethod)
+                .contentType(TOKEN_CONTENT_TYPE)
+                .build();
+        JWEObject jweObject = new JWEObject(header, new Payload(signedJwt));
+
+        jweObject.encrypt(jweEncrypter);
+        return jweObject.serialize();
+    }
+
+    @Override
+    public SignedJWT open(String token) throws ParseException, JOSEException {
+        JWEObject jweObject = JWEObject.parse(token);
+
+        validateHeader(jweObject.getHeader());
+        jweObject.decrypt(jweDecrypter);
+        return jweObject.getPayload()
+                        .toSignedJWT();
+    }
+
+    private void validateHeader(JWEHeader header) {
+        if (!algorithm.equals(header.getAlgorithm()) || !encryptionMethod.equals(header.getEncryptionMethod())) {
+            throw new InvalidTokenException("허용되지 않은 토큰 형식입니다.");
+        }
+    }
+}
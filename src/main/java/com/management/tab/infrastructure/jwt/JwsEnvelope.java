@@ -0,0 +1,17 @@
+package com.management.tab.infrastructure.jwt;
+
+import com.nimbusds.jwt.SignedJWT;
+import java.text.ParseException;
+
+public class JwsEnvelope implements JwtEnvelope {
+
+    @Override
+    public String seal(SignedJWT signedJwt) {
+        return signedJwt.serialize();
+    }
+
+    @Override
+    public SignedJWT open(String token) throws ParseException {
+        return SignedJWT.parse(token);
+    }
+}
@@ -5,8 +5,6 @@ import com.management.tab.domain.auth.TokenDecoder;
 import com.management.tab.config.properties.TokenProperties;
 import com.management.tab.config.auth.security.enums.TokenType;
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.JWEDecrypter;
-import com.nimbusds.jose.JWEObject;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
@@ -23,17 +21,21 @@ public class JwtDecoder implements TokenDecoder {
     private static final String CLAIM_ID = "id";
 
     private final Clock clock;
-    private final JWEDecrypter jweDecrypter;
+    private final JwtEnvelopeFinder jwtEnvelopeFinder;
     private final JwsVerifierFinder jwsVerifierFinder;
     private final TokenProperties tokenProperties;
 
     @Override
     public PrivateClaims decode(TokenType tokenType, String token) {
+        return decodeToken(tokenType, token).privateClaims();
+    }
+
+    public DecodedToken decodeToken(TokenType tokenType, String token) {
         validateToken(token);
 
         JWTClaimsSet claimsSet = parse(tokenType, token);
 
-        return convert(claimsSet);
+        return new DecodedToken(convert(claimsSet), claimsSet.getExpirationTime().toInstant());
     }
 
     private void validateToken(String token) {
@@ -70,8 +72,8 @@ public class JwtDecoder implements TokenDecoder {
     }
 
     private JWTClaimsSet findJWTClaimsSet(TokenType tokenType, String token) throws ParseException, JOSEException {
-        JWEObject jweObject = findJWEObject(token);
-        SignedJWT signedJwt = findSignedJWT(jweObject);
+        SignedJWT signedJwt = jwtEnvelopeFinder.findByTokenType(tokenType)
+                                               .open(token);
         JWSVerifier jwsVerifier = findJWSVerifier(tokenType);
 
         validateSign(signedJwt, jwsVerifier);
@@ -79,18 +81,6 @@ public class JwtDecoder implements TokenDecoder {
         return signedJwt.getJWTClaimsSet();
     }
 
-    private JWEObject findJWEObject(String token) throws ParseException, JOSEException {
-        JWEObject jweObject = JWEObject.parse(token);
-
-        jweObject.decrypt(jweDecrypter);
-        return jweObject;
-    }
-
-    private SignedJWT findSignedJWT(JWEObject jweObject) {
-        return jweObject.getPayload()
-                        .toSignedJWT();
-    }
-
     private JWSVerifier findJWSVerifier(TokenType tokenType) {
         return jwsVerifierFinder.findByTokenType(tokenType);
     }
@@ -3,17 +3,11 @@ package com.management.tab.infrastructure.jwt;
 import com.management.tab.domain.auth.TokenEncoder;
 import com.management.tab.config.properties.TokenProperties;
 import com.management.tab.config.auth.security.enums.TokenType;
-import com.nimbusds.jose.EncryptionMethod;
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.JWEAlgorithm;
-import com.nimbusds.jose.JWEEncrypter;
-import com.nimbusds.jose.JWEHeader;
-import com.nimbusds.jose.JWEObject;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSHeader.Builder;
 import com.nimbusds.jose.KeyLengthException;
-import com.nimbusds.jose.Payload;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import java.time.Instant;
@@ -26,9 +20,8 @@ import lombok.RequiredArgsConstructor;
 public class JwtEncoder implements TokenEncoder {
 
     private static final String CLAIM_ID = "id";
-    private static final String TOKEN_CONTENT_TYPE = "JWT";
 
-    private final JWEEncrypter jweEncrypter;
+    private final JwtEnvelopeFinder jwtEnvelopeFinder;
     private final JwsSignerFinder jwsSignerFinder;
     private final TokenProperties tokenProperties;
 
@@ -44,18 +37,11 @@ public class JwtEncoder implements TokenEncoder {
     }
 
     private String serializeToken(LocalDateTime publishTime, TokenType tokenType, Long userId) throws JOSEException {
-        JWEHeader header = createJweHeader();
         JWTClaimsSet claims = createJwtPayload(tokenType, userId, publishTime);
         SignedJWT signedJwt = setupSignedJwt(claims, tokenType);
-        JWEObject jweObject = setupJweObject(header, signedJwt);
 
-        return jweObject.serialize();
-    }
-
-    private JWEHeader createJweHeader() {
-        return new JWEHeader.Builder(JWEAlgorithm.A192KW, EncryptionMethod.A256GCM)
-                .contentType(TOKEN_CONTENT_TYPE)
-                .build();
+        return jwtEnvelopeFinder.findByTokenType(tokenType)
+                                .seal(signedJwt);
     }
 
     private JWTClaimsSet createJwtPayload(TokenType tokenType, Long userId, LocalDateTime publishTime) {
@@ -77,14 +63,6 @@ public class JwtEncoder implements TokenEncoder {
         return signedJwt;
     }
 
-    private JWEObject setupJweObject(JWEHeader header, SignedJWT signedJwt) throws JOSEException {
-        Payload payload = new Payload(signedJwt);
-        JWEObject jweObject = new JWEObject(header, payload);
-
-        jweObject.encrypt(jweEncrypter);
-        return jweObject;
-    }
-
     private Date convertDate(LocalDateTime target) {
         Instant targetInstant = target.atZone(ZoneId.systemDefault())
                                       .toInstant();
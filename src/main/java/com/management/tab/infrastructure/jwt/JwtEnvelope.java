@@ -0,0 +1,12 @@
+package com.management.tab.infrastructure.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.SignedJWT;
+import java.text.ParseException;
+
+public interface JwtEnvelope {
+
+    String seal(SignedJWT signedJwt) throws JOSEException;
+
+    SignedJWT open(String token) throws ParseException, JOSEException;
+}
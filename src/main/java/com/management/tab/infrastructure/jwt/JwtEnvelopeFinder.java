@@ -0,0 +1,19 @@
+package com.management.tab.infrastructure.jwt;
+
+import com.management.tab.config.auth.security.enums.TokenType;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class JwtEnvelopeFinder {
+
+    private final JwtEnvelope accessTokenEnvelope;
+    private final JwtEnvelope refreshTokenEnvelope;
+
+    public JwtEnvelope findByTokenType(TokenType tokenType) {
+        if (TokenType.ACCESS == tokenType) {
+            return accessTokenEnvelope;
+        }
+
+        return refreshTokenEnvelope;
+    }
+}
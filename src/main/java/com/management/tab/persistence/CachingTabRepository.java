@@ -0,0 +1,191 @@
+package com.management.tab.persistence;
+
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.repository.TabRepository;
+import com.management.tab.domain.tab.PersistentTabTree;
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabCursor;
+import com.management.tab.domain.tab.TabNode;
+import com.management.tab.domain.tab.TabOutline;
+import com.management.tab.domain.tab.TabTree;
+import com.management.tab.domain.tab.TabTree.TabNodeNotFoundException;
+import com.management.tab.domain.tab.vo.TabId;
+import com.management.tab.domain.tab.vo.TabPosition;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+@Primary
+@Repository
+@RequiredArgsConstructor
+public class CachingTabRepository implements TabRepository {
+
+    private final JdbcTabRepository jdbcTabRepository;
+    private final TabTreeCache tabTreeCache;
+
+    @Override
+    public Tab saveRoot(Tab rootTab) {
+        Tab savedTab = jdbcTabRepository.saveRoot(rootTab);
+
+        tabTreeCache.update(rootTab.tabGroupId(), tabTree -> tabTree.insert(savedTab));
+        return savedTab;
+    }
+
+    @Override
+    public Tab saveChild(Tab childTab) {
+        Tab savedTab = jdbcTabRepository.saveChild(childTab);
+
+        tabTreeCache.update(childTab.tabGroupId(), tabTree -> tabTree.insert(savedTab));
+        return savedTab;
+    }
+
+    @Override
+    public List<Tab> saveAll(List<Tab> tabs) {
+        List<Tab> savedTabs = jdbcTabRepository.saveAll(tabs);
+
+        tabs.stream()
+            .map(Tab::tabGroupId)
+            .distinct()
+            .forEach(tabTreeCache::invalidate);
+        return savedTabs;
+    }
+
+    @Override
+    public Tab findTab(Long tabId) {
+        return jdbcTabRepository.findTab(tabId);
+    }
+
+    @Override
+    public TabTree findTabTree(TabGroupId groupId) {
+        return tabTreeCache.get(groupId, jdbcTabRepository::findTabTree);
+    }
+
+    @Override
+    public void streamPreOrder(TabGroupId groupId, Consumer<TabNode> tabNodeConsumer) {
+        jdbcTabRepository.streamPreOrder(groupId, tabNodeConsumer);
+    }
+
+    @Override
+    public List<TabNode> findPreOrderWindow(TabGroupId groupId, int offset, int limit) {
+        return jdbcTabRepository.findPreOrderWindow(groupId, offset, limit);
+    }
+
+    @Override
+    public int countPreOrdered(TabGroupId groupId) {
+        return jdbcTabRepository.countPreOrdered(groupId);
+    }
+
+    @Override
+    public List<TabGroupId> findStalePreOrderGroupIds() {
+        return jdbcTabRepository.findStalePreOrderGroupIds();
+    }
+
+    @Override
+    public void renumberPreOrder(TabGroupId groupId) {
+        jdbcTabRepository.renumberPreOrder(groupId);
+    }
+
+    @Override
+    public List<TabOutline> findSubtree(TabId tabId, int maxDepth, int childrenLimit, int rowLimit) {
+        return jdbcTabRepository.findSubtree(tabId, maxDepth, childrenLimit, rowLimit);
+    }
+
+    @Override
+    public List<TabOutline> findChildren(TabGroupId groupId, TabId parentId, TabCursor after, int limit) {
+        return jdbcTabRepository.findChildren(groupId, parentId, after, limit);
+    }
+
+    @Override
+    public TabId findParentId(Long tabId) {
+        return jdbcTabRepository.findParentId(tabId);
+    }
+
+    @Override
+    public TabPosition findLastRootPosition(Long groupId) {
+        return jdbcTabRepository.findLastRootPosition(groupId);
+    }
+
+    @Override
+    public List<Tab> findSiblings(TabId parentId) {
+        return jdbcTabRepository.findSiblings(parentId);
+    }
+
+    @Override
+    public List<Tab> findRootSiblings(TabGroupId groupId) {
+        return jdbcTabRepository.findRootSiblings(groupId);
+    }
+
+    @Override
+    public void updateMoved(Tab movedTab, TabId currentParentId) {
+        jdbcTabRepository.updateMoved(movedTab, currentParentId);
+        tabTreeCache.update(movedTab.tabGroupId(), tabTree -> moveKeepingPosition(tabTree, movedTab, false));
+    }
+
+    @Override
+    public void updateMovedTabWithSubtree(Tab movedTab) {
+        jdbcTabRepository.updateMovedTabWithSubtree(movedTab);
+        tabTreeCache.update(movedTab.tabGroupId(), tabTree -> moveKeepingPosition(tabTree, movedTab, true));
+    }
+
+    @Override
+    public void updateMovedRoot(Tab movedTab, TabId currentParentId) {
+        jdbcTabRepository.updateMovedRoot(movedTab, currentParentId);
+        tabTreeCache.update(movedTab.tabGroupId(), tabTree -> moveKeepingPosition(tabTree, movedTab, false));
+    }
+
+    @Override
+    public void updateMovedRootWithSubtree(Tab movedTab) {
+        jdbcTabRepository.updateMovedRootWithSubtree(movedTab);
+        tabTreeCache.update(movedTab.tabGroupId(), tabTree -> moveKeepingPosition(tabTree, movedTab, true));
+    }
+
+    @Override
+    public void updatePosition(Tab repositionedTab) {
+        jdbcTabRepository.updatePosition(repositionedTab);
+        tabTreeCache.update(
+                repositionedTab.tabGroupId(),
+                tabTree -> tabTree.reorder(repositionedTab.id(), repositionedTab.position())
+        );
+    }
+
+    @Override
+    public void updatePositions(List<Tab> repositionedTabs) {
+        jdbcTabRepository.updatePositions(repositionedTabs);
+        repositionedTabs.forEach(repositionedTab -> tabTreeCache.update(
+                repositionedTab.tabGroupId(),
+                tabTree -> tabTree.reorder(repositionedTab.id(), repositionedTab.position())
+        ));
+    }
+
+    @Override
+    public void updateTabInfo(Tab updatedTab) {
+        jdbcTabRepository.updateTabInfo(updatedTab);
+        tabTreeCache.update(updatedTab.tabGroupId(), tabTree -> tabTree.update(updatedTab));
+    }
+
+    @Override
+    public void deleteTabWithSubtree(Tab tab) {
+        jdbcTabRepository.deleteTabWithSubtree(tab);
+        tabTreeCache.update(tab.tabGroupId(), tabTree -> tabTree.deleteWithSubtree(tab.id()));
+    }
+
+    @Override
+    public void deleteTab(Tab tab) {
+        jdbcTabRepository.deleteTab(tab);
+        tabTreeCache.update(tab.tabGroupId(), tabTree -> tabTree.delete(tab.id()));
+    }
+
+    private PersistentTabTree moveKeepingPosition(PersistentTabTree tabTree, Tab movedTab, boolean withSubtree) {
+        TabPosition storedPosition = tabTree.findNode(movedTab.id())
+                                            .map(node -> node.getTab().position())
+                                            .orElseThrow(TabNodeNotFoundException::new);
+
+        if (withSubtree) {
+            return tabTree.moveWithSubtree(movedTab.id(), movedTab.parentId(), storedPosition);
+        }
+
+        return tabTree.move(movedTab.id(), movedTab.parentId(), storedPosition);
+    }
+}
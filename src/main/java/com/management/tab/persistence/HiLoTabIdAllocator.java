@@ -0,0 +1,106 @@
+package com.management.tab.persistence;
+
+import com.management.tab.domain.repository.TabIdAllocator;
+import com.management.tab.domain.tab.vo.TabId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class HiLoTabIdAllocator implements TabIdAllocator {
+
+    private static final String SEQUENCE_NAME = "tabs";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long nextId;
+    private long blockEnd;
+
+    public HiLoTabIdAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, int blockSize) {
+        validateBlockSize(blockSize);
+
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    private void validateBlockSize(int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("식별자 블록 크기는 양수여야 합니다.");
+        }
+    }
+
+    @Override
+    public List<TabId> allocate(int count) {
+        lock.lock();
+
+        try {
+            List<TabId> tabIds = new ArrayList<>(count);
+
+            while (tabIds.size() < count) {
+                if (nextId >= blockEnd) {
+                    reserveBlocks(count - tabIds.size());
+                }
+
+                tabIds.add(TabId.create(nextId++));
+            }
+
+            return tabIds;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reserveBlocks(int remainingCount) {
+        int blockCount = (remainingCount + blockSize - 1) / blockSize;
+        Long hi = transactionTemplate.execute(status -> incrementHi(blockCount));
+
+        nextId = hi * blockSize;
+        blockEnd = (hi + blockCount) * blockSize;
+    }
+
+    private Long incrementHi(int blockCount) {
+        initializeSequence();
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("name", SEQUENCE_NAME)
+                .addValue("blockCount", blockCount);
+
+        jdbcTemplate.update("UPDATE id_sequences SET next_hi = next_hi + :blockCount WHERE name = :name", params);
+
+        Long nextHi = jdbcTemplate.queryForObject(
+                "SELECT next_hi FROM id_sequences WHERE name = :name",
+                params,
+                Long.class
+        );
+
+        return nextHi - blockCount;
+    }
+
+    private void initializeSequence() {
+        String sql = """
+                INSERT INTO id_sequences (name, next_hi)
+                SELECT :name, FLOOR(COALESCE(MAX(id), 0) / :blockSize) + 1
+                FROM tabs
+                WHERE NOT EXISTS (SELECT 1 FROM id_sequences WHERE name = :name)
+                """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("name", SEQUENCE_NAME)
+                .addValue("blockSize", blockSize);
+
+        try {
+            jdbcTemplate.update(sql, params);
+        } catch (DuplicateKeyException ignored) {
+        }
+    }
+}
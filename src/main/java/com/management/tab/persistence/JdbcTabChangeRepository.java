@@ -0,0 +1,39 @@
+package com.management.tab.persistence;
+
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.repository.TabChangeRepository;
+import com.management.tab.domain.tab.TabChange;
+import com.management.tab.persistence.dao.TabChangeDao;
+import com.management.tab.persistence.dao.dto.TabChangeDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcTabChangeRepository implements TabChangeRepository {
+
+    private static final long INITIAL_VERSION = 0L;
+
+    private final TabChangeDao tabChangeDao;
+
+    @Override
+    public List<TabChange> findAllBetween(TabGroupId groupId, long sinceVersion, long untilVersion) {
+        return tabChangeDao.findAllBetween(groupId.getValue(), sinceVersion, untilVersion)
+                           .stream()
+                           .map(TabChangeDto::toTabChange)
+                           .toList();
+    }
+
+    @Override
+    public long findCompactedVersion(TabGroupId groupId) {
+        return tabChangeDao.findCompactedVersion(groupId.getValue())
+                           .orElse(INITIAL_VERSION);
+    }
+
+    @Override
+    public void compactBefore(LocalDateTime threshold) {
+        tabChangeDao.compactBefore(threshold);
+    }
+}
@@ -5,6 +5,7 @@ import com.management.tab.domain.content.vo.TabContentId;
 import com.management.tab.domain.repository.TabContentRepository;
 import com.management.tab.domain.tab.vo.TabId;
 import com.management.tab.persistence.dao.TabContentDao;
+import com.management.tab.persistence.dao.TabGroupDao;
 import com.management.tab.persistence.dao.dto.TabContentDto;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Repository;
 public class JdbcTabContentRepository implements TabContentRepository {
 
     private final TabContentDao tabContentDao;
+    private final TabGroupDao tabGroupDao;
 
     @Override
     public List<TabContent> findAllByTabId(TabId tabid) {
@@ -41,21 +43,26 @@ public class JdbcTabContentRepository implements TabContentRepository {
                 tabContent.getUpdatedAt()
         );
 
+        tabGroupDao.increaseVersionByTabId(tabContent.getTabId());
+
         return tabContent.withId(TabContentId.create(tabContentId));
     }
 
     @Override
     public void update(TabContent updatedTabContent) {
+        tabGroupDao.increaseVersionByContentId(updatedTabContent.getId());
         tabContentDao.update(updatedTabContent.getId(), updatedTabContent.getContent(), LocalDateTime.now());
     }
 
     @Override
     public void delete(Long id) {
+        tabGroupDao.increaseVersionByContentId(id);
         tabContentDao.delete(id);
     }
 
     @Override
     public void deleteAllByTabId(TabId tabId) {
+        tabGroupDao.increaseVersionByTabId(tabId.getValue());
         tabContentDao.deleteAllByTabId(tabId.getValue());
     }
 
@@ -1,9 +1,12 @@
 package com.management.tab.persistence;
 
 import com.management.tab.domain.group.TabGroup;
+import com.management.tab.domain.group.TabGroupSummary;
+import com.management.tab.domain.group.vo.TabGroupId;
 import com.management.tab.domain.repository.TabGroupRepository;
 import com.management.tab.persistence.dao.TabGroupDao;
 import com.management.tab.persistence.dao.dto.TabGroupDto;
+import com.management.tab.persistence.dao.dto.TabGroupSummaryDto;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -12,24 +15,35 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class JdbcTabGroupRepository implements TabGroupRepository {
 
+    private static final long INITIAL_VERSION = 0L;
+
     private final TabGroupDao tabGroupDao;
+    private final TabTreeCache tabTreeCache;
 
     @Override
-    public List<TabGroup> findAll() {
-        return tabGroupDao.findAll()
+    public List<TabGroup> findAll(long afterId, int limit) {
+        return tabGroupDao.findAll(afterId, limit)
                           .stream()
                           .map(TabGroupDto::toTabGroup)
                           .toList();
     }
 
     @Override
-    public List<TabGroup> findAllByWriterId(Long writerId) {
-        return tabGroupDao.findAllByWriterId(writerId)
+    public List<TabGroup> findAllByWriterId(Long writerId, long afterId, int limit) {
+        return tabGroupDao.findAllByWriterId(writerId, afterId, limit)
                           .stream()
                           .map(TabGroupDto::toTabGroup)
                           .toList();
     }
 
+    @Override
+    public List<TabGroupSummary> findSummaries(long afterId, int limit) {
+        return tabGroupDao.findSummaries(afterId, limit)
+                          .stream()
+                          .map(TabGroupSummaryDto::toTabGroupSummary)
+                          .toList();
+    }
+
     @Override
     public TabGroup findById(Long id) {
         return tabGroupDao.findById(id)
@@ -57,10 +71,29 @@ public class JdbcTabGroupRepository implements TabGroupRepository {
     @Override
     public void delete(TabGroup tabGroup) {
         tabGroupDao.delete(tabGroup.getId());
+        tabTreeCache.invalidate(TabGroupId.create(tabGroup.getId()));
     }
 
     @Override
     public int countTabs(Long id) {
         return tabGroupDao.countTabs(id);
     }
+
+    @Override
+    public long findVersion(Long id) {
+        return tabGroupDao.findVersion(id)
+                          .orElse(INITIAL_VERSION);
+    }
+
+    @Override
+    public long findVersionByTabId(Long tabId) {
+        return tabGroupDao.findVersionByTabId(tabId)
+                          .orElse(INITIAL_VERSION);
+    }
+
+    @Override
+    public long lockVersion(Long id) {
+        return tabGroupDao.lockVersion(id)
+                          .orElseThrow(TabGroupNotFoundException::new);
+    }
 }
@@ -3,20 +3,31 @@ package com.management.tab.persistence;
 import com.management.tab.domain.group.vo.TabGroupId;
 import com.management.tab.domain.repository.TabRepository;
 import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabCursor;
 import com.management.tab.domain.tab.TabNode;
+import com.management.tab.domain.tab.TabOutline;
 import com.management.tab.domain.tab.TabTree;
 import com.management.tab.domain.tab.vo.TabId;
 import com.management.tab.domain.tab.vo.TabPosition;
 import com.management.tab.persistence.dao.DeleteTabDao;
 import com.management.tab.persistence.dao.InsertTabDao;
 import com.management.tab.persistence.dao.SelectTabDao;
+import com.management.tab.persistence.dao.TabChangeDao;
+import com.management.tab.persistence.dao.TabGroupDao;
+import com.management.tab.persistence.dao.TabPreOrderRowCallbackHandler;
+import com.management.tab.persistence.dao.TabTreeRowCallbackHandler;
 import com.management.tab.persistence.dao.UpdateTabDao;
+import com.management.tab.persistence.dao.dto.TabChangeDto;
 import com.management.tab.persistence.dao.dto.TabDto;
-import com.management.tab.persistence.dao.dto.TabWithDepthDto;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -28,6 +39,9 @@ public class JdbcTabRepository implements TabRepository {
     private final SelectTabDao selectTabDao;
     private final UpdateTabDao updateTabDao;
     private final DeleteTabDao deleteTabDao;
+    private final TabGroupDao tabGroupDao;
+    private final TabChangeDao tabChangeDao;
+    private final Clock clock;
 
     @Override
     public Tab saveRoot(Tab rootTab) {
@@ -41,7 +55,10 @@ public class JdbcTabRepository implements TabRepository {
                 rootTab.getUpdatedAt()
         );
 
-        return rootTab.updateAssignedId(rootTabId);
+        Tab savedTab = rootTab.updateAssignedId(rootTabId);
+
+        recordChanges(List.of(savedTab), TabChangeDto::created);
+        return savedTab;
     }
 
     @Override
@@ -57,7 +74,33 @@ public class JdbcTabRepository implements TabRepository {
                 childTab.getUpdatedAt()
         );
 
-        return childTab.updateAssignedId(childTabId);
+        Tab savedTab = childTab.updateAssignedId(childTabId);
+
+        recordChanges(List.of(savedTab), TabChangeDto::created);
+        return savedTab;
+    }
+
+    @Override
+    public List<Tab> saveAll(List<Tab> tabs) {
+        List<TabDto> tabDtos = tabs.stream()
+                                   .map(TabDto::from)
+                                   .toList();
+
+        if (tabDtos.stream().allMatch(tabDto -> tabDto.id() != null)) {
+            insertTabDao.saveTabsWithIds(tabDtos);
+            recordChanges(tabs, TabChangeDto::created);
+            return tabs;
+        }
+
+        List<Long> tabIds = insertTabDao.saveTabs(tabDtos);
+        List<Tab> savedTabs = new ArrayList<>(tabs.size());
+
+        for (int i = 0; i < tabs.size(); i++) {
+            savedTabs.add(tabs.get(i).updateAssignedId(tabIds.get(i)));
+        }
+
+        recordChanges(savedTabs, TabChangeDto::created);
+        return savedTabs;
     }
 
     @Override
@@ -69,31 +112,86 @@ public class JdbcTabRepository implements TabRepository {
 
     @Override
     public TabTree findTabTree(TabGroupId groupId) {
-        List<TabWithDepthDto> tabWithDepthDtos = selectTabDao.findTreeByGroup(groupId.getValue());
-        Map<Long, TabNode> nodeMap = new HashMap<>();
-        List<TabNode> rootNodes = new ArrayList<>();
+        TabTreeRowCallbackHandler rowCallbackHandler = new TabTreeRowCallbackHandler();
 
-        for (TabWithDepthDto tabWithDepthDto : tabWithDepthDtos) {
-            TabNode tabNode = tabWithDepthDto.toTabNode();
+        selectTabDao.streamTreeByGroup(groupId.getValue(), rowCallbackHandler);
 
-            nodeMap.put(tabNode.getId().getValue(), tabNode);
+        return TabTree.create(groupId.getValue(), rowCallbackHandler.getRootNodes());
+    }
 
-            if (tabNode.isRoot()) {
-                rootNodes.add(tabNode);
-            }
+    @Override
+    public void streamPreOrder(TabGroupId groupId, Consumer<TabNode> tabNodeConsumer) {
+        TabPreOrderRowCallbackHandler rowCallbackHandler = new TabPreOrderRowCallbackHandler(tabNodeConsumer);
+
+        selectTabDao.streamNumberedPreOrderByGroup(groupId.getValue(), rowCallbackHandler);
+
+        if (rowCallbackHandler.getRowCount() == 0) {
+            selectTabDao.streamPreOrderByGroup(groupId.getValue(), rowCallbackHandler);
         }
+    }
+
+    @Override
+    public List<TabNode> findPreOrderWindow(TabGroupId groupId, int offset, int limit) {
+        List<TabNode> tabNodes = new ArrayList<>();
+
+        selectTabDao.findPreOrderWindow(
+                groupId.getValue(),
+                offset,
+                limit,
+                new TabPreOrderRowCallbackHandler(tabNodes::add)
+        );
+
+        return tabNodes;
+    }
+
+    @Override
+    public int countPreOrdered(TabGroupId groupId) {
+        return selectTabDao.countPreOrdered(groupId.getValue());
+    }
+
+    @Override
+    public List<TabGroupId> findStalePreOrderGroupIds() {
+        return tabGroupDao.findStalePreOrderIds()
+                          .stream()
+                          .map(TabGroupId::create)
+                          .toList();
+    }
+
+    @Override
+    public void renumberPreOrder(TabGroupId groupId) {
+        Long id = groupId.getValue();
+
+        tabGroupDao.lockVersion(id);
+        tabGroupDao.findStalePreOrderVersion(id)
+                   .ifPresent(version -> {
+                       updateTabDao.updatePreOrders(findChangedPreOrders(id));
+                       tabGroupDao.updatePreOrderVersion(id, version);
+                   });
+    }
+
+    private Map<Long, Integer> findChangedPreOrders(Long groupId) {
+        Map<Long, Integer> changedPreOrdersByTabId = new TreeMap<>();
+        int preOrder = 0;
 
-        for (TabWithDepthDto dto : tabWithDepthDtos) {
-            if (dto.hasParent()) {
-                dto.findParentNode(nodeMap)
-                   .ifPresent(
-                           parent -> dto.findChildNode(nodeMap)
-                                        .ifPresent(parent::addChild)
-                   );
+        for (Map.Entry<Long, Integer> entry : selectTabDao.findPreOrdersInTreeOrder(groupId).entrySet()) {
+            if (!Integer.valueOf(preOrder).equals(entry.getValue())) {
+                changedPreOrdersByTabId.put(entry.getKey(), preOrder);
             }
+
+            preOrder++;
         }
 
-        return TabTree.create(groupId.getValue(), rootNodes);
+        return changedPreOrdersByTabId;
+    }
+
+    @Override
+    public List<TabOutline> findSubtree(TabId tabId, int maxDepth, int childrenLimit, int rowLimit) {
+        return selectTabDao.findSubtree(tabId.getValue(), maxDepth, childrenLimit, rowLimit);
+    }
+
+    @Override
+    public List<TabOutline> findChildren(TabGroupId groupId, TabId parentId, TabCursor after, int limit) {
+        return selectTabDao.findChildrenPage(groupId.getValue(), parentId.getValue(), after, limit);
     }
 
     @Override
@@ -119,8 +217,8 @@ public class JdbcTabRepository implements TabRepository {
     }
 
     @Override
-    public List<Tab> findRootSiblings() {
-        return selectTabDao.findRootSiblings()
+    public List<Tab> findRootSiblings(TabGroupId groupId) {
+        return selectTabDao.findRootSiblings(groupId.getValue())
                            .stream()
                            .map(TabDto::toTab)
                            .toList();
@@ -129,40 +227,78 @@ public class JdbcTabRepository implements TabRepository {
     @Override
     public void updateMoved(Tab movedTab, TabId currentParentId) {
         updateTabDao.updateMovingTabOnly(movedTab.getId(), currentParentId.getValue(), movedTab.getParentId());
+        recordChanges(List.of(movedTab), (version, tab) -> TabChangeDto.moved(version, tab, false));
     }
 
     @Override
     public void updateMovedTabWithSubtree(Tab movedTab) {
         updateTabDao.updateMovingTabWithSubtree(movedTab.getId(), movedTab.getParentId());
+        recordChanges(List.of(movedTab), (version, tab) -> TabChangeDto.moved(version, tab, true));
     }
 
     @Override
     public void updateMovedRoot(Tab movedTab, TabId currentParentId) {
         updateTabDao.updateMovingTabOnly(movedTab.getId(), currentParentId.getValue(), null);
+        recordChanges(List.of(movedTab), (version, tab) -> TabChangeDto.moved(version, tab, false));
     }
 
     @Override
     public void updateMovedRootWithSubtree(Tab movedTab) {
         updateTabDao.updateMovingTabWithSubtree(movedTab.getId(), null);
+        recordChanges(List.of(movedTab), (version, tab) -> TabChangeDto.moved(version, tab, true));
     }
 
     @Override
-    public void updatePosition(TabId id, TabPosition position) {
-        updateTabDao.updatePosition(id.getValue(), position.getValue());
+    public void updatePosition(Tab repositionedTab) {
+        updateTabDao.updatePosition(repositionedTab.getId(), repositionedTab.getPosition());
+        recordChanges(List.of(repositionedTab), TabChangeDto::reordered);
+    }
+
+    @Override
+    public void updatePositions(List<Tab> repositionedTabs) {
+        Map<Long, Integer> positionsByTabId = new LinkedHashMap<>();
+
+        for (Tab repositionedTab : repositionedTabs) {
+            positionsByTabId.put(repositionedTab.getId(), repositionedTab.getPosition());
+        }
+
+        updateTabDao.updatePositions(positionsByTabId);
+        recordChanges(repositionedTabs, TabChangeDto::reordered);
     }
 
     @Override
     public void updateTabInfo(Tab updatedTab) {
         updateTabDao.updateTab(updatedTab.getId(), updatedTab.getTitle(), updatedTab.getUrl());
+        recordChanges(List.of(updatedTab), TabChangeDto::updated);
     }
 
     @Override
     public void deleteTabWithSubtree(Tab tab) {
         deleteTabDao.deleteTabWithSubtree(tab.getId());
+        recordChanges(List.of(tab), (version, deletedTab) -> TabChangeDto.deleted(version, deletedTab, true));
     }
 
     @Override
     public void deleteTab(Tab tab) {
         deleteTabDao.deleteTabOnly(tab.getId(), tab.getParentId());
+        recordChanges(List.of(tab), (version, deletedTab) -> TabChangeDto.deleted(version, deletedTab, false));
+    }
+
+    private void recordChanges(List<Tab> tabs, BiFunction<Long, Tab, TabChangeDto> changeFactory) {
+        Map<Long, List<Tab>> tabsByGroupId = new LinkedHashMap<>();
+        List<TabChangeDto> tabChangeDtos = new ArrayList<>(tabs.size());
+
+        for (Tab tab : tabs) {
+            tabsByGroupId.computeIfAbsent(tab.getTabGroupId(), ignored -> new ArrayList<>())
+                         .add(tab);
+        }
+
+        tabsByGroupId.forEach((groupId, groupTabs) -> {
+            long version = tabGroupDao.increaseVersion(groupId);
+
+            groupTabs.forEach(tab -> tabChangeDtos.add(changeFactory.apply(version, tab)));
+        });
+
+        tabChangeDao.saveAll(tabChangeDtos, LocalDateTime.now(clock));
     }
 }
@@ -0,0 +1,227 @@
+package com.management.tab.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.tab.PersistentTabTree;
+import com.management.tab.domain.tab.TabTree;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class TabTreeCache {
+
+    private final Cache<TabGroupId, PersistentTabTree> cache;
+    private final ConcurrentMap<TabGroupId, GroupState> groupStates = new ConcurrentHashMap<>();
+
+    public TabTree get(TabGroupId groupId, Function<TabGroupId, TabTree> loader) {
+        PersistentTabTree cachedTabTree = cache.getIfPresent(groupId);
+
+        if (cachedTabTree != null) {
+            return cachedTabTree.toTabTree();
+        }
+
+        long loadVersion = groupStates.compute(groupId, (key, state) -> GroupState.orIdle(state).startLoad())
+                                      .version();
+        TabTree loadedTabTree = null;
+
+        try {
+            loadedTabTree = loader.apply(groupId);
+
+            return loadedTabTree;
+        } finally {
+            finishLoad(groupId, loadVersion, loadedTabTree);
+        }
+    }
+
+    private void finishLoad(TabGroupId groupId, long loadVersion, TabTree loadedTabTree) {
+        groupStates.compute(groupId, (key, state) -> {
+            if (loadedTabTree != null && state.isCacheable(loadVersion)) {
+                cache.put(key, PersistentTabTree.from(loadedTabTree));
+            }
+
+            return state.finishLoad()
+                        .orNullIfIdle();
+        });
+    }
+
+    public void update(TabGroupId groupId, UnaryOperator<PersistentTabTree> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateNow(groupId);
+            return;
+        }
+
+        findPendingWrite(groupId).addChange(change);
+    }
+
+    public void invalidate(TabGroupId groupId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateNow(groupId);
+            return;
+        }
+
+        findPendingWrite(groupId).discardChanges();
+    }
+
+    private void invalidateNow(TabGroupId groupId) {
+        groupStates.computeIfPresent(groupId, (key, state) -> state.changed());
+        cache.invalidate(groupId);
+    }
+
+    private PendingWrite findPendingWrite(TabGroupId groupId) {
+        PendingWriteKey pendingWriteKey = new PendingWriteKey(this, groupId);
+        PendingWrite pendingWrite = (PendingWrite) TransactionSynchronizationManager.getResource(pendingWriteKey);
+
+        if (pendingWrite != null) {
+            return pendingWrite;
+        }
+
+        PendingWrite newPendingWrite = startWrite(pendingWriteKey);
+
+        TransactionSynchronizationManager.bindResource(pendingWriteKey, newPendingWrite);
+        TransactionSynchronizationManager.registerSynchronization(newPendingWrite);
+        return newPendingWrite;
+    }
+
+    private PendingWrite startWrite(PendingWriteKey pendingWriteKey) {
+        PendingWrite[] pendingWrite = new PendingWrite[1];
+
+        groupStates.compute(pendingWriteKey.groupId(), (key, state) -> {
+            GroupState writingState = GroupState.orIdle(state).startWrite();
+
+            pendingWrite[0] = new PendingWrite(pendingWriteKey, cache.getIfPresent(key), writingState.version());
+            cache.invalidate(key);
+
+            return writingState;
+        });
+
+        return pendingWrite[0];
+    }
+
+    private void completeWrite(PendingWrite pendingWrite, boolean committed) {
+        groupStates.computeIfPresent(pendingWrite.groupId(), (key, state) -> {
+            cache.invalidate(key);
+
+            if (committed && state.isOnlyWrite(pendingWrite.writeVersion)) {
+                PersistentTabTree updatedTabTree = pendingWrite.replay();
+
+                if (updatedTabTree != null) {
+                    cache.put(key, updatedTabTree);
+                }
+            }
+
+            return state.finishWrite()
+                        .orNullIfIdle();
+        });
+    }
+
+    private record PendingWriteKey(TabTreeCache owner, TabGroupId groupId) {
+    }
+
+    private record GroupState(long version, int pendingWrites, int loads) {
+
+        private static final GroupState IDLE = new GroupState(0L, 0, 0);
+
+        private static GroupState orIdle(GroupState state) {
+            return state == null ? IDLE : state;
+        }
+
+        private GroupState startLoad() {
+            return new GroupState(version, pendingWrites, loads + 1);
+        }
+
+        private GroupState finishLoad() {
+            return new GroupState(version, pendingWrites, loads - 1);
+        }
+
+        private GroupState startWrite() {
+            return new GroupState(version + 1, pendingWrites + 1, loads);
+        }
+
+        private GroupState finishWrite() {
+            return new GroupState(version + 1, Math.max(pendingWrites - 1, 0), loads);
+        }
+
+        private GroupState changed() {
+            return new GroupState(version + 1, pendingWrites, loads);
+        }
+
+        private boolean isCacheable(long loadVersion) {
+            return pendingWrites == 0 && version == loadVersion;
+        }
+
+        private boolean isOnlyWrite(long writeVersion) {
+            return pendingWrites == 1 && version == writeVersion;
+        }
+
+        private GroupState orNullIfIdle() {
+            if (pendingWrites == 0 && loads == 0) {
+                return null;
+            }
+
+            return this;
+        }
+    }
+
+    private class PendingWrite implements TransactionSynchronization {
+
+        private final PendingWriteKey pendingWriteKey;
+        private final PersistentTabTree baseTabTree;
+        private final long writeVersion;
+        private final List<UnaryOperator<PersistentTabTree>> changes = new ArrayList<>();
+
+        private boolean replayable;
+
+        private PendingWrite(PendingWriteKey pendingWriteKey, PersistentTabTree baseTabTree, long writeVersion) {
+            this.pendingWriteKey = pendingWriteKey;
+            this.baseTabTree = baseTabTree;
+            this.writeVersion = writeVersion;
+            this.replayable = baseTabTree != null;
+        }
+
+        private TabGroupId groupId() {
+            return pendingWriteKey.groupId();
+        }
+
+        private void addChange(UnaryOperator<PersistentTabTree> change) {
+            changes.add(change);
+        }
+
+        private void discardChanges() {
+            replayable = false;
+            changes.clear();
+        }
+
+        private PersistentTabTree replay() {
+            if (!replayable) {
+                return null;
+            }
+
+            PersistentTabTree replayedTabTree = baseTabTree;
+
+            try {
+                for (UnaryOperator<PersistentTabTree> change : changes) {
+                    replayedTabTree = change.apply(replayedTabTree);
+                }
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+
+            return replayedTabTree;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(pendingWriteKey);
+            completeWrite(this, status == STATUS_COMMITTED);
+        }
+    }
+}
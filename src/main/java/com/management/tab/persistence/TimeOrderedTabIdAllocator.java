@@ -0,0 +1,71 @@
+package com.management.tab.persistence;
+
+import com.management.tab.domain.repository.TabIdAllocator;
+import com.management.tab.domain.tab.vo.TabId;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TimeOrderedTabIdAllocator implements TabIdAllocator {
+
+    public static final long EPOCH_SECONDS = Instant.parse("2025-01-01T00:00:00Z").getEpochSecond();
+    public static final int TIMESTAMP_BITS = 31;
+    public static final int NODE_ID_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+    private static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final Clock clock;
+    private final long nodeId;
+
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public TimeOrderedTabIdAllocator(Clock clock, long nodeId) {
+        validateNodeId(nodeId);
+
+        this.clock = clock;
+        this.nodeId = nodeId;
+    }
+
+    private void validateNodeId(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 식별자는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다.");
+        }
+    }
+
+    @Override
+    public synchronized List<TabId> allocate(int count) {
+        List<TabId> tabIds = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            tabIds.add(TabId.create(nextId()));
+        }
+
+        return tabIds;
+    }
+
+    private long nextId() {
+        long timestamp = Math.max(clock.instant().getEpochSecond() - EPOCH_SECONDS, lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+
+            if (sequence == 0) {
+                timestamp++;
+            }
+        } else {
+            sequence = 0;
+        }
+
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("시간 순서 식별자의 시각 범위를 초과했습니다.");
+        }
+
+        lastTimestamp = timestamp;
+        return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+}
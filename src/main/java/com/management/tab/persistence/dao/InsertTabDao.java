@@ -1,9 +1,20 @@
 package com.management.tab.persistence.dao;
 
+import com.management.tab.domain.repository.TabIdAllocator;
+import com.management.tab.persistence.dao.dto.TabDto;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Component;
@@ -11,10 +22,18 @@ import org.springframework.stereotype.Component;
 @Component
 public class InsertTabDao {
 
+    private static final String INSERT_TAB_WITH_ID_SQL = """
+            INSERT INTO tabs (id, group_id, parent_id, writer_id, title, url, position, created_at, updated_at)
+            VALUES (:id, :groupId, :parentId, :writerId, :title, :url, :position, :createdAt, :updatedAt)
+            """;
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1_000;
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Optional<TabIdAllocator> tabIdAllocator;
 
-    public InsertTabDao(JdbcTemplate jdbcTemplate) {
+    public InsertTabDao(JdbcTemplate jdbcTemplate, Optional<TabIdAllocator> tabIdAllocator) {
         this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.tabIdAllocator = tabIdAllocator;
     }
 
     public Long saveRootTab(
@@ -67,10 +86,6 @@ public class InsertTabDao {
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
-        String sql = """
-                INSERT INTO tabs (group_id, parent_id, writer_id, title, url, position, created_at, updated_at)
-                VALUES (:groupId, :parentId, :writerId, :title, :url, :position, :createdAt, :updatedAt)
-                """;
         MapSqlParameterSource parameters = new MapSqlParameterSource()
                 .addValue("groupId", groupId)
                 .addValue("parentId", parentId)
@@ -80,12 +95,185 @@ public class InsertTabDao {
                 .addValue("position", position)
                 .addValue("createdAt", createdAt)
                 .addValue("updatedAt", updatedAt);
+
+        if (tabIdAllocator.isPresent()) {
+            Long tabId = tabIdAllocator.get().allocate(1).get(0).getValue();
+
+            jdbcTemplate.update(INSERT_TAB_WITH_ID_SQL, parameters.addValue("id", tabId));
+            return tabId;
+        }
+
+        String sql = """
+                INSERT INTO tabs (group_id, parent_id, writer_id, title, url, position, created_at, updated_at)
+                VALUES (:groupId, :parentId, :writerId, :title, :url, :position, :createdAt, :updatedAt)
+                """;
         KeyHolder keyHolder = new GeneratedKeyHolder();
 
         jdbcTemplate.update(sql, parameters, keyHolder, new String[]{"id"});
         return keyHolder.getKeyAs(Long.class);
     }
 
+    public List<Long> saveTabs(List<TabDto> tabDtos) {
+        if (tabDtos.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> tabIds = insertTabs(tabDtos);
+
+        insertSelfPaths(tabIds);
+        insertAncestorPaths(tabIds);
+        return tabIds;
+    }
+
+    private List<Long> insertTabs(List<TabDto> tabDtos) {
+        String sql = """
+                INSERT INTO tabs (group_id, parent_id, writer_id, title, url, position, created_at, updated_at)
+                VALUES (:groupId, :parentId, :writerId, :title, :url, :position, :createdAt, :updatedAt)
+                """;
+        SqlParameterSource[] batchParams = tabDtos.stream()
+                                                  .map(tabDto -> new MapSqlParameterSource()
+                                                          .addValue("groupId", tabDto.groupId())
+                                                          .addValue("parentId", tabDto.parentId())
+                                                          .addValue("writerId", tabDto.writerId())
+                                                          .addValue("title", tabDto.title())
+                                                          .addValue("url", tabDto.url())
+                                                          .addValue("position", tabDto.position())
+                                                          .addValue("createdAt", tabDto.createAt())
+                                                          .addValue("updatedAt", tabDto.updatedAt()))
+                                                  .toArray(SqlParameterSource[]::new);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(sql, batchParams, keyHolder, new String[]{"id"});
+        return keyHolder.getKeyList()
+                        .stream()
+                        .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                        .toList();
+    }
+
+    private void insertSelfPaths(List<Long> tabIds) {
+        String sql = """
+                INSERT INTO tab_tree_paths (ancestor_id, descendant_id, depth)
+                SELECT id, id, 0
+                FROM tabs
+                WHERE id IN (:tabIds)
+            """;
+
+        for (List<Long> chunk : chunk(tabIds)) {
+            jdbcTemplate.update(sql, new MapSqlParameterSource("tabIds", chunk));
+        }
+    }
+
+    private void insertAncestorPaths(List<Long> tabIds) {
+        String sql = """
+                INSERT INTO tab_tree_paths (ancestor_id, descendant_id, depth)
+                SELECT p.ancestor_id, t.id, p.depth + 1
+                FROM tabs t
+                JOIN tab_tree_paths p ON p.descendant_id = t.parent_id
+                WHERE t.id IN (:tabIds)
+            """;
+
+        for (List<Long> chunk : chunk(tabIds)) {
+            jdbcTemplate.update(sql, new MapSqlParameterSource("tabIds", chunk));
+        }
+    }
+
+    private static <T> List<List<T>> chunk(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+
+        for (int from = 0; from < values.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, values.size())));
+        }
+
+        return chunks;
+    }
+
+    public void saveTabsWithIds(List<TabDto> tabDtos) {
+        if (tabDtos.isEmpty()) {
+            return;
+        }
+
+        insertTabsWithIds(tabDtos);
+        insertTreePaths(tabDtos);
+    }
+
+    private void insertTabsWithIds(List<TabDto> tabDtos) {
+        SqlParameterSource[] batchParams = tabDtos.stream()
+                                                  .map(tabDto -> new MapSqlParameterSource()
+                                                          .addValue("id", tabDto.id())
+                                                          .addValue("groupId", tabDto.groupId())
+                                                          .addValue("parentId", tabDto.parentId())
+                                                          .addValue("writerId", tabDto.writerId())
+                                                          .addValue("title", tabDto.title())
+                                                          .addValue("url", tabDto.url())
+                                                          .addValue("position", tabDto.position())
+                                                          .addValue("createdAt", tabDto.createAt())
+                                                          .addValue("updatedAt", tabDto.updatedAt()))
+                                                  .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(INSERT_TAB_WITH_ID_SQL, batchParams);
+    }
+
+    private void insertTreePaths(List<TabDto> tabDtos) {
+        Map<Long, List<TreePath>> pathsByDescendantId = findExistingParentPaths(tabDtos);
+        List<SqlParameterSource> batchParams = new ArrayList<>();
+
+        for (TabDto tabDto : tabDtos) {
+            List<TreePath> paths = new ArrayList<>();
+
+            paths.add(new TreePath(tabDto.id(), 0));
+            if (tabDto.parentId() != null) {
+                pathsByDescendantId.getOrDefault(tabDto.parentId(), Collections.emptyList())
+                                   .forEach(parentPath -> paths.add(parentPath.extend()));
+            }
+
+            pathsByDescendantId.put(tabDto.id(), paths);
+            paths.forEach(path -> batchParams.add(new MapSqlParameterSource()
+                    .addValue("ancestorId", path.ancestorId())
+                    .addValue("descendantId", tabDto.id())
+                    .addValue("depth", path.depth())));
+        }
+
+        String sql = """
+                INSERT INTO tab_tree_paths (ancestor_id, descendant_id, depth)
+                VALUES (:ancestorId, :descendantId, :depth)
+            """;
+
+        jdbcTemplate.batchUpdate(sql, batchParams.toArray(SqlParameterSource[]::new));
+    }
+
+    private Map<Long, List<TreePath>> findExistingParentPaths(List<TabDto> tabDtos) {
+        Set<Long> newTabIds = new HashSet<>();
+        Set<Long> existingParentIds = new HashSet<>();
+
+        for (TabDto tabDto : tabDtos) {
+            newTabIds.add(tabDto.id());
+            if (tabDto.parentId() != null && !newTabIds.contains(tabDto.parentId())) {
+                existingParentIds.add(tabDto.parentId());
+            }
+        }
+
+        Map<Long, List<TreePath>> pathsByDescendantId = new HashMap<>();
+
+        if (existingParentIds.isEmpty()) {
+            return pathsByDescendantId;
+        }
+
+        String sql = """
+                SELECT ancestor_id, descendant_id, depth
+                FROM tab_tree_paths
+                WHERE descendant_id IN (:parentIds)
+            """;
+
+        for (List<Long> chunk : chunk(new ArrayList<>(existingParentIds))) {
+            jdbcTemplate.query(sql, new MapSqlParameterSource("parentIds", chunk), rs -> {
+                pathsByDescendantId.computeIfAbsent(rs.getLong("descendant_id"), key -> new ArrayList<>())
+                                   .add(new TreePath(rs.getLong("ancestor_id"), rs.getInt("depth")));
+            });
+        }
+
+        return pathsByDescendantId;
+    }
+
     public Long saveChildTab(
             Long groupId,
             Long writerId,
@@ -102,4 +290,11 @@ public class InsertTabDao {
         insertSelfPath(childId);
         return childId;
     }
+
+    private record TreePath(Long ancestorId, int depth) {
+
+        private TreePath extend() {
+            return new TreePath(ancestorId, depth + 1);
+        }
+    }
 }
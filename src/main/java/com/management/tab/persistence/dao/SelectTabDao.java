@@ -1,15 +1,23 @@
 package com.management.tab.persistence.dao;
 
+import com.management.tab.domain.tab.TabCursor;
+import com.management.tab.domain.tab.TabOutline;
 import com.management.tab.persistence.dao.dto.TabDto;
 import com.management.tab.persistence.dao.dto.TabWithDepthDto;
+import java.sql.DatabaseMetaData;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -40,10 +48,51 @@ public class SelectTabDao {
             rs.getTimestamp("updated_at").toLocalDateTime()
     );
 
+    private static final RowMapper<TabOutline> tabOutlineRowMapper = (rs, rowNum) -> new TabOutline(
+            TabTreeRowCallbackHandler.mapTab(rs, rs.getObject("parent_id", Long.class)),
+            rs.getInt("depth"),
+            rs.getInt("child_count")
+    );
+
+    private static final String PRE_ORDER_TREE_CTE = """
+                WITH RECURSIVE tab_tree (id, depth, sort_key) AS (
+                    SELECT id, 0, RPAD(CONCAT(LPAD(position, 10, '0'), LPAD(id, 19, '0')), 290, ' ')
+                    FROM tabs
+                    WHERE group_id = :groupId AND parent_id IS NULL
+                    UNION ALL
+                    SELECT c.id, p.depth + 1,
+                           RPAD(CONCAT(RTRIM(p.sort_key), LPAD(c.position, 10, '0'), LPAD(c.id, 19, '0')), 290, ' ')
+                    FROM tabs c
+                    JOIN tab_tree p ON c.parent_id = p.id
+                )
+            """;
+
+    private static final int STREAM_FETCH_SIZE = 1_000;
+    private static final int MYSQL_STREAM_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final String MYSQL_PRODUCT_NAME = "MySQL";
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
 
     public SelectTabDao(JdbcTemplate jdbcTemplate) {
+        JdbcTemplate streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+
+        streamingJdbcTemplate.setFetchSize(streamFetchSize(jdbcTemplate));
         this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(streamingJdbcTemplate);
+    }
+
+    private static int streamFetchSize(JdbcTemplate jdbcTemplate) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName
+            );
+
+            return MYSQL_PRODUCT_NAME.equals(productName) ? MYSQL_STREAM_FETCH_SIZE : STREAM_FETCH_SIZE;
+        } catch (MetaDataAccessException e) {
+            return STREAM_FETCH_SIZE;
+        }
     }
 
     public Optional<TabDto> findById(Long tabId) {
@@ -79,6 +128,161 @@ public class SelectTabDao {
         return jdbcTemplate.query(sql, parameters, tabWithDepthRowMapper);
     }
 
+    public void streamTreeByGroup(Long groupId, RowCallbackHandler rowCallbackHandler) {
+        String sql = """
+                    SELECT t.id, t.group_id, t.parent_id, t.writer_id, t.title, t.url, t.position,
+                           t.created_at, t.updated_at, d.depth
+                    FROM tabs t
+                    JOIN (
+                        SELECT p.descendant_id, MAX(p.depth) AS depth
+                        FROM tab_tree_paths p
+                        JOIN tabs g ON g.id = p.descendant_id
+                        WHERE g.group_id = :groupId
+                        GROUP BY p.descendant_id
+                    ) d ON d.descendant_id = t.id
+                    WHERE t.group_id = :groupId
+                    ORDER BY d.depth, t.position, t.id
+                """;
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("groupId", groupId);
+
+        jdbcTemplate.query(sql, parameters, rowCallbackHandler);
+    }
+
+    public void streamPreOrderByGroup(Long groupId, RowCallbackHandler rowCallbackHandler) {
+        String sql = PRE_ORDER_TREE_CTE + """
+                    SELECT t.id, t.group_id, t.parent_id, t.writer_id, t.title, t.url, t.position,
+                           t.created_at, t.updated_at, tt.depth
+                    FROM tab_tree tt
+                    JOIN tabs t ON t.id = tt.id
+                    ORDER BY tt.sort_key
+                """;
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("groupId", groupId);
+
+        streamingJdbcTemplate.query(sql, parameters, rowCallbackHandler);
+    }
+
+    public void streamNumberedPreOrderByGroup(Long groupId, RowCallbackHandler rowCallbackHandler) {
+        String sql = """
+                    SELECT t.id, t.group_id, t.parent_id, t.writer_id, t.title, t.url, t.position,
+                           t.created_at, t.updated_at,
+                           (SELECT MAX(p.depth) FROM tab_tree_paths p WHERE p.descendant_id = t.id) AS depth
+                    FROM tabs t
+                    JOIN tab_groups g ON g.id = t.group_id AND g.pre_order_version = g.version
+                    WHERE t.group_id = :groupId
+                    ORDER BY t.pre_order
+                """;
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("groupId", groupId);
+
+        streamingJdbcTemplate.query(sql, parameters, rowCallbackHandler);
+    }
+
+    public Map<Long, Integer> findPreOrdersInTreeOrder(Long groupId) {
+        String sql = PRE_ORDER_TREE_CTE + """
+                    SELECT t.id, t.pre_order
+                    FROM tab_tree tt
+                    JOIN tabs t ON t.id = tt.id
+                    ORDER BY tt.sort_key
+                """;
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("groupId", groupId);
+        Map<Long, Integer> preOrdersByTabId = new LinkedHashMap<>();
+
+        RowCallbackHandler rowCallbackHandler = rs -> preOrdersByTabId.put(
+                rs.getLong("id"),
+                rs.getObject("pre_order", Integer.class)
+        );
+
+        jdbcTemplate.query(sql, parameters, rowCallbackHandler);
+
+        return preOrdersByTabId;
+    }
+
+    public void findPreOrderWindow(Long groupId, int offset, int limit, RowCallbackHandler rowCallbackHandler) {
+        String sql = """
+                    SELECT t.id, t.group_id, t.parent_id, t.writer_id, t.title, t.url, t.position,
+                           t.created_at, t.updated_at,
+                           (SELECT MAX(p.depth) FROM tab_tree_paths p WHERE p.descendant_id = t.id) AS depth
+                    FROM tabs t
+                    WHERE t.group_id = :groupId AND t.pre_order >= :fromPreOrder AND t.pre_order < :toPreOrder
+                    ORDER BY t.pre_order
+                """;
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("groupId", groupId)
+                .addValue("fromPreOrder", offset)
+                .addValue("toPreOrder", (long) offset + limit);
+
+        jdbcTemplate.query(sql, parameters, rowCallbackHandler);
+    }
+
+    public int countPreOrdered(Long groupId) {
+        String sql = "SELECT COALESCE(MAX(pre_order) + 1, 0) FROM tabs WHERE group_id = :groupId";
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("groupId", groupId);
+
+        return jdbcTemplate.queryForObject(sql, parameters, Integer.class);
+    }
+
+    public List<TabOutline> findSubtree(Long tabId, int maxDepth, int childrenLimit, int rowLimit) {
+        String sql = """
+                    WITH ranked AS (
+                        SELECT d.id, p.depth,
+                               ROW_NUMBER() OVER (PARTITION BY d.parent_id ORDER BY d.position, d.id) AS sibling_rank
+                        FROM tab_tree_paths p
+                        JOIN tabs d ON d.id = p.descendant_id
+                        WHERE p.ancestor_id = :tabId AND p.depth <= :maxDepth
+                    )
+                    SELECT t.id, t.group_id, t.parent_id, t.writer_id, t.title, t.url, t.position,
+                           s.depth,
+                           (SELECT COUNT(*)
+                            FROM tabs c
+                            WHERE c.group_id = t.group_id AND c.parent_id = t.id) AS child_count
+                    FROM ranked s
+                    JOIN tabs t ON t.id = s.id
+                    WHERE NOT EXISTS (
+                        SELECT 1
+                        FROM tab_tree_paths q
+                        JOIN ranked r ON r.id = q.ancestor_id
+                        WHERE q.descendant_id = s.id AND r.sibling_rank > :childrenLimit
+                    )
+                    ORDER BY s.depth, t.position, t.id
+                    LIMIT :rowLimit
+                """;
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("tabId", tabId)
+                .addValue("maxDepth", maxDepth)
+                .addValue("childrenLimit", childrenLimit)
+                .addValue("rowLimit", rowLimit);
+
+        return jdbcTemplate.query(sql, parameters, tabOutlineRowMapper);
+    }
+
+    public List<TabOutline> findChildrenPage(Long groupId, Long parentId, TabCursor after, int limit) {
+        String parentCondition = parentId == null ? "t.parent_id IS NULL" : "t.parent_id = :parentId";
+        String sql = """
+                    SELECT t.id, t.group_id, t.parent_id, t.writer_id, t.title, t.url, t.position,
+                           1 AS depth,
+                           (SELECT COUNT(*)
+                            FROM tabs c
+                            WHERE c.group_id = t.group_id AND c.parent_id = t.id) AS child_count
+                    FROM tabs t
+                    WHERE t.group_id = :groupId AND %s
+                      AND (t.position > :afterPosition OR (t.position = :afterPosition AND t.id > :afterId))
+                    ORDER BY t.position, t.id
+                    LIMIT :limit
+                """.formatted(parentCondition);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("groupId", groupId)
+                .addValue("parentId", parentId)
+                .addValue("afterPosition", after.position())
+                .addValue("afterId", after.id())
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(sql, parameters, tabOutlineRowMapper);
+    }
+
     public Optional<Long> findParentId(Long tabId) {
         String sql = "SELECT parent_id FROM tabs WHERE id = :tabId";
         MapSqlParameterSource parameters = new MapSqlParameterSource()
@@ -95,16 +299,18 @@ public class SelectTabDao {
 
     public List<TabDto> findSiblings(Long parentId) {
         MapSqlParameterSource parameters = new MapSqlParameterSource();
-        String sql = "SELECT * FROM tabs WHERE parent_id = :parentId ORDER BY position";
+        String sql = "SELECT * FROM tabs WHERE parent_id = :parentId ORDER BY position, id";
 
         parameters.addValue("parentId", parentId);
         return jdbcTemplate.query(sql, parameters, tabRowMapper);
     }
 
-    public List<TabDto> findRootSiblings() {
-        String sql = "SELECT * FROM tabs WHERE parent_id IS NULL ORDER BY position";
+    public List<TabDto> findRootSiblings(Long groupId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        String sql = "SELECT * FROM tabs WHERE group_id = :groupId AND parent_id IS NULL ORDER BY position, id";
 
-        return jdbcTemplate.query(sql, new MapSqlParameterSource(), tabRowMapper);
+        parameters.addValue("groupId", groupId);
+        return jdbcTemplate.query(sql, parameters, tabRowMapper);
     }
 
     public int findTabLastPosition(Long groupId, Long parentId) {
@@ -0,0 +1,119 @@
+package com.management.tab.persistence.dao;
+
+import com.management.tab.domain.tab.TabChangeType;
+import com.management.tab.persistence.dao.dto.TabChangeDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TabChangeDao {
+
+    private static final RowMapper<TabChangeDto> tabChangeRowMapper = (rs, rowNum) -> new TabChangeDto(
+            rs.getLong("group_id"),
+            rs.getLong("version"),
+            TabChangeType.valueOf(rs.getString("operation")),
+            rs.getLong("tab_id"),
+            rs.getObject("parent_id", Long.class),
+            rs.getString("title"),
+            rs.getString("url"),
+            rs.getObject("position", Integer.class),
+            rs.getBoolean("with_subtree"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private static final RowMapper<SqlParameterSource> compactableVersionRowMapper = (rs, rowNum) ->
+            new MapSqlParameterSource()
+                    .addValue("groupId", rs.getLong("group_id"))
+                    .addValue("version", rs.getLong("version"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TabChangeDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public void saveAll(List<TabChangeDto> tabChangeDtos, LocalDateTime createdAt) {
+        String sql = """
+                INSERT INTO tab_changes
+                    (group_id, version, operation, tab_id, parent_id, title, url, position, with_subtree, created_at)
+                VALUES
+                    (:groupId, :version, :operation, :tabId, :parentId, :title, :url, :position, :withSubtree, :createdAt)
+            """;
+        SqlParameterSource[] params = tabChangeDtos.stream()
+                                                   .map(tabChangeDto -> createParameterSource(tabChangeDto, createdAt))
+                                                   .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(sql, params);
+    }
+
+    public List<TabChangeDto> findAllBetween(Long groupId, long sinceVersion, long untilVersion) {
+        String sql = """
+                SELECT *
+                FROM tab_changes
+                WHERE group_id = :groupId AND version > :sinceVersion AND version <= :untilVersion
+                ORDER BY version, id
+            """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("groupId", groupId)
+                .addValue("sinceVersion", sinceVersion)
+                .addValue("untilVersion", untilVersion);
+
+        return jdbcTemplate.query(sql, params, tabChangeRowMapper);
+    }
+
+    public Optional<Long> findCompactedVersion(Long groupId) {
+        String sql = "SELECT compacted_version FROM tab_groups WHERE id = :groupId";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("groupId", groupId);
+
+        return jdbcTemplate.queryForList(sql, params, Long.class)
+                           .stream()
+                           .findFirst();
+    }
+
+    public void compactBefore(LocalDateTime threshold) {
+        String compactableVersionSql = """
+                SELECT group_id, MAX(version) AS version
+                FROM tab_changes
+                WHERE created_at < :threshold
+                GROUP BY group_id
+            """;
+        String compactedVersionSql = """
+                UPDATE tab_groups
+                SET compacted_version = :version
+                WHERE id = :groupId AND compacted_version < :version
+            """;
+        String deleteSql = """
+                DELETE FROM tab_changes
+                WHERE group_id = :groupId AND version <= :version
+            """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("threshold", threshold);
+        SqlParameterSource[] compactableVersions = jdbcTemplate.query(compactableVersionSql, params, compactableVersionRowMapper)
+                                                               .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(compactedVersionSql, compactableVersions);
+        jdbcTemplate.batchUpdate(deleteSql, compactableVersions);
+    }
+
+    private SqlParameterSource createParameterSource(TabChangeDto tabChangeDto, LocalDateTime createdAt) {
+        return new MapSqlParameterSource()
+                .addValue("groupId", tabChangeDto.groupId())
+                .addValue("version", tabChangeDto.version())
+                .addValue("operation", tabChangeDto.type().name())
+                .addValue("tabId", tabChangeDto.tabId())
+                .addValue("parentId", tabChangeDto.parentId())
+                .addValue("title", tabChangeDto.title())
+                .addValue("url", tabChangeDto.url())
+                .addValue("position", tabChangeDto.position())
+                .addValue("withSubtree", tabChangeDto.withSubtree())
+                .addValue("createdAt", createdAt);
+    }
+}
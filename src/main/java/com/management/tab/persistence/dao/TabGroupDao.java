@@ -1,6 +1,7 @@
 package com.management.tab.persistence.dao;
 
 import com.management.tab.persistence.dao.dto.TabGroupDto;
+import com.management.tab.persistence.dao.dto.TabGroupSummaryDto;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -25,26 +26,90 @@ public class TabGroupDao {
             rs.getTimestamp("updated_at").toLocalDateTime()
     );
 
+    private static final RowMapper<TabGroupSummaryDto> tabGroupSummaryRowMapper = (rs, rowNum) -> new TabGroupSummaryDto(
+            tabGroupRowMapper.mapRow(rs, rowNum),
+            rs.getInt("tab_count"),
+            rs.getInt("content_count"),
+            rs.getInt("max_depth"),
+            rs.getObject("tabs_updated_at", LocalDateTime.class),
+            rs.getObject("contents_updated_at", LocalDateTime.class)
+    );
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
     public TabGroupDao(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
     }
 
-    public List<TabGroupDto> findAll() {
-        String sql = "SELECT * FROM tab_groups ORDER BY id";
+    public List<TabGroupDto> findAll(long afterId, int limit) {
+        String sql = "SELECT * FROM tab_groups WHERE id > :afterId ORDER BY id LIMIT :limit";
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
 
-        return jdbcTemplate.query(sql, tabGroupRowMapper);
+        return jdbcTemplate.query(sql, parameters, tabGroupRowMapper);
     }
 
-    public List<TabGroupDto> findAllByWriterId(Long writerId) {
-        String sql = "SELECT * FROM tab_groups WHERE writer_id = :writerId ORDER BY id";
+    public List<TabGroupDto> findAllByWriterId(Long writerId, long afterId, int limit) {
+        String sql = """
+                    SELECT * FROM tab_groups
+                    WHERE writer_id = :writerId AND id > :afterId
+                    ORDER BY id
+                    LIMIT :limit
+                """;
         MapSqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue("writerId", writerId);
+                .addValue("writerId", writerId)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
 
         return jdbcTemplate.query(sql, parameters, tabGroupRowMapper);
     }
 
+    public List<TabGroupSummaryDto> findSummaries(long afterId, int limit) {
+        String sql = """
+                    WITH page AS (
+                        SELECT * FROM tab_groups
+                        WHERE id > :afterId
+                        ORDER BY id
+                        LIMIT :limit
+                    )
+                    SELECT page.id, page.writer_id, page.name, page.created_at, page.updated_at,
+                           COALESCE(tab_stats.tab_count, 0) AS tab_count,
+                           COALESCE(content_stats.content_count, 0) AS content_count,
+                           COALESCE(depth_stats.max_depth, 0) AS max_depth,
+                           tab_stats.tabs_updated_at,
+                           content_stats.contents_updated_at
+                    FROM page
+                    LEFT JOIN (
+                        SELECT t.group_id, COUNT(*) AS tab_count, MAX(t.updated_at) AS tabs_updated_at
+                        FROM tabs t
+                        JOIN page ON page.id = t.group_id
+                        GROUP BY t.group_id
+                    ) tab_stats ON tab_stats.group_id = page.id
+                    LEFT JOIN (
+                        SELECT t.group_id, COUNT(*) AS content_count, MAX(c.updated_at) AS contents_updated_at
+                        FROM tab_contents c
+                        JOIN tabs t ON t.id = c.tab_id
+                        JOIN page ON page.id = t.group_id
+                        GROUP BY t.group_id
+                    ) content_stats ON content_stats.group_id = page.id
+                    LEFT JOIN (
+                        SELECT r.group_id, MAX(p.depth) AS max_depth
+                        FROM tabs r
+                        JOIN page ON page.id = r.group_id
+                        JOIN tab_tree_paths p ON p.ancestor_id = r.id
+                        WHERE r.parent_id IS NULL
+                        GROUP BY r.group_id
+                    ) depth_stats ON depth_stats.group_id = page.id
+                    ORDER BY page.id
+                """;
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(sql, parameters, tabGroupSummaryRowMapper);
+    }
+
     public Optional<TabGroupDto> findById(Long id) {
         String sql = "SELECT * FROM tab_groups WHERE id = :id";
         MapSqlParameterSource parameters = new MapSqlParameterSource()
@@ -79,7 +144,7 @@ public class TabGroupDao {
     }
 
     public void update(Long id, String name) {
-        String sql = "UPDATE tab_groups SET name = :name WHERE id = :id";
+        String sql = "UPDATE tab_groups SET name = :name, version = version + 1 WHERE id = :id";
         MapSqlParameterSource params = new MapSqlParameterSource()
                 .addValue("name", name)
                 .addValue("id", id);
@@ -99,6 +164,105 @@ public class TabGroupDao {
         jdbcTemplate.update(deleteGroupSql, deleteGroupParams);
     }
 
+    public Optional<Long> findVersion(Long id) {
+        String sql = "SELECT version FROM tab_groups WHERE id = :id";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id);
+
+        return jdbcTemplate.queryForList(sql, params, Long.class)
+                           .stream()
+                           .findFirst();
+    }
+
+    public Optional<Long> lockVersion(Long id) {
+        String sql = "SELECT version FROM tab_groups WHERE id = :id FOR UPDATE";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id);
+
+        return jdbcTemplate.queryForList(sql, params, Long.class)
+                           .stream()
+                           .findFirst();
+    }
+
+    public Optional<Long> findStalePreOrderVersion(Long id) {
+        String sql = "SELECT version FROM tab_groups WHERE id = :id AND pre_order_version <> version";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id);
+
+        return jdbcTemplate.queryForList(sql, params, Long.class)
+                           .stream()
+                           .findFirst();
+    }
+
+    public List<Long> findStalePreOrderIds() {
+        String sql = "SELECT id FROM tab_groups WHERE pre_order_version <> version";
+
+        return jdbcTemplate.queryForList(sql, new MapSqlParameterSource(), Long.class);
+    }
+
+    public void updatePreOrderVersion(Long id, long version) {
+        String sql = "UPDATE tab_groups SET pre_order_version = :version WHERE id = :id AND version = :version";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("version", version);
+
+        jdbcTemplate.update(sql, params);
+    }
+
+    public Optional<Long> findVersionByTabId(Long tabId) {
+        String sql = """
+                SELECT g.version
+                FROM tabs t
+                JOIN tab_groups g ON g.id = t.group_id
+                WHERE t.id = :tabId
+            """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tabId", tabId);
+
+        return jdbcTemplate.queryForList(sql, params, Long.class)
+                           .stream()
+                           .findFirst();
+    }
+
+    public long increaseVersion(Long id) {
+        String sql = "UPDATE tab_groups SET version = version + 1 WHERE id = :id";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id);
+
+        jdbcTemplate.update(sql, params);
+
+        return findVersion(id).orElseThrow(() -> new IllegalArgumentException("탭 그룹을 찾을 수 없습니다."));
+    }
+
+    public void increaseVersionByTabId(Long tabId) {
+        String sql = """
+                UPDATE tab_groups
+                SET version = version + 1
+                WHERE id = (SELECT group_id FROM tabs WHERE id = :tabId)
+            """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tabId", tabId);
+
+        jdbcTemplate.update(sql, params);
+    }
+
+    public void increaseVersionByContentId(Long contentId) {
+        String sql = """
+                UPDATE tab_groups
+                SET version = version + 1
+                WHERE id = (
+                    SELECT t.group_id
+                    FROM tab_contents c
+                    JOIN tabs t ON t.id = c.tab_id
+                    WHERE c.id = :contentId
+                )
+            """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("contentId", contentId);
+
+        jdbcTemplate.update(sql, params);
+    }
+
     public int countTabs(Long groupId) {
         String sql = "SELECT COUNT(*) FROM tabs WHERE group_id = :groupId";
         MapSqlParameterSource params = new MapSqlParameterSource()
@@ -0,0 +1,30 @@
+package com.management.tab.persistence.dao;
+
+import com.management.tab.domain.tab.TabNode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+public class TabPreOrderRowCallbackHandler implements RowCallbackHandler {
+
+    private final Consumer<TabNode> tabNodeConsumer;
+
+    private int rowCount;
+
+    public TabPreOrderRowCallbackHandler(Consumer<TabNode> tabNodeConsumer) {
+        this.tabNodeConsumer = tabNodeConsumer;
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        Long parentId = rs.getObject("parent_id", Long.class);
+
+        tabNodeConsumer.accept(TabNode.create(TabTreeRowCallbackHandler.mapTab(rs, parentId), rs.getInt("depth")));
+        rowCount++;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+}
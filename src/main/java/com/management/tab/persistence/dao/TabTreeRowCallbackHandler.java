@@ -0,0 +1,57 @@
+package com.management.tab.persistence.dao;
+
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabBuilder;
+import com.management.tab.domain.tab.TabNode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+public class TabTreeRowCallbackHandler implements RowCallbackHandler {
+
+    private final Map<Long, TabNode> nodeMap = new HashMap<>();
+    private final List<TabNode> rootNodes = new ArrayList<>();
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        Long parentId = rs.getObject("parent_id", Long.class);
+        TabNode tabNode = TabNode.create(mapTab(rs, parentId), rs.getInt("depth"));
+
+        nodeMap.put(tabNode.getId().getValue(), tabNode);
+
+        if (parentId == null) {
+            rootNodes.add(tabNode);
+            return;
+        }
+
+        TabNode parentNode = nodeMap.get(parentId);
+
+        if (parentNode != null) {
+            parentNode.addChild(tabNode);
+        }
+    }
+
+    public List<TabNode> getRootNodes() {
+        return rootNodes;
+    }
+
+    static Tab mapTab(ResultSet rs, Long parentId) throws SQLException {
+        TabBuilder builder = TabBuilder.builder()
+                                       .id(rs.getLong("id"))
+                                       .groupId(rs.getLong("group_id"))
+                                       .writerId(rs.getLong("writer_id"))
+                                       .title(rs.getString("title"))
+                                       .nullableUrl(rs.getString("url"))
+                                       .position(rs.getInt("position"));
+
+        if (parentId != null) {
+            builder.parentId(parentId);
+        }
+
+        return builder.build();
+    }
+}
@@ -1,9 +1,11 @@
 package com.management.tab.persistence.dao;
 
 import java.util.List;
+import java.util.Map;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -198,6 +200,30 @@ public class UpdateTabDao {
         jdbcTemplate.update(sql, params);
     }
 
+    public void updatePositions(Map<Long, Integer> positionsByTabId) {
+        String sql = "UPDATE tabs SET position = :position, updated_at = CURRENT_TIMESTAMP WHERE id = :tabId";
+        SqlParameterSource[] batchParams = positionsByTabId.entrySet()
+                                                           .stream()
+                                                           .map(entry -> new MapSqlParameterSource()
+                                                                   .addValue("position", entry.getValue())
+                                                                   .addValue("tabId", entry.getKey()))
+                                                           .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(sql, batchParams);
+    }
+
+    public void updatePreOrders(Map<Long, Integer> preOrdersByTabId) {
+        String sql = "UPDATE tabs SET pre_order = :preOrder WHERE id = :tabId";
+        SqlParameterSource[] batchParams = preOrdersByTabId.entrySet()
+                                                           .stream()
+                                                           .map(entry -> new MapSqlParameterSource()
+                                                                   .addValue("preOrder", entry.getValue())
+                                                                   .addValue("tabId", entry.getKey()))
+                                                           .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(sql, batchParams);
+    }
+
     public void updateTab(Long tabId, String title, String url) {
         String sql = """
                 UPDATE tabs
@@ -0,0 +1,99 @@
+package com.management.tab.persistence.dao.dto;
+
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabChange;
+import com.management.tab.domain.tab.TabChangeType;
+import java.time.LocalDateTime;
+
+public record TabChangeDto(
+        Long groupId,
+        long version,
+        TabChangeType type,
+        Long tabId,
+        Long parentId,
+        String title,
+        String url,
+        Integer position,
+        boolean withSubtree,
+        LocalDateTime createdAt
+) {
+
+    public static TabChangeDto created(long version, Tab tab) {
+        return new TabChangeDto(
+                tab.getTabGroupId(),
+                version,
+                TabChangeType.CREATE,
+                tab.getId(),
+                tab.getParentId(),
+                tab.getTitle(),
+                tab.getUrl(),
+                tab.getPosition(),
+                false,
+                null
+        );
+    }
+
+    public static TabChangeDto moved(long version, Tab tab, boolean withSubtree) {
+        return new TabChangeDto(
+                tab.getTabGroupId(),
+                version,
+                TabChangeType.MOVE,
+                tab.getId(),
+                tab.getParentId(),
+                null,
+                null,
+                tab.getPosition(),
+                withSubtree,
+                null
+        );
+    }
+
+    public static TabChangeDto reordered(long version, Tab tab) {
+        return new TabChangeDto(
+                tab.getTabGroupId(),
+                version,
+                TabChangeType.REORDER,
+                tab.getId(),
+                tab.getParentId(),
+                null,
+                null,
+                tab.getPosition(),
+                false,
+                null
+        );
+    }
+
+    public static TabChangeDto updated(long version, Tab tab) {
+        return new TabChangeDto(
+                tab.getTabGroupId(),
+                version,
+                TabChangeType.UPDATE,
+                tab.getId(),
+                tab.getParentId(),
+                tab.getTitle(),
+                tab.getUrl(),
+                null,
+                false,
+                null
+        );
+    }
+
+    public static TabChangeDto deleted(long version, Tab tab, boolean withSubtree) {
+        return new TabChangeDto(
+                tab.getTabGroupId(),
+                version,
+                TabChangeType.DELETE,
+                tab.getId(),
+                tab.getParentId(),
+                null,
+                null,
+                null,
+                withSubtree,
+                null
+        );
+    }
+
+    public TabChange toTabChange() {
+        return new TabChange(version, type, tabId, parentId, title, url, position, withSubtree);
+    }
+}
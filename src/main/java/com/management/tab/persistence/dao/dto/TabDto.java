@@ -16,12 +16,26 @@ public record TabDto(
         LocalDateTime updatedAt
 ) {
 
+    public static TabDto from(Tab tab) {
+        return new TabDto(
+                tab.getId(),
+                tab.getTabGroupId(),
+                tab.getParentId(),
+                tab.getWriterId(),
+                tab.getTitle(),
+                tab.getUrl(),
+                tab.getPosition(),
+                tab.getCreatedAt(),
+                tab.getUpdatedAt()
+        );
+    }
+
     public Tab toTab() {
         TabBuilder builder = TabBuilder.builder()
                                        .groupId(this.groupId)
                                        .writerId(writerId)
                                        .title(this.title)
-                                       .url(this.url)
+                                       .nullableUrl(this.url)
                                        .position(this.position);
 
         if (this.id != null) {
@@ -0,0 +1,25 @@
+package com.management.tab.persistence.dao.dto;
+
+import com.management.tab.domain.group.TabGroupSummary;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public record TabGroupSummaryDto(
+        TabGroupDto tabGroup,
+        int tabCount,
+        int contentCount,
+        int maxDepth,
+        LocalDateTime tabsUpdatedAt,
+        LocalDateTime contentsUpdatedAt
+) {
+
+    public TabGroupSummary toTabGroupSummary() {
+        LocalDateTime lastUpdatedAt = Stream.of(tabGroup.updatedAt(), tabsUpdatedAt, contentsUpdatedAt)
+                                            .filter(Objects::nonNull)
+                                            .max(LocalDateTime::compareTo)
+                                            .orElse(null);
+
+        return new TabGroupSummary(tabGroup.toTabGroup(), tabCount, contentCount, maxDepth, lastUpdatedAt);
+    }
+}
@@ -25,7 +25,7 @@ public record TabWithDepthDto(
                                        .groupId(this.groupId)
                                        .writerId(writerId)
                                        .title(this.title)
-                                       .url(this.url)
+                                       .nullableUrl(this.url)
                                        .position(this.position);
 
         if (this.id != null) {
@@ -0,0 +1,48 @@
+package com.management.tab.presentation.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+public final class CursorToken {
+
+    private static final String DELIMITER = ":";
+
+    private CursorToken() {
+    }
+
+    public static String encode(long... values) {
+        String joined = Arrays.stream(values)
+                              .mapToObj(String::valueOf)
+                              .collect(Collectors.joining(DELIMITER));
+
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long[] decode(String token, int expectedLength) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+
+            if (parts.length != expectedLength) {
+                throw new InvalidCursorException();
+            }
+
+            return Arrays.stream(parts)
+                         .mapToLong(Long::parseLong)
+                         .toArray();
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public static class InvalidCursorException extends IllegalArgumentException {
+
+        public InvalidCursorException() {
+            super("잘못된 커서입니다.");
+        }
+    }
+}
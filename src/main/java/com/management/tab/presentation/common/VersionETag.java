@@ -0,0 +1,74 @@
+package com.management.tab.presentation.common;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.WebRequest;
+
+public final class VersionETag {
+
+    private static final String DEFAULT_ENCODING = "json";
+    private static final List<Map.Entry<MediaType, String>> ENCODINGS = List.of(
+            Map.entry(MediaType.APPLICATION_JSON, DEFAULT_ENCODING),
+            Map.entry(MediaType.APPLICATION_CBOR, "cbor"),
+            Map.entry(MediaType.valueOf("application/x-jackson-smile"), "smile")
+    );
+
+    private VersionETag() {
+    }
+
+    public static String of(long version, WebRequest webRequest) {
+        return of(version, negotiateEncoding(webRequest));
+    }
+
+    public static String of(long version, String variant) {
+        return "\"" + version + "-" + variant + "\"";
+    }
+
+    public static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                             .eTag(eTag)
+                             .varyBy(HttpHeaders.ACCEPT)
+                             .build();
+    }
+
+    private static String negotiateEncoding(WebRequest webRequest) {
+        String[] acceptValues = webRequest.getHeaderValues(HttpHeaders.ACCEPT);
+
+        if (acceptValues == null) {
+            return DEFAULT_ENCODING;
+        }
+
+        try {
+            List<MediaType> acceptedTypes = MediaType.parseMediaTypes(Arrays.asList(acceptValues));
+
+            MimeTypeUtils.sortBySpecificity(acceptedTypes);
+            return findEncoding(acceptedTypes);
+        } catch (InvalidMediaTypeException | InvalidMimeTypeException e) {
+            return DEFAULT_ENCODING;
+        }
+    }
+
+    private static String findEncoding(List<MediaType> acceptedTypes) {
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.getQualityValue() == 0.0) {
+                continue;
+            }
+
+            for (Map.Entry<MediaType, String> encoding : ENCODINGS) {
+                if (acceptedType.isCompatibleWith(encoding.getKey())) {
+                    return encoding.getValue();
+                }
+            }
+        }
+
+        return DEFAULT_ENCODING;
+    }
+}
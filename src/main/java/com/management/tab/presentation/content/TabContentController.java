@@ -1,9 +1,11 @@
 package com.management.tab.presentation.content;
 
 import com.management.tab.application.tab.TabContentService;
+import com.management.tab.application.tab.TabGroupService;
 import com.management.tab.domain.content.TabContent;
 import com.management.tab.domain.tab.vo.TabId;
 import com.management.tab.presentation.common.ResponseVoidConst;
+import com.management.tab.presentation.common.VersionETag;
 import com.management.tab.presentation.content.dto.request.CreateTabContentRequest;
 import com.management.tab.presentation.content.dto.request.UpdateTabContentRequest;
 import com.management.tab.presentation.content.dto.response.CreateTabContentResponse;
@@ -11,6 +13,7 @@ import com.management.tab.presentation.content.dto.response.TabContentCollection
 import com.management.tab.presentation.content.dto.response.TabContentResponse;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api")
@@ -27,13 +31,26 @@ import org.springframework.web.bind.annotation.RestController;
 public class TabContentController {
 
     private final TabContentService tabContentService;
+    private final TabGroupService tabGroupService;
 
     @GetMapping("/tabs/{tabId}/contents")
-    public ResponseEntity<TabContentCollectionResponse> getAllContentsByTabId(@PathVariable Long tabId) {
+    public ResponseEntity<TabContentCollectionResponse> getAllContentsByTabId(
+            @PathVariable Long tabId,
+            WebRequest webRequest
+    ) {
+        String eTag = VersionETag.of(tabGroupService.getVersionByTabId(TabId.create(tabId)), webRequest);
+
+        if (webRequest.checkNotModified(eTag)) {
+            return VersionETag.notModified(eTag);
+        }
+
         List<TabContent> tabContents = tabContentService.getAllContentsByTabId(TabId.create(tabId));
         TabContentCollectionResponse response = TabContentCollectionResponse.from(tabContents);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                             .eTag(eTag)
+                             .varyBy(HttpHeaders.ACCEPT)
+                             .body(response);
     }
 
     @GetMapping("/contents/{id}")
@@ -1,17 +1,22 @@
 package com.management.tab.presentation.group;
 
 import com.management.tab.application.tab.TabGroupService;
+import com.management.tab.application.tab.dto.response.TabGroupPage;
+import com.management.tab.application.tab.dto.response.TabGroupSummaryPage;
 import com.management.tab.config.auth.resolver.CurrentUser;
 import com.management.tab.config.auth.resolver.CurrentUserId;
 import com.management.tab.domain.group.TabGroup;
+import com.management.tab.presentation.common.CursorToken;
 import com.management.tab.presentation.common.ResponseVoidConst;
+import com.management.tab.presentation.common.VersionETag;
 import com.management.tab.presentation.group.dto.request.CreateTabGroupRequest;
 import com.management.tab.presentation.group.dto.request.UpdateTabGroupRequest;
 import com.management.tab.presentation.group.dto.response.CreateTabGroupResponse;
 import com.management.tab.presentation.group.dto.response.TabGroupCollectionResponse;
 import com.management.tab.presentation.group.dto.response.TabGroupResponse;
-import java.util.List;
+import com.management.tab.presentation.group.dto.response.TabGroupSummaryCollectionResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,37 +25,76 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/groups")
 @RequiredArgsConstructor
 public class TabGroupController {
 
+    private static final long FIRST_CURSOR = 0L;
+
     private final TabGroupService tabGroupService;
 
     @GetMapping
-    public ResponseEntity<TabGroupCollectionResponse> getAllGroups() {
-        List<TabGroup> tabGroups = tabGroupService.getAllGroups();
-        TabGroupCollectionResponse response = TabGroupCollectionResponse.from(tabGroups);
+    public ResponseEntity<TabGroupCollectionResponse> getAllGroups(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        TabGroupPage tabGroupPage = tabGroupService.getAllGroups(toAfterId(cursor), size);
+        TabGroupCollectionResponse response = TabGroupCollectionResponse.from(tabGroupPage);
 
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/my")
-    public ResponseEntity<TabGroupCollectionResponse> getAllWriterGroups(@CurrentUser CurrentUserId currentUserId) {
-        List<TabGroup> tabGroups = tabGroupService.getAllWriterGroups(currentUserId.userId());
-        TabGroupCollectionResponse response = TabGroupCollectionResponse.from(tabGroups);
+    public ResponseEntity<TabGroupCollectionResponse> getAllWriterGroups(
+            @CurrentUser CurrentUserId currentUserId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        TabGroupPage tabGroupPage = tabGroupService.getAllWriterGroups(currentUserId.userId(), toAfterId(cursor), size);
+        TabGroupCollectionResponse response = TabGroupCollectionResponse.from(tabGroupPage);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/summaries")
+    public ResponseEntity<TabGroupSummaryCollectionResponse> getGroupSummaries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        TabGroupSummaryPage summaryPage = tabGroupService.getGroupSummaries(toAfterId(cursor), size);
+        TabGroupSummaryCollectionResponse response = TabGroupSummaryCollectionResponse.from(summaryPage);
 
         return ResponseEntity.ok(response);
     }
 
+    private long toAfterId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_CURSOR;
+        }
+
+        return CursorToken.decode(cursor, 1)[0];
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<TabGroupResponse> getGroup(@PathVariable Long id) {
+    public ResponseEntity<TabGroupResponse> getGroup(@PathVariable Long id, WebRequest webRequest) {
+        String eTag = VersionETag.of(tabGroupService.getVersion(id), webRequest);
+
+        if (webRequest.checkNotModified(eTag)) {
+            return VersionETag.notModified(eTag);
+        }
+
         TabGroup tabGroup = tabGroupService.getGroup(id);
         TabGroupResponse response = TabGroupResponse.from(tabGroup);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                             .eTag(eTag)
+                             .varyBy(HttpHeaders.ACCEPT)
+                             .body(response);
     }
 
     @PostMapping
@@ -1,16 +1,20 @@
 package com.management.tab.presentation.group.dto.response;
 
+import com.management.tab.application.tab.dto.response.TabGroupPage;
 import com.management.tab.domain.group.TabGroup;
+import com.management.tab.presentation.common.CursorToken;
 import java.util.List;
 
-public record TabGroupCollectionResponse(List<TabGroupResponse> groups) {
+public record TabGroupCollectionResponse(List<TabGroupResponse> groups, String nextCursor) {
 
-    public static TabGroupCollectionResponse from(List<TabGroup> tabGroups) {
-        List<TabGroupResponse> responses = tabGroups.stream()
-                                                    .map(TabGroupResponse::from)
-                                                    .toList();
+    public static TabGroupCollectionResponse from(TabGroupPage tabGroupPage) {
+        List<TabGroupResponse> responses = tabGroupPage.groups()
+                                                       .stream()
+                                                       .map(TabGroupResponse::from)
+                                                       .toList();
+        String nextCursor = tabGroupPage.hasNext() ? CursorToken.encode(tabGroupPage.nextCursor()) : null;
 
-        return new TabGroupCollectionResponse(responses);
+        return new TabGroupCollectionResponse(responses, nextCursor);
     }
 
     public record TabGroupResponse(
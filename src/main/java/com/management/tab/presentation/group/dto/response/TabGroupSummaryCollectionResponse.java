@@ -0,0 +1,45 @@
+package com.management.tab.presentation.group.dto.response;
+
+import com.management.tab.application.tab.dto.response.TabGroupSummaryPage;
+import com.management.tab.domain.group.TabGroup;
+import com.management.tab.domain.group.TabGroupSummary;
+import com.management.tab.presentation.common.CursorToken;
+import java.util.List;
+
+public record TabGroupSummaryCollectionResponse(List<TabGroupSummaryResponse> groups, String nextCursor) {
+
+    public static TabGroupSummaryCollectionResponse from(TabGroupSummaryPage summaryPage) {
+        List<TabGroupSummaryResponse> responses = summaryPage.summaries()
+                                                             .stream()
+                                                             .map(TabGroupSummaryResponse::from)
+                                                             .toList();
+        String nextCursor = summaryPage.hasNext() ? CursorToken.encode(summaryPage.nextCursor()) : null;
+
+        return new TabGroupSummaryCollectionResponse(responses, nextCursor);
+    }
+
+    public record TabGroupSummaryResponse(
+            Long id,
+            String name,
+            int tabCount,
+            int contentCount,
+            int maxDepth,
+            String createdAt,
+            String lastUpdatedAt
+    ) {
+
+        public static TabGroupSummaryResponse from(TabGroupSummary summary) {
+            TabGroup tabGroup = summary.tabGroup();
+
+            return new TabGroupSummaryResponse(
+                    tabGroup.getId(),
+                    tabGroup.getName(),
+                    summary.tabCount(),
+                    summary.contentCount(),
+                    summary.maxDepth(),
+                    tabGroup.getCreatedAt().toString(),
+                    summary.lastUpdatedAt().toString()
+            );
+        }
+    }
+}
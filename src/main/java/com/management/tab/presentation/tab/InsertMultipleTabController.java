@@ -23,29 +23,29 @@ public class InsertMultipleTabController {
     private final InsertMultipleTabService insertMultipleTabService;
 
     @PostMapping("/multiple")
-    public ResponseEntity<List<InsertMultipleTabResponse>> insertMultipleRootTabs(
+    public ResponseEntity<InsertMultipleTabResponse> insertMultipleRootTabs(
             @PathVariable Long groupId,
             @RequestBody List<InsertMultipleTabRequest> requests,
             @CurrentUser CurrentUserId currentUserId
     ) {
-        List<InsertMultipleTabResponse> responses = insertMultipleTabService.insertMultipleRootTabs(
+        InsertMultipleTabResponse response = insertMultipleTabService.insertMultipleRootTabs(
                 groupId,
                 currentUserId.userId(),
                 requests
         );
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                             .body(responses);
+                             .body(response);
     }
 
     @PostMapping("/{parentTabId}/multiple-children")
-    public ResponseEntity<List<InsertMultipleTabResponse>> insertMultipleChildTabs(
+    public ResponseEntity<InsertMultipleTabResponse> insertMultipleChildTabs(
             @PathVariable Long groupId,
             @PathVariable Long parentTabId,
             @RequestBody List<InsertMultipleTabRequest> requests,
             @CurrentUser CurrentUserId currentUserId
     ) {
-        List<InsertMultipleTabResponse> responses = insertMultipleTabService.insertMultipleChildTabs(
+        InsertMultipleTabResponse response = insertMultipleTabService.insertMultipleChildTabs(
                 groupId,
                 parentTabId,
                 currentUserId.userId(),
@@ -53,6 +53,6 @@ public class InsertMultipleTabController {
         );
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                             .body(responses);
+                             .body(response);
     }
 }
@@ -1,11 +1,23 @@
 package com.management.tab.presentation.tab;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.tab.application.tab.TabChangeService;
+import com.management.tab.application.tab.TabGroupService;
 import com.management.tab.application.tab.TabService;
+import com.management.tab.application.tab.dto.response.TabChangeSet;
+import com.management.tab.application.tab.dto.response.TabOutlinePage;
+import com.management.tab.application.tab.dto.response.TabTreeWindow;
 import com.management.tab.config.auth.resolver.CurrentUser;
 import com.management.tab.config.auth.resolver.CurrentUserId;
+import com.management.tab.domain.tab.TabCursor;
+import com.management.tab.domain.tab.TabOutline;
 import com.management.tab.domain.tab.TabTree;
 import com.management.tab.domain.tab.vo.TabId;
+import com.management.tab.presentation.common.CursorToken;
+import com.management.tab.presentation.common.CursorToken.InvalidCursorException;
 import com.management.tab.presentation.common.ResponseVoidConst;
+import com.management.tab.presentation.common.VersionETag;
 import com.management.tab.presentation.tab.dto.request.CreateChildTabRequest;
 import com.management.tab.presentation.tab.dto.request.CreateRootTabRequest;
 import com.management.tab.presentation.tab.dto.request.MoveTabRequest;
@@ -13,9 +25,17 @@ import com.management.tab.presentation.tab.dto.request.ReorderTabRequest;
 import com.management.tab.presentation.tab.dto.request.UpdateTabRequest;
 import com.management.tab.presentation.tab.dto.response.CreateChildTabResponse;
 import com.management.tab.presentation.tab.dto.response.CreateRootTabResponse;
+import com.management.tab.presentation.tab.dto.response.TabChangesResponse;
+import com.management.tab.presentation.tab.dto.response.TabChildrenResponse;
+import com.management.tab.presentation.tab.dto.response.TabSubtreeResponse;
 import com.management.tab.presentation.tab.dto.response.TabTreeResponse;
+import com.management.tab.presentation.tab.dto.response.TabTreeWindowResponse;
+import java.io.IOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,6 +46,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/tabs")
@@ -33,6 +56,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class TabController {
 
     private final TabService tabService;
+    private final TabGroupService tabGroupService;
+    private final TabChangeService tabChangeService;
+    private final TabGroupEventBroadcaster tabGroupEventBroadcaster;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/groups/{groupId}/root")
     public ResponseEntity<CreateRootTabResponse> createRootTab(
@@ -126,10 +153,166 @@ public class TabController {
     }
 
     @GetMapping("/groups/{groupId}/tree")
-    public ResponseEntity<TabTreeResponse> getTabTree(@PathVariable Long groupId) {
+    public ResponseEntity<TabTreeResponse> getTabTree(@PathVariable Long groupId, WebRequest webRequest) {
+        String eTag = VersionETag.of(tabGroupService.getVersion(groupId), webRequest);
+
+        if (webRequest.checkNotModified(eTag)) {
+            return VersionETag.notModified(eTag);
+        }
+
         TabTree tree = tabService.getTabTree(groupId);
         TabTreeResponse response = TabTreeResponse.from(tree);
 
+        return ResponseEntity.ok()
+                             .eTag(eTag)
+                             .varyBy(HttpHeaders.ACCEPT)
+                             .body(response);
+    }
+
+    @GetMapping("/{tabId}/subtree")
+    public ResponseEntity<TabSubtreeResponse> getSubtree(
+            @PathVariable Long tabId,
+            @RequestParam(defaultValue = "1") int depth,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        List<TabOutline> subtree = tabService.getSubtree(tabId, depth, size);
+        TabSubtreeResponse response = TabSubtreeResponse.from(subtree);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{tabId}/children")
+    public ResponseEntity<TabChildrenResponse> getChildren(
+            @PathVariable Long tabId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        TabOutlinePage page = tabService.getChildren(tabId, toTabCursor(cursor), size);
+        TabChildrenResponse response = TabChildrenResponse.from(page);
+
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/groups/{groupId}/roots")
+    public ResponseEntity<TabChildrenResponse> getRootTabs(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        TabOutlinePage page = tabService.getRootTabs(groupId, toTabCursor(cursor), size);
+        TabChildrenResponse response = TabChildrenResponse.from(page);
+
+        return ResponseEntity.ok(response);
+    }
+
+    private TabCursor toTabCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return TabCursor.FIRST;
+        }
+
+        long[] values = CursorToken.decode(cursor, 2);
+
+        try {
+            return new TabCursor(Math.toIntExact(values[0]), values[1]);
+        } catch (ArithmeticException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    @GetMapping("/groups/{groupId}/tree/window")
+    public ResponseEntity<TabTreeWindowResponse> getTabTreeWindow(
+            @PathVariable Long groupId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "100") int limit,
+            WebRequest webRequest
+    ) {
+        String eTag = VersionETag.of(tabGroupService.getVersion(groupId), webRequest);
+
+        if (webRequest.checkNotModified(eTag)) {
+            return VersionETag.notModified(eTag);
+        }
+
+        TabTreeWindow window = tabService.getPreOrderWindow(groupId, offset, limit);
+        TabTreeWindowResponse response = TabTreeWindowResponse.from(window);
+
+        return ResponseEntity.ok()
+                             .eTag(eTag)
+                             .varyBy(HttpHeaders.ACCEPT)
+                             .body(response);
+    }
+
+    @GetMapping("/groups/{groupId}/changes")
+    public ResponseEntity<TabChangesResponse> getChanges(@PathVariable Long groupId, @RequestParam long since) {
+        TabChangeSet tabChangeSet = tabChangeService.getChangesSince(groupId, since);
+        TabChangesResponse response = TabChangesResponse.from(tabChangeSet);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/groups/{groupId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeGroupEvents(@PathVariable Long groupId) {
+        return tabGroupEventBroadcaster.subscribe(groupId);
+    }
+
+    @GetMapping(value = "/groups/{groupId}/tree", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamTabTree(@PathVariable Long groupId, WebRequest webRequest) {
+        return streamTabTree(groupId, webRequest, "stream", MediaType.APPLICATION_JSON, TabTreeJsonWriter::new);
+    }
+
+    @GetMapping(value = "/groups/{groupId}/tree", produces = TabTreeMediaType.FLAT_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getFlatTabTree(@PathVariable Long groupId, WebRequest webRequest) {
+        return streamTabTree(
+                groupId,
+                webRequest,
+                "flat",
+                MediaType.valueOf(TabTreeMediaType.FLAT_JSON_VALUE),
+                TabTreeFlatJsonWriter::new
+        );
+    }
+
+    @GetMapping(value = "/groups/{groupId}/tree", produces = TabTreeMediaType.COLUMNAR_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getColumnarTabTree(@PathVariable Long groupId, WebRequest webRequest) {
+        return streamTabTree(
+                groupId,
+                webRequest,
+                "columnar",
+                MediaType.valueOf(TabTreeMediaType.COLUMNAR_JSON_VALUE),
+                TabTreeColumnarJsonWriter::new
+        );
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamTabTree(
+            Long groupId,
+            WebRequest webRequest,
+            String variant,
+            MediaType mediaType,
+            TabTreeWriterFactory writerFactory
+    ) {
+        String eTag = VersionETag.of(tabGroupService.getVersion(groupId), variant);
+
+        if (webRequest.checkNotModified(eTag)) {
+            return VersionETag.notModified(eTag);
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+
+            try (TabTreeWriter writer = writerFactory.create(generator)) {
+                tabService.streamTabsInPreOrder(groupId, writer::write);
+                writer.finish();
+            }
+        };
+
+        return ResponseEntity.ok()
+                             .contentType(mediaType)
+                             .eTag(eTag)
+                             .varyBy(HttpHeaders.ACCEPT)
+                             .body(body);
+    }
+
+    @FunctionalInterface
+    private interface TabTreeWriterFactory {
+
+        TabTreeWriter create(JsonGenerator generator) throws IOException;
+    }
 }
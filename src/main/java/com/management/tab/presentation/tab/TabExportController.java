@@ -0,0 +1,53 @@
+package com.management.tab.presentation.tab;
+
+import com.management.tab.application.tab.TabGroupService;
+import com.management.tab.application.tab.TabService;
+import com.management.tab.domain.group.TabGroup;
+import com.management.tab.infrastructure.bookmark.BookmarkHtmlWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/groups/{groupId}/tabs/export")
+@RequiredArgsConstructor
+public class TabExportController {
+
+    private static final String BOOKMARK_FILE_NAME = "bookmarks.html";
+
+    private final TabService tabService;
+    private final TabGroupService tabGroupService;
+    private final Clock clock;
+
+    @GetMapping(produces = MediaType.TEXT_HTML_VALUE)
+    public void exportBookmarkHtml(@PathVariable Long groupId, HttpServletResponse response) throws IOException {
+        TabGroup tabGroup = tabGroupService.getGroup(groupId);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.TEXT_HTML_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment()
+                                  .filename(BOOKMARK_FILE_NAME)
+                                  .build()
+                                  .toString()
+        );
+
+        BookmarkHtmlWriter bookmarkHtmlWriter = new BookmarkHtmlWriter(response.getWriter(), clock.getZone());
+
+        bookmarkHtmlWriter.writeHeader(tabGroup.getName());
+        tabService.streamTabsInPreOrder(groupId, bookmarkHtmlWriter::write);
+        bookmarkHtmlWriter.finish();
+    }
+}
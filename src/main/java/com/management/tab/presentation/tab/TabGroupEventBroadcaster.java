@@ -0,0 +1,282 @@
+package com.management.tab.presentation.tab;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.tab.application.tab.TabGroupChangedEvent;
+import com.management.tab.application.tab.TabGroupService;
+import com.management.tab.config.properties.TabEventProperties;
+import com.management.tab.presentation.tab.dto.response.TabGroupChangeEventResponse;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+public class TabGroupEventBroadcaster {
+
+    private static final String CHANGE_EVENT_NAME = "change";
+    private static final String RESYNC_EVENT_NAME = "resync";
+    private static final String SENDER_THREAD_PREFIX = "tab-event-sender-";
+
+    private final Map<Long, Set<Subscriber>> subscribersByGroupId = new ConcurrentHashMap<>();
+    private final TabGroupService tabGroupService;
+    private final ObjectMapper objectMapper;
+    private final TabEventProperties tabEventProperties;
+    private final ExecutorService senderExecutor;
+    private final ScheduledExecutorService sendWatchdog;
+
+    public TabGroupEventBroadcaster(
+            TabGroupService tabGroupService,
+            ObjectMapper objectMapper,
+            TabEventProperties tabEventProperties,
+            Environment environment
+    ) {
+        this.tabGroupService = tabGroupService;
+        this.objectMapper = objectMapper;
+        this.tabEventProperties = tabEventProperties;
+        this.senderExecutor = createSenderExecutor(environment);
+        this.sendWatchdog = createSendWatchdog();
+    }
+
+    private ExecutorService createSenderExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(SENDER_THREAD_PREFIX, 0).factory());
+        }
+
+        int senderThreads = tabEventProperties.senderThreads();
+
+        return new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+    }
+
+    private ScheduledExecutorService createSendWatchdog() {
+        ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tab-event-send-watchdog");
+
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodMillis = Math.max(1L, tabEventProperties.sendTimeout().toMillis() / 2);
+
+        watchdog.scheduleWithFixedDelay(this::abandonStalledSends, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        return watchdog;
+    }
+
+    public SseEmitter subscribe(Long groupId) {
+        return subscribe(groupId, new SseEmitter(tabEventProperties.timeout().toMillis()));
+    }
+
+    SseEmitter subscribe(Long groupId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(groupId, emitter);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ignored -> unsubscribe(subscriber));
+        subscribersByGroupId.compute(groupId, (ignored, subscribers) -> {
+            Set<Subscriber> groupSubscribers = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+
+            groupSubscribers.add(subscriber);
+            return groupSubscribers;
+        });
+        subscriber.enqueue(createChangeEvent(groupId, tabGroupService.getVersion(groupId)));
+
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void broadcast(TabGroupChangedEvent event) {
+        Long groupId = event.tabGroupId().getValue();
+        Set<Subscriber> subscribers = subscribersByGroupId.get(groupId);
+
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        Set<DataWithMediaType> changeEvent = createChangeEvent(groupId, event.version());
+
+        subscribers.forEach(subscriber -> subscriber.enqueue(changeEvent));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendWatchdog.shutdownNow();
+        senderExecutor.shutdownNow();
+    }
+
+    private void abandonStalledSends() {
+        long now = System.nanoTime();
+
+        subscribersByGroupId.values()
+                            .forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.abandonIfStalled(now)));
+    }
+
+    private void adjustSenderThreads(int delta) {
+        if (!(senderExecutor instanceof ThreadPoolExecutor pool)) {
+            return;
+        }
+
+        synchronized (pool) {
+            int senderThreads = pool.getCorePoolSize() + delta;
+
+            if (delta > 0) {
+                pool.setMaximumPoolSize(senderThreads);
+                pool.setCorePoolSize(senderThreads);
+            } else {
+                pool.setCorePoolSize(senderThreads);
+                pool.setMaximumPoolSize(senderThreads);
+            }
+        }
+    }
+
+    private Set<DataWithMediaType> createChangeEvent(Long groupId, long version) {
+        try {
+            String data = objectMapper.writeValueAsString(new TabGroupChangeEventResponse(groupId, version));
+
+            return SseEmitter.event()
+                             .id(String.valueOf(version))
+                             .name(CHANGE_EVENT_NAME)
+                             .data(data)
+                             .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Set<DataWithMediaType> createResyncEvent(Long groupId) {
+        return SseEmitter.event()
+                         .name(RESYNC_EVENT_NAME)
+                         .data("{\"groupId\":" + groupId + "}")
+                         .build();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribersByGroupId.computeIfPresent(subscriber.groupId, (ignored, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private final class Subscriber {
+
+        private final Long groupId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> pendingEvents;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean abandoned = new AtomicBoolean();
+        private final AtomicBoolean borrowingSenderThread = new AtomicBoolean();
+
+        private volatile boolean closing;
+        private volatile long sendStartedAt;
+
+        private Subscriber(Long groupId, SseEmitter emitter) {
+            this.groupId = groupId;
+            this.emitter = emitter;
+            this.pendingEvents = new ArrayBlockingQueue<>(tabEventProperties.queueCapacity());
+        }
+
+        private void enqueue(Set<DataWithMediaType> event) {
+            if (closing) {
+                return;
+            }
+
+            if (!pendingEvents.offer(event)) {
+                requireResync();
+                return;
+            }
+
+            scheduleDrain();
+        }
+
+        private void requireResync() {
+            closing = true;
+            unsubscribe(this);
+            pendingEvents.clear();
+            pendingEvents.offer(createResyncEvent(groupId));
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senderExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+
+                while ((event = pendingEvents.poll()) != null) {
+                    send(event);
+                }
+
+                if (closing) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                closing = true;
+                pendingEvents.clear();
+                unsubscribe(this);
+            } finally {
+                draining.set(false);
+            }
+
+            if (!pendingEvents.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(Set<DataWithMediaType> event) throws IOException {
+            sendStartedAt = System.nanoTime();
+
+            try {
+                emitter.send(event);
+            } finally {
+                sendStartedAt = 0L;
+                returnSenderThread();
+            }
+        }
+
+        private void abandonIfStalled(long now) {
+            long startedAt = sendStartedAt;
+
+            if (startedAt == 0L || now - startedAt < tabEventProperties.sendTimeout().toNanos()) {
+                return;
+            }
+
+            if (abandoned.compareAndSet(false, true)) {
+                closing = true;
+                pendingEvents.clear();
+                unsubscribe(this);
+                borrowingSenderThread.set(true);
+                adjustSenderThreads(1);
+
+                if (sendStartedAt == 0L) {
+                    returnSenderThread();
+                }
+            }
+        }
+
+        private void returnSenderThread() {
+            if (borrowingSenderThread.compareAndSet(true, false)) {
+                adjustSenderThreads(-1);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.management.tab.presentation.tab;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.tab.application.tab.TabImportService;
+import com.management.tab.application.tab.TabImportService.ImportTarget;
+import com.management.tab.application.tab.dto.request.ImportedTab;
+import com.management.tab.application.tab.dto.response.TabImportProgress;
+import com.management.tab.config.auth.resolver.CurrentUser;
+import com.management.tab.config.auth.resolver.CurrentUserId;
+import com.management.tab.infrastructure.bookmark.BookmarkHtmlTabImportReader;
+import com.management.tab.infrastructure.imports.JsonTabImportReader;
+import com.management.tab.infrastructure.imports.NdjsonTabImportReader;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/groups/{groupId}/tabs/import")
+@RequiredArgsConstructor
+public class TabImportController {
+
+    private final TabImportService tabImportService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importJson(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) Long parentTabId,
+            @CurrentUser CurrentUserId currentUserId,
+            InputStream body,
+            HttpServletResponse response
+    ) throws IOException {
+        ImportTarget target = tabImportService.prepareImport(groupId, parentTabId, currentUserId.userId());
+
+        importTabs(target, new JsonTabImportReader(objectMapper.getFactory(), body), response);
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importNdjson(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) Long parentTabId,
+            @CurrentUser CurrentUserId currentUserId,
+            InputStream body,
+            HttpServletResponse response
+    ) throws IOException {
+        ImportTarget target = tabImportService.prepareImport(groupId, parentTabId, currentUserId.userId());
+
+        importTabs(target, new NdjsonTabImportReader(objectMapper, body), response);
+    }
+
+    @PostMapping(consumes = MediaType.TEXT_HTML_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importBookmarkHtml(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) Long parentTabId,
+            @CurrentUser CurrentUserId currentUserId,
+            InputStream body,
+            HttpServletResponse response
+    ) throws IOException {
+        ImportTarget target = tabImportService.prepareImport(groupId, parentTabId, currentUserId.userId());
+        InputStreamReader reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+
+        importTabs(target, new BookmarkHtmlTabImportReader(reader), response);
+    }
+
+    private void importTabs(
+            ImportTarget target,
+            Iterator<ImportedTab> importedTabs,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+
+        OutputStream outputStream = response.getOutputStream();
+
+        tabImportService.importTabs(target, importedTabs, progress -> writeProgress(outputStream, progress));
+    }
+
+    private void writeProgress(OutputStream outputStream, TabImportProgress progress) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(progress));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
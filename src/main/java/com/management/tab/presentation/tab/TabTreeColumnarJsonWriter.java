@@ -0,0 +1,88 @@
+package com.management.tab.presentation.tab;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabNode;
+import java.io.IOException;
+import java.util.Arrays;
+
+public class TabTreeColumnarJsonWriter implements TabTreeWriter {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final JsonGenerator generator;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private Long[] parentIds = new Long[INITIAL_CAPACITY];
+    private int[] positions = new int[INITIAL_CAPACITY];
+    private int[] depths = new int[INITIAL_CAPACITY];
+    private String[] titles = new String[INITIAL_CAPACITY];
+    private String[] urls = new String[INITIAL_CAPACITY];
+    private int size;
+
+    public TabTreeColumnarJsonWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public void write(TabNode tabNode) {
+        Tab tab = tabNode.getTab();
+
+        ensureCapacity();
+        ids[size] = tab.getId();
+        parentIds[size] = tab.getParentId();
+        positions[size] = tab.getPosition();
+        depths[size] = tabNode.getDepth();
+        titles[size] = tab.getTitle();
+        urls[size] = tab.getUrl();
+        size++;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("ids");
+        generator.writeArray(ids, 0, size);
+        writeParentIds();
+        generator.writeFieldName("positions");
+        generator.writeArray(positions, 0, size);
+        generator.writeFieldName("depths");
+        generator.writeArray(depths, 0, size);
+        generator.writeFieldName("titles");
+        generator.writeArray(titles, 0, size);
+        generator.writeFieldName("urls");
+        generator.writeArray(urls, 0, size);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.close();
+    }
+
+    private void writeParentIds() throws IOException {
+        generator.writeArrayFieldStart("parentIds");
+
+        for (int i = 0; i < size; i++) {
+            TabTreeFlatJsonWriter.writeNullableNumber(generator, parentIds[i]);
+        }
+
+        generator.writeEndArray();
+    }
+
+    private void ensureCapacity() {
+        if (size < ids.length) {
+            return;
+        }
+
+        int capacity = ids.length * 2;
+
+        ids = Arrays.copyOf(ids, capacity);
+        parentIds = Arrays.copyOf(parentIds, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        depths = Arrays.copyOf(depths, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        urls = Arrays.copyOf(urls, capacity);
+    }
+}
@@ -0,0 +1,59 @@
+package com.management.tab.presentation.tab;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabNode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public class TabTreeFlatJsonWriter implements TabTreeWriter {
+
+    private final JsonGenerator generator;
+
+    public TabTreeFlatJsonWriter(JsonGenerator generator) throws IOException {
+        this.generator = generator;
+
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("tabs");
+    }
+
+    @Override
+    public void write(TabNode tabNode) {
+        Tab tab = tabNode.getTab();
+
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("id", tab.getId());
+            generator.writeFieldName("parentId");
+            writeNullableNumber(generator, tab.getParentId());
+            generator.writeNumberField("position", tab.getPosition());
+            generator.writeNumberField("depth", tabNode.getDepth());
+            generator.writeStringField("title", tab.getTitle());
+            generator.writeStringField("url", tab.getUrl());
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.close();
+    }
+
+    static void writeNullableNumber(JsonGenerator generator, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeNumber(value);
+    }
+}
@@ -0,0 +1,77 @@
+package com.management.tab.presentation.tab;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabNode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public class TabTreeJsonWriter implements TabTreeWriter {
+
+    private final JsonGenerator generator;
+
+    private int openDepth = -1;
+
+    public TabTreeJsonWriter(JsonGenerator generator) throws IOException {
+        this.generator = generator;
+
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("tabs");
+    }
+
+    @Override
+    public void write(TabNode tabNode) {
+        try {
+            closeNodesUntil(tabNode.getDepth());
+            writeNodeStart(tabNode);
+            openDepth = tabNode.getDepth();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        closeNodesUntil(0);
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.close();
+    }
+
+    private void writeNodeStart(TabNode tabNode) throws IOException {
+        Tab tab = tabNode.getTab();
+
+        generator.writeStartObject();
+        generator.writeNumberField("id", tab.getId());
+        writeNullableNumberField("parentId", tab.getParentId());
+        generator.writeStringField("title", tab.getTitle());
+        generator.writeStringField("url", tab.getUrl());
+        generator.writeNumberField("position", tab.getPosition());
+        generator.writeNumberField("depth", tabNode.getDepth());
+        generator.writeArrayFieldStart("children");
+    }
+
+    private void writeNullableNumberField(String fieldName, Long value) throws IOException {
+        generator.writeFieldName(fieldName);
+
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeNumber(value);
+    }
+
+    private void closeNodesUntil(int depth) throws IOException {
+        while (openDepth >= depth) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+            openDepth--;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.management.tab.presentation.tab;
+
+public final class TabTreeMediaType {
+
+    public static final String FLAT_JSON_VALUE = "application/vnd.tab-tree.flat+json";
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.tab-tree.columnar+json";
+
+    private TabTreeMediaType() {
+    }
+}
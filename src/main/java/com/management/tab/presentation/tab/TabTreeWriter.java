@@ -0,0 +1,12 @@
+package com.management.tab.presentation.tab;
+
+import com.management.tab.domain.tab.TabNode;
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface TabTreeWriter extends Closeable {
+
+    void write(TabNode tabNode);
+
+    void finish() throws IOException;
+}
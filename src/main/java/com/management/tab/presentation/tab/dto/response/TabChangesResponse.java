@@ -0,0 +1,79 @@
+package com.management.tab.presentation.tab.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.management.tab.application.tab.dto.response.TabChangeSet;
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabChange;
+import com.management.tab.domain.tab.TabNode;
+import java.util.List;
+
+public record TabChangesResponse(
+        long version,
+        boolean snapshot,
+        List<TabChangeResponse> changes,
+        List<TabSnapshotResponse> tabs
+) {
+
+    public static TabChangesResponse from(TabChangeSet tabChangeSet) {
+        List<TabChangeResponse> changes = tabChangeSet.changes()
+                                                      .stream()
+                                                      .map(TabChangeResponse::from)
+                                                      .toList();
+        List<TabSnapshotResponse> tabs = tabChangeSet.tabs()
+                                                     .stream()
+                                                     .map(TabSnapshotResponse::from)
+                                                     .toList();
+
+        return new TabChangesResponse(tabChangeSet.version(), tabChangeSet.snapshot(), changes, tabs);
+    }
+
+    @JsonInclude(Include.NON_NULL)
+    public record TabChangeResponse(
+            long version,
+            String operation,
+            Long tabId,
+            Long parentId,
+            String title,
+            String url,
+            Integer position,
+            boolean withSubtree
+    ) {
+
+        public static TabChangeResponse from(TabChange tabChange) {
+            return new TabChangeResponse(
+                    tabChange.version(),
+                    tabChange.type().name(),
+                    tabChange.tabId(),
+                    tabChange.parentId(),
+                    tabChange.title(),
+                    tabChange.url(),
+                    tabChange.position(),
+                    tabChange.withSubtree()
+            );
+        }
+    }
+
+    public record TabSnapshotResponse(
+            Long id,
+            Long parentId,
+            String title,
+            String url,
+            Integer position,
+            Integer depth
+    ) {
+
+        public static TabSnapshotResponse from(TabNode tabNode) {
+            Tab tab = tabNode.getTab();
+
+            return new TabSnapshotResponse(
+                    tab.getId(),
+                    tab.getParentId(),
+                    tab.getTitle(),
+                    tab.getUrl(),
+                    tab.getPosition(),
+                    tabNode.getDepth()
+            );
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.management.tab.presentation.tab.dto.response;
+
+import com.management.tab.application.tab.dto.response.TabOutlinePage;
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabCursor;
+import com.management.tab.domain.tab.TabOutline;
+import com.management.tab.presentation.common.CursorToken;
+import java.util.List;
+
+public record TabChildrenResponse(List<TabOutlineResponse> tabs, String nextCursor) {
+
+    public static TabChildrenResponse from(TabOutlinePage page) {
+        List<TabOutlineResponse> tabs = page.tabs()
+                                            .stream()
+                                            .map(TabOutlineResponse::from)
+                                            .toList();
+
+        return new TabChildrenResponse(tabs, page.hasNext() ? encode(page.nextCursor()) : null);
+    }
+
+    private static String encode(TabCursor cursor) {
+        return CursorToken.encode(cursor.position(), cursor.id());
+    }
+
+    public record TabOutlineResponse(
+            Long id,
+            Long parentId,
+            String title,
+            String url,
+            int position,
+            int childCount,
+            boolean hasChildren
+    ) {
+
+        public static TabOutlineResponse from(TabOutline outline) {
+            Tab tab = outline.tab();
+
+            return new TabOutlineResponse(
+                    tab.getId(),
+                    tab.getParentId(),
+                    tab.getTitle(),
+                    tab.getUrl(),
+                    tab.getPosition(),
+                    outline.childCount(),
+                    outline.hasChildren()
+            );
+        }
+    }
+}
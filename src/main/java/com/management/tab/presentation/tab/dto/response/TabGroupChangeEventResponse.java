@@ -0,0 +1,4 @@
+package com.management.tab.presentation.tab.dto.response;
+
+public record TabGroupChangeEventResponse(Long groupId, long version) {
+}
@@ -0,0 +1,65 @@
+package com.management.tab.presentation.tab.dto.response;
+
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabCursor;
+import com.management.tab.domain.tab.TabOutline;
+import com.management.tab.presentation.common.CursorToken;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public record TabSubtreeResponse(
+        Long id,
+        Long parentId,
+        String title,
+        String url,
+        int position,
+        int depth,
+        int childCount,
+        boolean hasChildren,
+        List<TabSubtreeResponse> children,
+        String nextCursor
+) {
+
+    public static TabSubtreeResponse from(List<TabOutline> subtree) {
+        TabOutline root = subtree.get(0);
+        Map<Long, List<TabOutline>> childrenByParentId = subtree.stream()
+                                                                .skip(1)
+                                                                .collect(Collectors.groupingBy(
+                                                                        outline -> outline.tab().getParentId()
+                                                                ));
+
+        return from(root, childrenByParentId);
+    }
+
+    private static TabSubtreeResponse from(TabOutline outline, Map<Long, List<TabOutline>> childrenByParentId) {
+        Tab tab = outline.tab();
+        List<TabOutline> childOutlines = childrenByParentId.getOrDefault(tab.getId(), List.of());
+        List<TabSubtreeResponse> children = childOutlines.stream()
+                                                         .map(child -> from(child, childrenByParentId))
+                                                         .toList();
+
+        return new TabSubtreeResponse(
+                tab.getId(),
+                tab.getParentId(),
+                tab.getTitle(),
+                tab.getUrl(),
+                tab.getPosition(),
+                outline.depth(),
+                outline.childCount(),
+                outline.hasChildren(),
+                children,
+                nextCursor(outline, childOutlines)
+        );
+    }
+
+    private static String nextCursor(TabOutline outline, List<TabOutline> childOutlines) {
+        if (childOutlines.isEmpty() || childOutlines.size() >= outline.childCount()) {
+            return null;
+        }
+
+        TabCursor cursor = TabCursor.after(childOutlines.get(childOutlines.size() - 1).tab());
+
+        return CursorToken.encode(cursor.position(), cursor.id());
+    }
+}
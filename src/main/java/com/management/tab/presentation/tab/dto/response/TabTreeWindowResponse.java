@@ -0,0 +1,17 @@
+package com.management.tab.presentation.tab.dto.response;
+
+import com.management.tab.application.tab.dto.response.TabTreeWindow;
+import com.management.tab.presentation.tab.dto.response.TabChangesResponse.TabSnapshotResponse;
+import java.util.List;
+
+public record TabTreeWindowResponse(int offset, int totalCount, List<TabSnapshotResponse> rows) {
+
+    public static TabTreeWindowResponse from(TabTreeWindow window) {
+        List<TabSnapshotResponse> rows = window.rows()
+                                               .stream()
+                                               .map(TabSnapshotResponse::from)
+                                               .toList();
+
+        return new TabTreeWindowResponse(window.offset(), window.totalCount(), rows);
+    }
+}
@@ -8,7 +8,10 @@ import com.management.tab.application.tab.dto.request.InsertMultipleTabRequest;
 import com.management.tab.application.tab.dto.response.InsertMultipleTabResponse;
 import com.management.tab.domain.group.vo.TabGroupId;
 import com.management.tab.domain.repository.TabRepository;
+import com.management.tab.domain.tab.Tab;
 import com.management.tab.domain.tab.TabTree;
+import com.management.tab.domain.tab.vo.TabId;
+import com.management.tab.domain.tab.vo.TabPosition;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -39,10 +42,10 @@ class InsertMultipleTabServiceTest {
         );
 
         // when
-        List<InsertMultipleTabResponse> actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
+        InsertMultipleTabResponse actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
 
         // then
-        assertThat(actual).hasSize(2);
+        assertThat(actual.tabIds()).hasSize(2);
     }
 
     @Test
@@ -73,10 +76,10 @@ class InsertMultipleTabServiceTest {
         );
 
         // when
-        List<InsertMultipleTabResponse> actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
+        InsertMultipleTabResponse actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
 
         // then
-        assertThat(actual.get(0).depth()).isZero();
+        assertThat(findDepth(actual, 0)).isZero();
     }
 
     @Test
@@ -88,12 +91,12 @@ class InsertMultipleTabServiceTest {
         );
 
         // when
-        List<InsertMultipleTabResponse> actual = insertMultipleTabService.insertMultipleChildTabs(
+        InsertMultipleTabResponse actual = insertMultipleTabService.insertMultipleChildTabs(
                 1L, 100L, 1L, requests
         );
 
         // then
-        assertThat(actual).hasSize(2);
+        assertThat(actual.tabIds()).hasSize(2);
     }
 
     @Test
@@ -124,12 +127,12 @@ class InsertMultipleTabServiceTest {
         );
 
         // when
-        List<InsertMultipleTabResponse> actual = insertMultipleTabService.insertMultipleChildTabs(
+        InsertMultipleTabResponse actual = insertMultipleTabService.insertMultipleChildTabs(
                 1L, 100L, 1L, requests
         );
 
         // then
-        assertThat(actual.get(0).depth()).isEqualTo(1);
+        assertThat(findDepth(actual, 0)).isEqualTo(1);
     }
 
     @Test
@@ -147,14 +150,14 @@ class InsertMultipleTabServiceTest {
         );
 
         // when
-        List<InsertMultipleTabResponse> actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
+        InsertMultipleTabResponse actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
 
         // then
         assertAll(
-                () -> assertThat(actual).hasSize(1),
-                () -> assertThat(actual.get(0).children()).hasSize(2),
-                () -> assertThat(actual.get(0).depth()).isZero(),
-                () -> assertThat(actual.get(0).children().get(0).depth()).isEqualTo(1)
+                () -> assertThat(actual.tabIds()).hasSize(3),
+                () -> assertThat(findDepth(actual, 0)).isZero(),
+                () -> assertThat(findDepth(actual, 1)).isEqualTo(1),
+                () -> assertThat(findDepth(actual, 2)).isEqualTo(1)
         );
     }
 
@@ -182,12 +185,10 @@ class InsertMultipleTabServiceTest {
         );
 
         // when
-        List<InsertMultipleTabResponse> actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
+        InsertMultipleTabResponse actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
 
         // then
-        assertThat(actual.get(0).children()
-                         .get(0).children()
-                         .get(0).depth()).isEqualTo(2);
+        assertThat(findDepth(actual, 2)).isEqualTo(2);
     }
 
     @Test
@@ -205,16 +206,15 @@ class InsertMultipleTabServiceTest {
         );
 
         // when
-        List<InsertMultipleTabResponse> actual = insertMultipleTabService.insertMultipleChildTabs(
+        InsertMultipleTabResponse actual = insertMultipleTabService.insertMultipleChildTabs(
                 1L, 100L, 1L, requests
         );
 
         // then
         assertAll(
-                () -> assertThat(actual).hasSize(1),
-                () -> assertThat(actual.get(0).children()).hasSize(2),
-                () -> assertThat(actual.get(0).depth()).isEqualTo(1),
-                () -> assertThat(actual.get(0).children().get(0).depth()).isEqualTo(2)
+                () -> assertThat(actual.tabIds()).hasSize(3),
+                () -> assertThat(findDepth(actual, 0)).isEqualTo(1),
+                () -> assertThat(findDepth(actual, 1)).isEqualTo(2)
         );
     }
 
@@ -342,78 +342,104 @@ class InsertMultipleTabServiceTest {
         );
 
         // when
-        List<InsertMultipleTabResponse> actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
+        InsertMultipleTabResponse actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
 
         // then
-        assertThat(actual.get(0).tabId()).isNotNull();
+        assertThat(actual.tabIds().get(0)).isNotNull();
     }
 
     @Test
-    void 응답_구조에_제목과_URL이_포함된다() {
+    void 응답의_탭_아이디로_저장된_제목과_URL을_조회할_수_있다() {
         // given
         List<InsertMultipleTabRequest> requests = List.of(
                 new InsertMultipleTabRequest("루트 탭", "https://root.com", Collections.emptyList())
         );
 
         // when
-        List<InsertMultipleTabResponse> actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
+        InsertMultipleTabResponse actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
 
         // then
+        Tab savedTab = tabRepository.findTab(actual.tabIds().get(0));
+
         assertAll(
-                () -> assertThat(actual.get(0).title()).isEqualTo("루트 탭"),
-                () -> assertThat(actual.get(0).url()).isEqualTo("https://root.com")
+                () -> assertThat(savedTab.getTitle()).isEqualTo("루트 탭"),
+                () -> assertThat(savedTab.getUrl()).isEqualTo("https://root.com")
         );
     }
 
     @Test
-    void 응답_구조에_깊이와_위치가_포함된다() {
+    void 형제_탭은_요청_순서대로_간격을_두고_배치된다() {
         // given
         List<InsertMultipleTabRequest> requests = List.of(
-                new InsertMultipleTabRequest("루트 탭", "https://root.com", Collections.emptyList())
+                new InsertMultipleTabRequest("루트 탭 1", "https://root1.com", Collections.emptyList()),
+                new InsertMultipleTabRequest("루트 탭 2", "https://root2.com", Collections.emptyList())
         );
 
         // when
-        List<InsertMultipleTabResponse> actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
+        InsertMultipleTabResponse actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
 
         // then
-        assertAll(
-                () -> assertThat(actual.get(0).depth()).isZero(),
-                () -> assertThat(actual.get(0).position()).isGreaterThanOrEqualTo(0)
-        );
+        Tab first = tabRepository.findTab(actual.tabIds().get(0));
+        Tab second = tabRepository.findTab(actual.tabIds().get(1));
+
+        assertThat(second.getPosition() - first.getPosition()).isEqualTo(TabPosition.GAP);
     }
 
     @Test
-    void 응답_구조에_자식_탭들이_포함된다() {
+    void 응답의_탭_아이디는_요청의_전위_순회_순서를_따른다() {
         // given
         List<InsertMultipleTabRequest> requests = List.of(
                 new InsertMultipleTabRequest(
                         "부모",
                         "https://parent.com",
                         List.of(
-                                new InsertMultipleTabRequest("자식 1", "https://child1.com", Collections.emptyList()),
+                                new InsertMultipleTabRequest(
+                                        "자식 1",
+                                        "https://child1.com",
+                                        List.of(new InsertMultipleTabRequest("손자", "https://grandchild.com", null))
+                                ),
                                 new InsertMultipleTabRequest("자식 2", "https://child2.com", Collections.emptyList())
                         )
-                )
+                ),
+                new InsertMultipleTabRequest("형제", "https://sibling.com", Collections.emptyList())
         );
 
         // when
-        List<InsertMultipleTabResponse> actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
+        InsertMultipleTabResponse actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
 
         // then
-        assertThat(actual.get(0).children()).hasSize(2);
+        List<Tab> savedTabs = actual.tabIds()
+                                    .stream()
+                                    .map(tabRepository::findTab)
+                                    .toList();
+
+        assertAll(
+                () -> assertThat(savedTabs).extracting(Tab::getTitle)
+                                           .containsExactly("부모", "자식 1", "손자", "자식 2", "형제"),
+                () -> assertThat(savedTabs.get(1).getParentId()).isEqualTo(actual.tabIds().get(0)),
+                () -> assertThat(savedTabs.get(2).getParentId()).isEqualTo(actual.tabIds().get(1)),
+                () -> assertThat(savedTabs.get(3).getParentId()).isEqualTo(actual.tabIds().get(0)),
+                () -> assertThat(savedTabs.get(4).isRoot()).isTrue()
+        );
     }
 
     @Test
-    void 자식이_없으면_빈_리스트를_반환한다() {
+    void 자식이_없으면_요청한_탭의_아이디만_반환한다() {
         // given
         List<InsertMultipleTabRequest> requests = List.of(
                 new InsertMultipleTabRequest("루트 탭", "https://root.com", Collections.emptyList())
         );
 
         // when
-        List<InsertMultipleTabResponse> actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
+        InsertMultipleTabResponse actual = insertMultipleTabService.insertMultipleRootTabs(1L, 1L, requests);
 
         // then
-        assertThat(actual.get(0).children()).isEmpty();
+        assertThat(actual.tabIds()).hasSize(1);
+    }
+
+    private int findDepth(InsertMultipleTabResponse response, int clientIndex) {
+        TabTree tabTree = tabRepository.findTabTree(TabGroupId.create(1L));
+
+        return tabTree.findDepth(TabId.create(response.tabIds().get(clientIndex)));
     }
 }
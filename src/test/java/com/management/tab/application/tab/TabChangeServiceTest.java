@@ -0,0 +1,149 @@
+package com.management.tab.application.tab;
+
+import com.management.tab.application.tab.dto.response.TabChangeSet;
+import com.management.tab.domain.tab.TabChange;
+import com.management.tab.domain.tab.TabChangeType;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Sql(scripts = {"classpath:sql/schema.sql", "classpath:sql/service/tab-service-test-data.sql"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TabChangeServiceTest {
+
+    @Autowired
+    TabChangeService tabChangeService;
+
+    @Autowired
+    TabService tabService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 요청한_버전_이후의_변경_내역만_반환한다() {
+        // given
+        tabService.updateTab(100L, 1L, "수정된 탭", "https://updated.com");
+        tabService.deleteTabWithSubtree(300L, 1L);
+
+        // when
+        TabChangeSet actual = tabChangeService.getChangesSince(1L, 1L);
+
+        // then
+        TabChange change = actual.changes().get(0);
+
+        assertAll(
+                () -> assertThat(actual.snapshot()).isFalse(),
+                () -> assertThat(actual.version()).isEqualTo(2L),
+                () -> assertThat(actual.changes()).hasSize(1),
+                () -> assertThat(change.type()).isEqualTo(TabChangeType.DELETE),
+                () -> assertThat(change.tabId()).isEqualTo(300L),
+                () -> assertThat(change.withSubtree()).isTrue()
+        );
+    }
+
+    @Test
+    void 탭_이름_변경은_변경된_필드만_기록한다() {
+        // given
+        tabService.updateTab(100L, 1L, "수정된 탭", "https://updated.com");
+
+        // when
+        TabChangeSet actual = tabChangeService.getChangesSince(1L, 0L);
+
+        // then
+        TabChange change = actual.changes().get(0);
+
+        assertAll(
+                () -> assertThat(change.type()).isEqualTo(TabChangeType.UPDATE),
+                () -> assertThat(change.version()).isEqualTo(1L),
+                () -> assertThat(change.title()).isEqualTo("수정된 탭"),
+                () -> assertThat(change.url()).isEqualTo("https://updated.com"),
+                () -> assertThat(change.position()).isNull()
+        );
+    }
+
+    @Test
+    void 최신_버전을_요청하면_빈_변경_내역을_반환한다() {
+        // given
+        tabService.updateTab(100L, 1L, "수정된 탭", "https://updated.com");
+
+        // when
+        TabChangeSet actual = tabChangeService.getChangesSince(1L, 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.snapshot()).isFalse(),
+                () -> assertThat(actual.changes()).isEmpty()
+        );
+    }
+
+    @Test
+    void 압축된_버전_이전을_요청하면_스냅샷을_반환한다() {
+        // given
+        tabService.updateTab(100L, 1L, "수정된 탭", "https://updated.com");
+        tabService.updateTab(200L, 1L, "수정된 탭", "https://updated.com");
+        jdbcTemplate.update("UPDATE tab_changes SET created_at = '2000-01-01 00:00:00' WHERE version = 1");
+        tabChangeService.compact();
+
+        // when
+        TabChangeSet actual = tabChangeService.getChangesSince(1L, 0L);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.snapshot()).isTrue(),
+                () -> assertThat(actual.version()).isEqualTo(2L),
+                () -> assertThat(actual.tabs()).hasSize(tabService.getTabTree(1L).getTotalCount())
+        );
+    }
+
+    @Test
+    void 압축된_버전_이후를_요청하면_남은_변경_내역을_반환한다() {
+        // given
+        tabService.updateTab(100L, 1L, "수정된 탭", "https://updated.com");
+        tabService.updateTab(200L, 1L, "수정된 탭", "https://updated.com");
+        jdbcTemplate.update("UPDATE tab_changes SET created_at = '2000-01-01 00:00:00' WHERE version = 1");
+        tabChangeService.compact();
+
+        // when
+        TabChangeSet actual = tabChangeService.getChangesSince(1L, 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.snapshot()).isFalse(),
+                () -> assertThat(actual.changes()).extracting(TabChange::tabId).containsExactly(200L)
+        );
+    }
+
+    @Test
+    void 보관_기간이_지난_변경_내역이_없으면_압축된_버전을_유지한다() {
+        // given
+        tabService.updateTab(100L, 1L, "수정된 탭", "https://updated.com");
+        jdbcTemplate.update("UPDATE tab_changes SET created_at = '2000-01-01 00:00:00' WHERE version = 1");
+        tabChangeService.compact();
+        tabService.updateTab(200L, 1L, "수정된 탭", "https://updated.com");
+
+        // when
+        tabChangeService.compact();
+
+        // then
+        Long compactedVersion = jdbcTemplate.queryForObject(
+                "SELECT compacted_version FROM tab_groups WHERE id = 1",
+                Long.class
+        );
+        TabChangeSet actual = tabChangeService.getChangesSince(1L, 1L);
+
+        assertAll(
+                () -> assertThat(compactedVersion).isEqualTo(1L),
+                () -> assertThat(actual.changes()).extracting(TabChange::tabId).containsExactly(200L)
+        );
+    }
+}
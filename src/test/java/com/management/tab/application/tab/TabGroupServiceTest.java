@@ -1,6 +1,9 @@
 package com.management.tab.application.tab;
 
+import com.management.tab.application.tab.dto.response.TabGroupPage;
+import com.management.tab.application.tab.dto.response.TabGroupSummaryPage;
 import com.management.tab.domain.group.TabGroup;
+import com.management.tab.domain.group.TabGroupSummary;
 import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -29,7 +32,7 @@ class TabGroupServiceTest {
     @Test
     void 모든_탭_그룹을_조회한다() {
         // when
-        List<TabGroup> actual = tabGroupService.getAllGroups();
+        List<TabGroup> actual = tabGroupService.getAllGroups(0L, 10).groups();
 
         // then
         assertThat(actual).hasSize(2);
@@ -70,7 +73,7 @@ class TabGroupServiceTest {
         tabGroupService.delete(2L, 1L);
 
         // then
-        List<TabGroup> actual = tabGroupService.getAllGroups();
+        List<TabGroup> actual = tabGroupService.getAllGroups(0L, 10).groups();
 
         assertAll(
                 () -> assertThat(actual).hasSize(1),
@@ -111,11 +114,45 @@ class TabGroupServiceTest {
     @Test
     void 특정_작성자의_모든_탭_그룹을_조회한다() {
         // when
-        List<TabGroup> actual = tabGroupService.getAllWriterGroups(1L);
+        List<TabGroup> actual = tabGroupService.getAllWriterGroups(1L, 0L, 10).groups();
 
         // then
         assertThat(actual).hasSize(2);
     }
 
-}
+    @Test
+    void 탭_그룹을_페이지_단위로_조회한다() {
+        // when
+        TabGroupPage firstPage = tabGroupService.getAllGroups(0L, 1);
+        TabGroupPage secondPage = tabGroupService.getAllGroups(firstPage.nextCursor(), 1);
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage.groups()).extracting(TabGroup::getId)
+                                                    .containsExactly(1L),
+                () -> assertThat(firstPage.hasNext()).isTrue(),
+                () -> assertThat(secondPage.groups()).extracting(TabGroup::getId)
+                                                     .containsExactly(2L),
+                () -> assertThat(secondPage.hasNext()).isFalse()
+        );
+    }
 
+    @Test
+    void 탭_그룹_요약을_한_번에_조회한다() {
+        // when
+        TabGroupSummaryPage actual = tabGroupService.getGroupSummaries(0L, 10);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.summaries()).extracting(TabGroupSummary::tabCount)
+                                                    .containsExactly(6, 0),
+                () -> assertThat(actual.summaries()).extracting(TabGroupSummary::contentCount)
+                                                    .containsExactly(2, 0),
+                () -> assertThat(actual.summaries()).extracting(TabGroupSummary::maxDepth)
+                                                    .containsExactly(2, 0),
+                () -> assertThat(actual.summaries()).extracting(TabGroupSummary::lastUpdatedAt)
+                                                    .doesNotContainNull(),
+                () -> assertThat(actual.hasNext()).isFalse()
+        );
+    }
+}
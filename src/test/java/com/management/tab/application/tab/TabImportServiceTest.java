@@ -0,0 +1,157 @@
+package com.management.tab.application.tab;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.tab.application.tab.TabImportService.ImportTarget;
+import com.management.tab.application.tab.TabImportService.TabImportForbiddenException;
+import com.management.tab.application.tab.dto.response.TabImportProgress;
+import com.management.tab.application.tab.dto.response.TabImportProgress.Status;
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.repository.TabRepository;
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabTree;
+import com.management.tab.infrastructure.imports.JsonTabImportReader;
+import com.management.tab.infrastructure.imports.NdjsonTabImportReader;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Sql(scripts = {"classpath:sql/schema.sql", "classpath:sql/service/insert-multiple-tab-service-test-data.sql"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TabImportServiceTest {
+
+    @Autowired
+    TabImportService tabImportService;
+
+    @Autowired
+    TabRepository tabRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void 중첩_JSON을_가져오면_계층을_유지하며_청크마다_진행_상황을_알린다() {
+        // given
+        String json = """
+                [
+                  {"title": "폴더", "url": "https://folder.com", "children": [
+                    {"title": "자식 1", "url": "https://child1.com"},
+                    {"title": "자식 2", "url": "https://child2.com", "children": [
+                      {"title": "손자", "url": "https://grandchild.com"}
+                    ]}
+                  ]},
+                  {"title": "루트", "url": "https://root.com"}
+                ]
+                """;
+        ImportTarget target = tabImportService.prepareImport(1L, null, 1L);
+        List<TabImportProgress> progresses = new ArrayList<>();
+
+        // when
+        TabImportProgress actual = tabImportService.importTabs(
+                target,
+                new JsonTabImportReader(objectMapper.getFactory(), toInputStream(json)),
+                progresses::add
+        );
+
+        // then
+        TabTree tabTree = tabRepository.findTabTree(TabGroupId.create(1L));
+
+        assertAll(
+                () -> assertThat(actual).isEqualTo(TabImportProgress.completed(5L)),
+                () -> assertThat(progresses).extracting(TabImportProgress::importedCount)
+                                            .containsExactly(2L, 4L, 5L),
+                () -> assertThat(findDepth(tabTree, "폴더")).isZero(),
+                () -> assertThat(findDepth(tabTree, "자식 2")).isOne(),
+                () -> assertThat(findDepth(tabTree, "손자")).isEqualTo(2),
+                () -> assertThat(findDepth(tabTree, "루트")).isZero()
+        );
+    }
+
+    @Test
+    void 부모_탭_아래로_가져올_수_있다() {
+        // given
+        String ndjson = """
+                {"depth": 0, "title": "가져온 자식", "url": "https://imported.com"}
+                {"depth": 1, "title": "가져온 손자", "url": "https://imported-child.com"}
+                """;
+        ImportTarget target = tabImportService.prepareImport(1L, 300L, 1L);
+
+        // when
+        tabImportService.importTabs(target, new NdjsonTabImportReader(objectMapper, toInputStream(ndjson)), progress -> {
+        });
+
+        // then
+        TabTree tabTree = tabRepository.findTabTree(TabGroupId.create(1L));
+
+        assertAll(
+                () -> assertThat(findTab(tabTree, "가져온 자식").getParentId()).isEqualTo(300L),
+                () -> assertThat(findDepth(tabTree, "가져온 손자")).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 최대_깊이를_넘으면_실패를_알리고_이미_커밋한_청크는_유지한다() {
+        // given
+        String ndjson = IntStream.rangeClosed(0, 10)
+                                 .mapToObj(depth -> """
+                                         {"depth": %d, "title": "깊이 %d", "url": "https://depth.com"}"""
+                                         .formatted(depth, depth))
+                                 .collect(Collectors.joining("\n"));
+        ImportTarget target = tabImportService.prepareImport(1L, null, 1L);
+        int beforeCount = tabRepository.findTabTree(TabGroupId.create(1L)).getTotalCount();
+
+        // when
+        TabImportProgress actual = tabImportService.importTabs(
+                target,
+                new NdjsonTabImportReader(objectMapper, toInputStream(ndjson)),
+                progress -> {
+                }
+        );
+
+        // then
+        TabTree tabTree = tabRepository.findTabTree(TabGroupId.create(1L));
+
+        assertAll(
+                () -> assertThat(actual.status()).isEqualTo(Status.FAILED),
+                () -> assertThat(actual.importedCount()).isEqualTo(10L),
+                () -> assertThat(tabTree.getTotalCount()).isEqualTo(beforeCount + 10)
+        );
+    }
+
+    @Test
+    void 그룹_작성자가_아니면_가져올_수_없다() {
+        // when & then
+        assertThatThrownBy(() -> tabImportService.prepareImport(1L, null, 2L))
+                .isInstanceOf(TabImportForbiddenException.class);
+    }
+
+    private ByteArrayInputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Tab findTab(TabTree tabTree, String title) {
+        return tabTree.getAllTabs()
+                      .stream()
+                      .filter(tab -> tab.getTitle().equals(title))
+                      .findFirst()
+                      .orElseThrow();
+    }
+
+    private int findDepth(TabTree tabTree, String title) {
+        return tabTree.findDepth(findTab(tabTree, title).id());
+    }
+}
@@ -0,0 +1,119 @@
+package com.management.tab.application.tab;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.management.tab.application.tab.dto.response.TabTreeWindow;
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.tab.TabNode;
+import com.management.tab.domain.tab.vo.TabId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Sql(scripts = {"classpath:sql/schema.sql", "classpath:sql/service/tab-service-test-data.sql"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TabPreOrderRenumbererTest {
+
+    private static final TabGroupId GROUP_ID = TabGroupId.create(1L);
+
+    @Autowired
+    TabPreOrderRenumberer tabPreOrderRenumberer;
+
+    @Autowired
+    TabService tabService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 구간_조회는_전위_순회_번호를_다시_매기지_않는다() {
+        // when
+        TabTreeWindow actual = tabService.getPreOrderWindow(1L, 0, 10);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.rows()).isEmpty(),
+                () -> assertThat(actual.totalCount()).isZero(),
+                () -> assertThat(findPreOrderVersion()).isEqualTo(-1L)
+        );
+    }
+
+    @Test
+    void 탭_변경이_커밋되면_전위_순회_번호를_다시_매긴다() throws InterruptedException {
+        // given
+        tabPreOrderRenumberer.renumber(GROUP_ID);
+
+        // when
+        tabService.moveRootWithSubtree(102L, 1L);
+
+        // then
+        List<TabNode> actual = awaitWindow(4, 3, List.of(TabId.create(200L), TabId.create(300L), TabId.create(102L)));
+
+        assertThat(actual).extracting(TabNode::getDepth)
+                          .containsExactly(0, 0, 0);
+    }
+
+    @Test
+    void 번호가_최신이면_다시_매기지_않는다() {
+        // given
+        tabPreOrderRenumberer.renumber(GROUP_ID);
+        jdbcTemplate.update("UPDATE tabs SET pre_order = 99 WHERE id = 300");
+
+        // when
+        tabPreOrderRenumberer.renumber(GROUP_ID);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT pre_order FROM tabs WHERE id = 300", Integer.class))
+                .isEqualTo(99);
+    }
+
+    @Test
+    void 번호가_오래된_그룹을_주기적으로_다시_매긴다() {
+        // when
+        tabPreOrderRenumberer.renumberStaleGroups();
+
+        // then
+        TabTreeWindow actual = tabService.getPreOrderWindow(1L, 0, 3);
+
+        assertAll(
+                () -> assertThat(actual.totalCount()).isEqualTo(15),
+                () -> assertThat(actual.rows()).extracting(TabNode::getId)
+                                               .containsExactly(TabId.create(100L), TabId.create(101L), TabId.create(103L)),
+                () -> assertThat(findPreOrderVersion()).isEqualTo(findVersion())
+        );
+    }
+
+    private List<TabNode> awaitWindow(int offset, int limit, List<TabId> expectedIds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (System.nanoTime() < deadline) {
+            List<TabNode> rows = tabService.getPreOrderWindow(1L, offset, limit).rows();
+
+            if (rows.stream().map(TabNode::getId).toList().equals(expectedIds)) {
+                return rows;
+            }
+
+            Thread.sleep(10L);
+        }
+
+        return fail("전위 순회 번호가 다시 매겨지지 않았습니다.");
+    }
+
+    private Long findPreOrderVersion() {
+        return jdbcTemplate.queryForObject("SELECT pre_order_version FROM tab_groups WHERE id = 1", Long.class);
+    }
+
+    private Long findVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM tab_groups WHERE id = 1", Long.class);
+    }
+}
@@ -1,12 +1,22 @@
 package com.management.tab.application.tab;
 
+import com.management.tab.application.tab.dto.response.TabTreeWindow;
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.repository.TabRepository;
+import com.management.tab.domain.tab.TabNode;
 import com.management.tab.domain.tab.TabTree;
 import com.management.tab.domain.tab.vo.TabId;
+import com.management.tab.domain.tab.vo.TabPosition;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.jdbc.Sql;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -15,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 @SpringBootTest
+@RecordApplicationEvents
 @Sql(scripts = {"classpath:sql/schema.sql", "classpath:sql/service/tab-service-test-data.sql"})
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @SuppressWarnings("NonAsciiCharacters")
@@ -23,6 +34,18 @@ class TabServiceTest {
     @Autowired
     TabService tabService;
 
+    @Autowired
+    TabRepository tabRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TabPreOrderRenumberer tabPreOrderRenumberer;
+
+    @Autowired
+    ApplicationEvents applicationEvents;
+
     @Test
     void 루트_탭을_생성할_수_있다() {
         // when
@@ -47,6 +70,36 @@ class TabServiceTest {
         assertThat(actual.getTotalCount()).isEqualTo(beforeCount + 1);
     }
 
+    @Test
+    void 루트_탭_위치가_정수_범위를_넘으면_루트_탭을_다시_번호_매기고_마지막에_추가한다() {
+        // given
+        jdbcTemplate.update("UPDATE tabs SET position = ? WHERE id = 300", Integer.MAX_VALUE - 1);
+
+        // when
+        TabId actual = tabService.createRootTab(1L, 1L, "새 루트 탭", "https://new-root.com");
+
+        // then
+        assertThat(findPositions("SELECT position FROM tabs WHERE group_id = 1 AND parent_id IS NULL ORDER BY position"))
+                .containsExactly(0, TabPosition.GAP, 2 * TabPosition.GAP, 3 * TabPosition.GAP);
+        assertThat(findPositions("SELECT position FROM tabs WHERE id = " + actual.getValue()))
+                .containsExactly(3 * TabPosition.GAP);
+    }
+
+    @Test
+    void 자식_탭_위치가_정수_범위를_넘으면_형제_탭을_다시_번호_매기고_마지막에_추가한다() {
+        // given
+        jdbcTemplate.update("UPDATE tabs SET position = ? WHERE id = 102", Integer.MAX_VALUE - 1);
+
+        // when
+        TabId actual = tabService.createChildTab(100L, 1L, "새 자식 탭", "https://new-child.com");
+
+        // then
+        assertThat(findPositions("SELECT position FROM tabs WHERE parent_id = 100 ORDER BY position"))
+                .containsExactly(0, TabPosition.GAP, 2 * TabPosition.GAP);
+        assertThat(findPositions("SELECT position FROM tabs WHERE id = " + actual.getValue()))
+                .containsExactly(2 * TabPosition.GAP);
+    }
+
     @Test
     void 자식_탭을_생성할_수_있다() {
         // when
@@ -289,6 +342,37 @@ class TabServiceTest {
         assertThat(actual.getTotalCount()).isGreaterThan(0);
     }
 
+    @Test
+    void 전위_순회_순서의_구간을_조회할_수_있다() {
+        // given
+        tabPreOrderRenumberer.renumber(TabGroupId.create(1L));
+
+        // when
+        TabTreeWindow actual = tabService.getPreOrderWindow(1L, 1, 3);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.totalCount()).isEqualTo(15),
+                () -> assertThat(actual.rows()).extracting(TabNode::getId)
+                                               .containsExactly(TabId.create(101L), TabId.create(103L), TabId.create(104L)),
+                () -> assertThat(actual.rows()).extracting(TabNode::getDepth)
+                                               .containsExactly(1, 2, 2)
+        );
+    }
+
+    @Test
+    void 전체_개수를_넘는_구간을_조회하면_남은_탭만_반환한다() {
+        // given
+        tabPreOrderRenumberer.renumber(TabGroupId.create(1L));
+
+        // when
+        TabTreeWindow actual = tabService.getPreOrderWindow(1L, 14, 10);
+
+        // then
+        assertThat(actual.rows()).extracting(TabNode::getId)
+                                 .containsExactly(TabId.create(300L));
+    }
+
     @Test
     void 루트_레벨_탭의_순서를_변경할_수_있다() {
         // when & then
@@ -320,6 +404,61 @@ class TabServiceTest {
          .hasValueSatisfying(tab -> assertThat(tab.getPosition()).isZero());
     }
 
+    @Test
+    void 위치_사이에_간격이_있으면_이동하는_탭의_위치만_변경된다() {
+        // given
+        TabId upperTabId = tabService.createRootTab(1L, 1L, "새 루트 탭1", "https://new-root1.com");
+        TabId movingTabId = tabService.createRootTab(1L, 1L, "새 루트 탭2", "https://new-root2.com");
+
+        // when
+        tabService.reorderTab(movingTabId.getValue(), upperTabId.getValue(), 1L, false);
+
+        // then
+        TabTree actual = tabService.getTabTree(1L);
+
+        assertAll(
+                () -> assertThat(findPosition(actual, movingTabId)).isEqualTo((2 + 2 + TabPosition.GAP) / 2),
+                () -> assertThat(findPosition(actual, upperTabId)).isEqualTo(2 + TabPosition.GAP),
+                () -> assertThat(findPosition(actual, TabId.create(300L))).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 위치_사이에_간격이_없으면_형제_탭의_위치를_간격을_두고_다시_매긴다() {
+        // when
+        tabService.reorderTab(300L, 200L, 1L, false);
+
+        // then
+        TabTree actual = tabService.getTabTree(1L);
+
+        assertAll(
+                () -> assertThat(findPosition(actual, TabId.create(100L))).isZero(),
+                () -> assertThat(findPosition(actual, TabId.create(300L))).isEqualTo(TabPosition.GAP),
+                () -> assertThat(findPosition(actual, TabId.create(200L))).isEqualTo(2 * TabPosition.GAP)
+        );
+    }
+
+    @Test
+    void 루트_탭_순서_변경은_같은_그룹의_루트_탭만_조회하고_다른_그룹의_탭은_다시_쓰지_않는다() {
+        // given
+        insertUnrelatedRootTabs(2L, 1_000);
+
+        // when
+        tabService.reorderTab(300L, 200L, 1L, false);
+
+        // then
+        Integer repositionedUnrelatedTabCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tabs WHERE group_id = 2 AND position <> 0",
+                Integer.class
+        );
+
+        assertAll(
+                () -> assertThat(tabRepository.findRootSiblings(TabGroupId.create(1L))).hasSize(3),
+                () -> assertThat(repositionedUnrelatedTabCount).isZero(),
+                () -> assertThat(findPosition(tabService.getTabTree(1L), TabId.create(300L))).isEqualTo(TabPosition.GAP)
+        );
+    }
+
     @Test
     void 루트_탭을_생성할_때_그룹_작성자가_아니면_실패한다() {
         // when & then
@@ -399,4 +538,43 @@ class TabServiceTest {
                 .isInstanceOf(TabService.TabForbiddenException.class)
                 .hasMessage("탭 작성자가 아닙니다.");
     }
+
+    private int findPosition(TabTree tabTree, TabId tabId) {
+        return tabTree.getAllTabs()
+                      .stream()
+                      .filter(tab -> tab.isEqualId(tabId))
+                      .findFirst()
+                      .orElseThrow()
+                      .getPosition();
+    }
+
+    private void insertUnrelatedRootTabs(Long groupId, int count) {
+        jdbcTemplate.update(
+                "INSERT INTO tab_groups (id, name, writer_id, created_at, updated_at) "
+                        + "VALUES (?, '다른 그룹', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                groupId
+        );
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tabs (writer_id, group_id, parent_id, title, url, position, created_at, updated_at) "
+                        + "VALUES (2, ?, NULL, '다른 그룹 탭', 'https://other.com', 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                IntStream.range(0, count)
+                         .mapToObj(i -> new Object[]{groupId})
+                         .toList()
+        );
+    }
+
+    private List<Integer> findPositions(String sql) {
+        return jdbcTemplate.queryForList(sql, Integer.class);
+    }
+
+    @Test
+    void 탭을_변경하면_그룹_변경_이벤트를_발행한다() {
+        // when
+        tabService.updateTab(100L, 1L, "수정된 탭", "https://updated.com");
+
+        // then
+        assertThat(applicationEvents.stream(TabGroupChangedEvent.class))
+                .extracting(TabGroupChangedEvent::tabGroupId)
+                .containsExactly(TabGroupId.create(1L));
+    }
 }
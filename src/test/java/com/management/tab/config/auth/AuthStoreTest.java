@@ -0,0 +1,83 @@
+package com.management.tab.config.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.management.tab.domain.user.vo.UserId;
+import jakarta.servlet.DispatcherType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class AuthStoreTest {
+
+    AuthStore authStore = new AuthStore();
+
+    @Test
+    void 저장한_사용자_ID를_같은_요청에서_조회할_수_있다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        authStore.set(request, () -> UserId.create(1L));
+
+        // when
+        UserId actual = authStore.get(new ServletWebRequest(request));
+
+        // then
+        assertThat(actual).isEqualTo(UserId.create(1L));
+    }
+
+    @Test
+    void 저장된_사용자_정보가_없으면_null을_반환한다() {
+        // when
+        UserId actual = authStore.get(new ServletWebRequest(new MockHttpServletRequest()));
+
+        // then
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void 다른_요청에_저장한_사용자_ID는_조회되지_않는다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletRequest otherRequest = new MockHttpServletRequest();
+
+        authStore.set(request, () -> UserId.create(1L));
+
+        // when
+        UserId actual = authStore.get(new ServletWebRequest(otherRequest));
+
+        // then
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void 비동기_디스패치는_다른_스레드에서도_같은_요청의_사용자_ID를_조회한다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        request.setAsyncSupported(true);
+        authStore.set(request, () -> UserId.create(1L));
+        request.startAsync();
+        request.setDispatcherType(DispatcherType.ASYNC);
+
+        // when
+        UserId actual;
+
+        try {
+            actual = executor.submit(() -> authStore.get(new ServletWebRequest(request)))
+                             .get();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(actual).isEqualTo(UserId.create(1L));
+    }
+}
@@ -0,0 +1,106 @@
+package com.management.tab.config.auth.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.management.tab.config.auth.AuthStore;
+import com.management.tab.config.auth.security.core.OAuth2AuthenticationToken;
+import com.management.tab.config.auth.security.core.OAuth2UserDetails;
+import com.management.tab.domain.user.vo.UserId;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class AuthInterceptorTest {
+
+    AuthStore authStore = new AuthStore();
+    AuthInterceptor authInterceptor = new AuthInterceptor(authStore);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 다른_스레드에서_조회해도_요청을_받은_스레드의_인증_정보를_사용한다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        SecurityContextHolder.setContext(createSecurityContext(1L));
+        authInterceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        SecurityContextHolder.clearContext();
+
+        // when
+        UserId actual;
+
+        try {
+            actual = executor.submit(() -> authStore.get(new ServletWebRequest(request)))
+                             .get();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(actual).isEqualTo(UserId.create(1L));
+    }
+
+    @Test
+    void 인증_정보가_없으면_빈_사용자_ID를_저장한다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        authInterceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+        // when
+        UserId actual = authStore.get(new ServletWebRequest(request));
+
+        // then
+        assertThat(actual).isSameAs(UserId.EMPTY_USER_ID);
+    }
+
+    @Test
+    void 사용자_ID는_처음_조회할_때_한_번만_계산한다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        AtomicInteger resolveCount = new AtomicInteger();
+
+        SecurityContextHolder.setDeferredContext(() -> {
+            resolveCount.incrementAndGet();
+            return createSecurityContext(1L);
+        });
+        authInterceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+        int countBeforeGet = resolveCount.get();
+
+        // when
+        authStore.get(new ServletWebRequest(request));
+        authStore.get(new ServletWebRequest(request));
+
+        // then
+        assertAll(
+                () -> assertThat(countBeforeGet).isZero(),
+                () -> assertThat(resolveCount).hasValue(1)
+        );
+    }
+
+    private SecurityContext createSecurityContext(Long userId) {
+        OAuth2UserDetails userDetails = new OAuth2UserDetails(userId, Set.of());
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+
+        securityContext.setAuthentication(new OAuth2AuthenticationToken(userDetails, userDetails.getAuthorities()));
+        return securityContext;
+    }
+}
@@ -0,0 +1,80 @@
+package com.management.tab.config.auth.security.filter;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.management.tab.application.auth.GenerateTokenService;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Sql(scripts = {"classpath:sql/schema.sql", "classpath:sql/service/tab-service-test-data.sql"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class OAuth2AuthenticationFilterTest {
+
+    private static final String INVALID_TOKEN = "Bearer invalid-token";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    GenerateTokenService generateTokenService;
+
+    @Test
+    void 인증이_필요없는_요청은_토큰을_디코딩하지_않는다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/tabs/groups/1/tree").header(HttpHeaders.AUTHORIZATION, INVALID_TOKEN))
+               .andExpect(status().isOk());
+    }
+
+    @Test
+    void 인증이_필요한_요청은_유효하지_않은_토큰을_거부한다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/tabs/100/subtree").header(HttpHeaders.AUTHORIZATION, INVALID_TOKEN))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.code").value("INVALID_TOKEN"));
+    }
+
+    @Test
+    void 인증이_필요한_요청은_유효한_토큰을_디코딩해_처리한다() throws Exception {
+        // given
+        String accessToken = generateTokenService.generate(1L).accessToken();
+
+        // when & then
+        mockMvc.perform(get("/api/tabs/100/subtree").header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+               .andExpect(status().isOk());
+    }
+
+    @Test
+    void 인증이_필요한_요청에_토큰이_없으면_거부한다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/tabs/100/subtree"))
+               .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void 현재_사용자를_요구하는_인자_해석기는_토큰_디코딩_오류를_드러낸다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/groups/my").header(HttpHeaders.AUTHORIZATION, INVALID_TOKEN))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.code").value("INVALID_TOKEN"));
+    }
+
+    @Test
+    void 현재_사용자를_요구하는_인자_해석기는_토큰이_없으면_인증_오류를_반환한다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/groups/my"))
+               .andExpect(status().isUnauthorized())
+               .andExpect(jsonPath("$.code").value("UNAUTHORIZED"));
+    }
+}
@@ -0,0 +1,363 @@
+package com.management.tab.domain.tab;
+
+import com.management.tab.domain.tab.TabTree.TabNodeNotFoundException;
+import com.management.tab.domain.tab.vo.TabId;
+import com.management.tab.domain.tab.vo.TabPosition;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PersistentTabTreeTest {
+
+    @Test
+    void 기존_트리로부터_영속_트리를_생성할_수_있다() {
+        // given
+        TabTree tabTree = createTabTree();
+
+        // when
+        PersistentTabTree actual = PersistentTabTree.from(tabTree);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getTotalCount()).isEqualTo(5),
+                () -> assertThat(actual.getRootNodes()).extracting(PersistentTabNode::getId)
+                                                       .containsExactly(TabId.create(1L), TabId.create(5L)),
+                () -> assertThat(actual.findDepth(TabId.create(4L))).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 탭을_삽입하면_변경된_경로의_노드만_복사한다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree());
+
+        // when
+        PersistentTabTree actual = tree.insert(createTab(6L, 2L, 1));
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getTotalCount()).isEqualTo(6),
+                () -> assertThat(tree.getTotalCount()).isEqualTo(5),
+                () -> assertThat(actual.findNode(TabId.create(2L)).get().getChildren())
+                        .extracting(PersistentTabNode::getId)
+                        .containsExactly(TabId.create(4L), TabId.create(6L)),
+                () -> assertThat(actual.findNode(TabId.create(1L)).get())
+                        .isNotSameAs(tree.findNode(TabId.create(1L)).get()),
+                () -> assertThat(actual.findNode(TabId.create(3L)).get())
+                        .isSameAs(tree.findNode(TabId.create(3L)).get()),
+                () -> assertThat(actual.findNode(TabId.create(4L)).get())
+                        .isSameAs(tree.findNode(TabId.create(4L)).get()),
+                () -> assertThat(actual.getRootNodes().get(1)).isSameAs(tree.getRootNodes().get(1))
+        );
+    }
+
+    @Test
+    void 존재하지_않는_부모에_탭을_삽입할_수_없다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree());
+
+        // when & then
+        assertThatThrownBy(() -> tree.insert(createTab(6L, 99L, 0)))
+                .isInstanceOf(TabNodeNotFoundException.class);
+    }
+
+    @Test
+    void 이미_존재하는_탭은_삽입할_수_없다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree());
+
+        // when & then
+        assertThatThrownBy(() -> tree.insert(createTab(3L, 1L, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 트리에 존재하는 탭입니다.");
+    }
+
+    @Test
+    void 탭의_순서를_변경하면_형제_순서가_다시_정렬된다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree());
+
+        // when
+        PersistentTabTree actual = tree.reorder(TabId.create(2L), TabPosition.create(2));
+
+        // then
+        assertAll(
+                () -> assertThat(actual.findNode(TabId.create(1L)).get().getChildren())
+                        .extracting(PersistentTabNode::getId)
+                        .containsExactly(TabId.create(3L), TabId.create(2L)),
+                () -> assertThat(tree.findNode(TabId.create(1L)).get().getChildren())
+                        .extracting(PersistentTabNode::getId)
+                        .containsExactly(TabId.create(2L), TabId.create(3L)),
+                () -> assertThat(actual.findNode(TabId.create(2L)).get().getChildren())
+                        .isSameAs(tree.findNode(TabId.create(2L)).get().getChildren())
+        );
+    }
+
+    @Test
+    void 서브트리와_함께_탭을_이동하면_하위_노드를_공유한다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree());
+
+        // when
+        PersistentTabTree actual = tree.moveWithSubtree(TabId.create(2L), TabId.create(5L), TabPosition.create(0));
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getTotalCount()).isEqualTo(5),
+                () -> assertThat(actual.findNode(TabId.create(1L)).get().getChildren())
+                        .extracting(PersistentTabNode::getId)
+                        .containsExactly(TabId.create(3L)),
+                () -> assertThat(actual.findNode(TabId.create(5L)).get().getChildren())
+                        .extracting(PersistentTabNode::getId)
+                        .containsExactly(TabId.create(2L)),
+                () -> assertThat(actual.findNode(TabId.create(4L)).get())
+                        .isSameAs(tree.findNode(TabId.create(4L)).get()),
+                () -> assertThat(actual.findNode(TabId.create(2L)).get().parentId()).isEqualTo(TabId.create(5L)),
+                () -> assertThat(actual.findDepth(TabId.create(4L))).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 탭만_이동하면_자식은_기존_부모로_올라간다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree());
+
+        // when
+        PersistentTabTree actual = tree.move(TabId.create(2L), TabId.create(5L), TabPosition.create(0));
+
+        // then
+        assertAll(
+                () -> assertThat(actual.findNode(TabId.create(1L)).get().getChildren())
+                        .extracting(PersistentTabNode::getId)
+                        .containsExactly(TabId.create(4L), TabId.create(3L)),
+                () -> assertThat(actual.findNode(TabId.create(2L)).get().isLeaf()).isTrue(),
+                () -> assertThat(actual.findNode(TabId.create(4L)).get().parentId()).isEqualTo(TabId.create(1L)),
+                () -> assertThat(actual.findDepth(TabId.create(2L))).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 탭을_루트로_이동할_수_있다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree());
+
+        // when
+        PersistentTabTree actual = tree.moveWithSubtree(TabId.create(2L), TabId.EMPTY_TAB_ID, TabPosition.create(2));
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getRootNodes()).extracting(PersistentTabNode::getId)
+                                                       .containsExactly(TabId.create(1L), TabId.create(5L), TabId.create(2L)),
+                () -> assertThat(actual.findDepth(TabId.create(4L))).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 자손_아래로_탭을_이동할_수_없다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree());
+
+        // when & then
+        assertThatThrownBy(() -> tree.moveWithSubtree(TabId.create(1L), TabId.create(4L), TabPosition.create(0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("순환 참조가 발생합니다: 자손을 부모로 설정할 수 없습니다.");
+    }
+
+    @Test
+    void 서브트리와_함께_탭을_삭제할_수_있다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree());
+
+        // when
+        PersistentTabTree actual = tree.deleteWithSubtree(TabId.create(2L));
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getTotalCount()).isEqualTo(3),
+                () -> assertThat(actual.contains(TabId.create(4L))).isFalse(),
+                () -> assertThat(tree.contains(TabId.create(4L))).isTrue()
+        );
+    }
+
+    @Test
+    void 탭만_삭제하면_자식은_루트로_올라간다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree());
+
+        // when
+        PersistentTabTree actual = tree.delete(TabId.create(1L));
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getTotalCount()).isEqualTo(4),
+                () -> assertThat(actual.getRootNodes()).extracting(PersistentTabNode::getId)
+                                                       .containsExactly(TabId.create(2L), TabId.create(3L), TabId.create(5L)),
+                () -> assertThat(actual.findNode(TabId.create(2L)).get().getChildren())
+                        .isSameAs(tree.findNode(TabId.create(2L)).get().getChildren())
+        );
+    }
+
+    @Test
+    void 기존_트리로_변환할_수_있다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree())
+                                                  .insert(createTab(6L, 4L, 0));
+
+        // when
+        TabTree actual = tree.toTabTree();
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getTotalCount()).isEqualTo(6),
+                () -> assertThat(actual.findDepth(TabId.create(6L))).isEqualTo(3),
+                () -> assertThat(actual.isDescendant(TabId.create(1L), TabId.create(6L))).isTrue()
+        );
+    }
+
+    @Test
+    void 탭_정보를_수정하면_변경된_경로의_노드만_복사한다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree());
+        Tab updatedTab = tree.findNode(TabId.create(4L)).get().getTab().updateInfo("수정된 탭", "https://updated.com");
+
+        // when
+        PersistentTabTree actual = tree.update(updatedTab);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.findNode(TabId.create(4L)).get().getTab().getTitle()).isEqualTo("수정된 탭"),
+                () -> assertThat(tree.findNode(TabId.create(4L)).get().getTab().getTitle()).isEqualTo("탭 4"),
+                () -> assertThat(actual.findNode(TabId.create(2L)).get().getChildren())
+                        .extracting(PersistentTabNode::getId)
+                        .containsExactly(TabId.create(4L)),
+                () -> assertThat(actual.findNode(TabId.create(3L)).get())
+                        .isSameAs(tree.findNode(TabId.create(3L)).get()),
+                () -> assertThat(actual.getRootNodes().get(1)).isSameAs(tree.getRootNodes().get(1))
+        );
+    }
+
+    @Test
+    void 탭_정보_수정으로_부모를_바꿀_수_없다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree());
+
+        // when & then
+        assertThatThrownBy(() -> tree.update(createTab(4L, 3L, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 기존_트리로부터_생성하면_원래_트리를_그대로_반환한다() {
+        // given
+        TabTree tabTree = createTabTree();
+
+        // when
+        PersistentTabTree actual = PersistentTabTree.from(tabTree);
+
+        // then
+        assertThat(actual.toTabTree()).isSameAs(tabTree);
+    }
+
+    @Test
+    void 변환한_트리는_다시_만들지_않는다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree())
+                                                  .insert(createTab(6L, 4L, 0));
+
+        // when
+        TabTree first = tree.toTabTree();
+        TabTree second = tree.toTabTree();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void 해시가_같은_탭_식별자도_구분해서_찾는다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.from(createTabTree());
+        long collidingId = 1L << 32;
+
+        // when
+        PersistentTabTree inserted = tree.insert(createTab(collidingId, null, 2));
+        PersistentTabTree deleted = inserted.delete(TabId.create(collidingId));
+
+        // then
+        assertAll(
+                () -> assertThat(TabId.create(collidingId).hashCode()).isEqualTo(TabId.create(1L).hashCode()),
+                () -> assertThat(inserted.findNode(TabId.create(collidingId))).isPresent(),
+                () -> assertThat(inserted.findNode(TabId.create(1L))).isPresent(),
+                () -> assertThat(deleted.contains(TabId.create(collidingId))).isFalse(),
+                () -> assertThat(deleted.findNode(TabId.create(1L))).isPresent(),
+                () -> assertThat(deleted.getTotalCount()).isEqualTo(5)
+        );
+    }
+
+    @Test
+    void 많은_탭을_삽입하고_삭제해도_이전_버전은_유지된다() {
+        // given
+        PersistentTabTree tree = PersistentTabTree.create(1L);
+
+        for (long id = 1L; id <= 2_000L; id++) {
+            tree = tree.insert(createTab(id, null, (int) id));
+        }
+
+        PersistentTabTree fullTree = tree;
+
+        // when
+        PersistentTabTree actual = fullTree;
+
+        for (long id = 1L; id <= 2_000L; id += 2) {
+            actual = actual.delete(TabId.create(id));
+        }
+
+        PersistentTabTree halfTree = actual;
+
+        // then
+        assertAll(
+                () -> assertThat(fullTree.getTotalCount()).isEqualTo(2_000),
+                () -> assertThat(halfTree.getTotalCount()).isEqualTo(1_000),
+                () -> assertThat(fullTree.contains(TabId.create(1_999L))).isTrue(),
+                () -> assertThat(halfTree.contains(TabId.create(1_999L))).isFalse(),
+                () -> assertThat(halfTree.contains(TabId.create(2_000L))).isTrue()
+        );
+    }
+
+    private TabTree createTabTree() {
+        TabNode rootNode = TabNode.createRoot(createTab(1L, null, 0));
+        TabNode childNode1 = TabNode.create(createTab(2L, 1L, 0), 1);
+        TabNode childNode2 = TabNode.create(createTab(3L, 1L, 1), 1);
+        TabNode grandChildNode = TabNode.create(createTab(4L, 2L, 0), 2);
+        TabNode anotherRootNode = TabNode.createRoot(createTab(5L, null, 1));
+
+        childNode1.addChild(grandChildNode);
+        rootNode.addChild(childNode1);
+        rootNode.addChild(childNode2);
+
+        return TabTree.create(1L, new ArrayList<>(List.of(rootNode, anotherRootNode)));
+    }
+
+    private Tab createTab(Long id, Long parentId, int position) {
+        TabBuilder builder = TabBuilder.builder()
+                                       .id(id)
+                                       .groupId(1L)
+                                       .writerId(1L)
+                                       .title("탭 " + id)
+                                       .url("https://example.com/" + id)
+                                       .position(position);
+
+        if (parentId != null) {
+            builder.parentId(parentId);
+        }
+
+        return builder.build();
+    }
+}
@@ -169,4 +169,18 @@ class TabBuilderTest {
                 () -> assertThat(actual.isRoot()).isTrue()
         );
     }
+
+    @Test
+    void URL_없는_폴더_탭을_초기화할_수_있다() {
+        // when
+        Tab actual = TabBuilder.createRootFolder(1L, 2L, "폴더", TabPosition.create(0))
+                               .build();
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getTitle()).isEqualTo("폴더"),
+                () -> assertThat(actual.getUrl()).isNull(),
+                () -> assertThat(actual.hasUrl()).isFalse()
+        );
+    }
 }
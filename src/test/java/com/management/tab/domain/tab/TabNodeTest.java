@@ -451,4 +451,59 @@ class TabNodeTest {
         // then
         assertThat(actual).isTrue();
     }
+
+    @Test
+    void 자식을_추가하면_서브트리_집계가_갱신된다() {
+        // given
+        TabNode parentNode = TabNode.createRoot(createTab(1L, TabId.EMPTY_TAB_ID, 0));
+        TabNode childNode = TabNode.create(createTab(2L, TabId.create(1L), 3), 1);
+        TabNode grandChildNode = TabNode.create(createTab(3L, TabId.create(2L), 0), 2);
+
+        childNode.addChild(grandChildNode);
+
+        // when
+        parentNode.addChild(childNode);
+        parentNode.addChild(TabNode.create(createTab(4L, TabId.create(1L), 1), 1));
+
+        // then
+        assertAll(
+                () -> assertThat(parentNode.getSubtreeHeight()).isEqualTo(2),
+                () -> assertThat(parentNode.getDescendantCount()).isEqualTo(3),
+                () -> assertThat(parentNode.getMaxChildPosition()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void 자식을_제거하면_서브트리_집계가_갱신된다() {
+        // given
+        TabNode parentNode = TabNode.createRoot(createTab(1L, TabId.EMPTY_TAB_ID, 0));
+        TabNode childNode = TabNode.create(createTab(2L, TabId.create(1L), 3), 1);
+
+        childNode.addChild(TabNode.create(createTab(3L, TabId.create(2L), 0), 2));
+        parentNode.addChild(childNode);
+        parentNode.addChild(TabNode.create(createTab(4L, TabId.create(1L), 1), 1));
+
+        // when
+        parentNode.removeChild(TabId.create(2L));
+
+        // then
+        assertAll(
+                () -> assertThat(parentNode.getSubtreeHeight()).isEqualTo(1),
+                () -> assertThat(parentNode.getDescendantCount()).isEqualTo(1),
+                () -> assertThat(parentNode.getMaxChildPosition()).isEqualTo(1)
+        );
+    }
+
+    private Tab createTab(Long id, TabId parentId, int position) {
+        return new Tab(
+                TabId.create(id),
+                parentId,
+                UserId.create(2L),
+                TabGroupId.create(1L),
+                TabTitle.create("테스트 탭"),
+                TabUrl.create("http://test.com"),
+                TabPosition.create(position),
+                AuditTimestamps.now()
+        );
+    }
 }
@@ -656,7 +656,7 @@ class TabTreeTest {
         TabPosition actual = tabTree.getNextRootPosition();
 
         // then
-        assertThat(actual.getValue()).isEqualTo(2);
+        assertThat(actual.getValue()).isEqualTo(1 + TabPosition.GAP);
     }
 
     @Test
@@ -728,7 +728,7 @@ class TabTreeTest {
         TabPosition actual = tabTree.getNextChildPosition(TabId.create(1L));
 
         // then
-        assertThat(actual.getValue()).isEqualTo(2);
+        assertThat(actual.getValue()).isEqualTo(1 + TabPosition.GAP);
     }
 
     @Test
@@ -832,4 +832,101 @@ class TabTreeTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("요청의 최대 깊이(7)와 현재 깊이(4)를 합하면 최대 허용 깊이(10)를 초과합니다.");
     }
+
+    @Test
+    void 부모부터_연결한_노드로_트리를_만들어도_서브트리_집계가_계산된다() {
+        // given
+        TabNode rootNode = TabNode.createRoot(createTab(1L, TabId.EMPTY_TAB_ID, 0));
+        TabNode childNode = TabNode.create(createTab(2L, TabId.create(1L), 0), 1);
+        TabNode grandChildNode = TabNode.create(createTab(3L, TabId.create(2L), 4), 2);
+
+        rootNode.addChild(childNode);
+        childNode.addChild(grandChildNode);
+
+        // when
+        TabTree tabTree = TabTree.create(1L, new ArrayList<>(List.of(rootNode)));
+
+        // then
+        assertAll(
+                () -> assertThat(rootNode.getSubtreeHeight()).isEqualTo(2),
+                () -> assertThat(rootNode.getDescendantCount()).isEqualTo(2),
+                () -> assertThat(tabTree.getMaxDepth()).isEqualTo(2),
+                () -> assertThat(tabTree.getNextRootPosition().getValue()).isEqualTo(TabPosition.GAP),
+                () -> assertThat(tabTree.getNextChildPosition(TabId.create(2L)).getValue()).isEqualTo(4 + TabPosition.GAP)
+        );
+    }
+
+    @Test
+    void 형제_노드는_자손이_아니다() {
+        // given
+        TabNode rootNode = TabNode.createRoot(createTab(1L, TabId.EMPTY_TAB_ID, 0));
+        TabNode childNode1 = TabNode.create(createTab(2L, TabId.create(1L), 0), 1);
+        TabNode childNode2 = TabNode.create(createTab(3L, TabId.create(1L), 1), 1);
+
+        rootNode.addChild(childNode1);
+        rootNode.addChild(childNode2);
+
+        TabTree tabTree = TabTree.create(1L, new ArrayList<>(List.of(rootNode)));
+
+        // when
+        boolean actual = tabTree.isDescendant(TabId.create(2L), TabId.create(3L));
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void 노드의_조상을_가까운_순서대로_조회할_수_있다() {
+        // given
+        TabNode rootNode = TabNode.createRoot(createTab(1L, TabId.EMPTY_TAB_ID, 0));
+        TabNode childNode = TabNode.create(createTab(2L, TabId.create(1L), 0), 1);
+        TabNode grandChildNode = TabNode.create(createTab(3L, TabId.create(2L), 0), 2);
+
+        childNode.addChild(grandChildNode);
+        rootNode.addChild(childNode);
+
+        TabTree tabTree = TabTree.create(1L, new ArrayList<>(List.of(rootNode)));
+
+        // when
+        List<TabNode> actual = tabTree.ancestorsOf(TabId.create(3L));
+
+        // then
+        assertThat(actual).containsExactly(childNode, rootNode);
+    }
+
+    @Test
+    void 루트_노드의_조상은_없다() {
+        // given
+        TabNode rootNode = TabNode.createRoot(createTab(1L, TabId.EMPTY_TAB_ID, 0));
+        TabTree tabTree = TabTree.create(1L, new ArrayList<>(List.of(rootNode)));
+
+        // when
+        List<TabNode> actual = tabTree.ancestorsOf(TabId.create(1L));
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 존재하지_않는_노드의_조상을_조회하면_예외가_발생한다() {
+        // given
+        TabTree tabTree = TabTree.create(1L);
+
+        // when & then
+        assertThatThrownBy(() -> tabTree.ancestorsOf(TabId.create(999L)))
+                .isInstanceOf(TabNodeNotFoundException.class);
+    }
+
+    private Tab createTab(Long id, TabId parentId, int position) {
+        return new Tab(
+                TabId.create(id),
+                parentId,
+                UserId.create(2L),
+                TabGroupId.create(1L),
+                TabTitle.create("탭"),
+                TabUrl.create("http://test.com"),
+                TabPosition.create(position),
+                AuditTimestamps.now()
+        );
+    }
 }
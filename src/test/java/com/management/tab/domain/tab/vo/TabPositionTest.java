@@ -1,5 +1,6 @@
 package com.management.tab.domain.tab.vo;
 
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -54,7 +55,7 @@ class TabPositionTest {
     }
 
     @Test
-    void next는_현재_위치보다_1_증가한_TabPosition을_반환한다() {
+    void next는_현재_위치보다_간격만큼_증가한_TabPosition을_반환한다() {
         // given
         TabPosition position = TabPosition.create(5);
 
@@ -62,7 +63,7 @@ class TabPositionTest {
         TabPosition nextPosition = position.next();
 
         // then
-        assertThat(nextPosition.getValue()).isEqualTo(6);
+        assertThat(nextPosition.getValue()).isEqualTo(5 + TabPosition.GAP);
     }
 
     @Test
@@ -77,10 +78,34 @@ class TabPositionTest {
         assertAll(
                 () -> assertThat(nextPosition).isNotSameAs(position),
                 () -> assertThat(position.getValue()).isEqualTo(3),
-                () -> assertThat(nextPosition.getValue()).isEqualTo(4)
+                () -> assertThat(nextPosition.getValue()).isEqualTo(3 + TabPosition.GAP)
         );
     }
 
+    @Test
+    void 간격만큼_더할_자리가_남아_있으면_추가할_수_있다() {
+        // given
+        TabPosition position = TabPosition.create(Integer.MAX_VALUE - TabPosition.GAP);
+
+        // when & then
+        assertAll(
+                () -> assertThat(position.hasRoomFor(1)).isTrue(),
+                () -> assertThat(position.hasRoomFor(2)).isFalse()
+        );
+    }
+
+    @Test
+    void 간격만큼_더하면_넘치는_위치는_추가할_수_없다() {
+        // given
+        TabPosition position = TabPosition.create(Integer.MAX_VALUE - 1);
+
+        // when
+        boolean actual = position.hasRoomFor(1);
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
     @Test
     void 같은_값을_가진_TabPosition은_동등하다() {
         // given
@@ -106,4 +131,72 @@ class TabPositionTest {
                 () -> assertThat(position1).doesNotHaveSameHashCodeAs(position2)
         );
     }
+
+    @Test
+    void 두_위치_사이의_중간_위치를_반환한다() {
+        // given
+        TabPosition lower = TabPosition.create(0);
+        TabPosition upper = TabPosition.create(1024);
+
+        // when
+        Optional<TabPosition> actual = lower.between(upper);
+
+        // then
+        assertThat(actual).contains(TabPosition.create(512));
+    }
+
+    @Test
+    void 두_위치_사이에_간격이_없으면_빈_값을_반환한다() {
+        // given
+        TabPosition lower = TabPosition.create(3);
+        TabPosition upper = TabPosition.create(4);
+
+        // when
+        Optional<TabPosition> actual = lower.between(upper);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 첫_번째_위치_앞의_위치를_반환한다() {
+        // given
+        TabPosition first = TabPosition.create(1);
+
+        // when
+        Optional<TabPosition> actual = first.before();
+
+        // then
+        assertThat(actual).contains(TabPosition.create(0));
+    }
+
+    @Test
+    void 위치가_0이면_앞에_위치를_만들_수_없다() {
+        // when
+        Optional<TabPosition> actual = TabPosition.defaultPosition().before();
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 순번에_간격을_곱한_위치를_반환한다() {
+        // when
+        TabPosition actual = TabPosition.spaced(3);
+
+        // then
+        assertThat(actual.getValue()).isEqualTo(3 * TabPosition.GAP);
+    }
+
+    @Test
+    void 차이가_1_이하인_위치는_인접한_위치다() {
+        // given
+        TabPosition position = TabPosition.create(10);
+
+        // when & then
+        assertAll(
+                () -> assertThat(position.isAdjacentTo(TabPosition.create(11))).isTrue(),
+                () -> assertThat(position.isAdjacentTo(TabPosition.create(12))).isFalse()
+        );
+    }
 }
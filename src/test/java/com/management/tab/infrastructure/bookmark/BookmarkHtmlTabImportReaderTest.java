@@ -0,0 +1,95 @@
+package com.management.tab.infrastructure.bookmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.management.tab.application.tab.dto.request.ImportedTab;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class BookmarkHtmlTabImportReaderTest {
+
+    @Test
+    void 폴더와_링크를_전위_순회_순서로_읽는다() {
+        // given
+        String html = """
+                <!DOCTYPE NETSCAPE-Bookmark-file-1>
+                <META HTTP-EQUIV="Content-Type" CONTENT="text/html; charset=UTF-8">
+                <TITLE>Bookmarks</TITLE>
+                <H1>Bookmarks</H1>
+                <DL><p>
+                    <DT><H3 ADD_DATE="1700000000">개발 &amp; 문서</H3>
+                    <DL><p>
+                        <DT><A HREF="https://docs.spring.io" ADD_DATE="1700000000">Spring</A>
+                        <DT><H3>빈 폴더</H3>
+                        <DL><p>
+                        </DL><p>
+                    </DL><p>
+                    <DT><A HREF="https://example.com">예제</A>
+                </DL><p>
+                """;
+
+        // when
+        List<ImportedTab> actual = readAll(html);
+
+        // then
+        assertThat(actual).extracting(ImportedTab::depth, ImportedTab::title, ImportedTab::url)
+                          .containsExactly(
+                                  tuple(0, "개발 & 문서", null),
+                                  tuple(1, "Spring", "https://docs.spring.io"),
+                                  tuple(1, "빈 폴더", null),
+                                  tuple(0, "예제", "https://example.com")
+                          );
+    }
+
+    @Test
+    void 탭으로_저장할_수_없는_링크는_건너뛴다() {
+        // given
+        String html = """
+                <DL><p>
+                    <DT><A HREF="javascript:alert(1)">스크립트</A>
+                    <DT><A HREF="place:sort=8">최근 방문</A>
+                    <DT><A HREF="https://example.com">예제</A>
+                </DL><p>
+                """;
+
+        // when
+        List<ImportedTab> actual = readAll(html);
+
+        // then
+        assertThat(actual).extracting(ImportedTab::title)
+                          .containsExactly("예제");
+    }
+
+    @Test
+    void 제목이_없으면_URL을_제목으로_쓰고_긴_제목은_자른다() {
+        // given
+        String html = """
+                <DL><p>
+                    <DT><A HREF="https://example.com"></A>
+                    <DT><A HREF="https://long.com">%s</A>
+                </DL><p>
+                """.formatted("가".repeat(60));
+
+        // when
+        List<ImportedTab> actual = readAll(html);
+
+        // then
+        assertThat(actual).extracting(ImportedTab::title)
+                          .containsExactly("https://example.com", "가".repeat(50));
+    }
+
+    private List<ImportedTab> readAll(String html) {
+        BookmarkHtmlTabImportReader reader = new BookmarkHtmlTabImportReader(new StringReader(html));
+        List<ImportedTab> importedTabs = new ArrayList<>();
+
+        reader.forEachRemaining(importedTabs::add);
+        return importedTabs;
+    }
+}
@@ -0,0 +1,85 @@
+package com.management.tab.infrastructure.bookmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.management.tab.application.tab.dto.request.ImportedTab;
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabBuilder;
+import com.management.tab.domain.tab.TabNode;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class BookmarkHtmlWriterTest {
+
+    @Test
+    void 자식이_있는_탭은_폴더로_쓰고_URL을_함께_남긴다() {
+        // given
+        StringWriter output = new StringWriter();
+        BookmarkHtmlWriter writer = new BookmarkHtmlWriter(output, ZoneOffset.UTC);
+
+        // when
+        writer.writeHeader("내 그룹");
+        writer.write(TabNode.create(createTab(1L, "부모 <1>", "https://parent.com"), 0));
+        writer.write(TabNode.create(createTab(2L, "자식", "https://child.com"), 1));
+        writer.finish();
+
+        // then
+        String actual = output.toString();
+
+        assertAll(
+                () -> assertThat(actual).startsWith("<!DOCTYPE NETSCAPE-Bookmark-file-1>"),
+                () -> assertThat(actual).contains("<H1>내 그룹</H1>"),
+                () -> assertThat(actual).containsPattern("<DT><H3 ADD_DATE=\"\\d+\" HREF=\"https://parent.com\">부모 &lt;1&gt;</H3>"),
+                () -> assertThat(actual).containsPattern("<DT><A HREF=\"https://child.com\" ADD_DATE=\"\\d+\">자식</A>"),
+                () -> assertThat(actual).endsWith("    </DL><p>\n</DL><p>\n")
+        );
+    }
+
+    @Test
+    void 내보낸_파일을_다시_읽으면_같은_계층이_나온다() {
+        // given
+        StringWriter output = new StringWriter();
+        BookmarkHtmlWriter writer = new BookmarkHtmlWriter(output, ZoneOffset.UTC);
+
+        writer.writeHeader("그룹");
+        writer.write(TabNode.create(createTab(1L, "루트", "https://root.com"), 0));
+        writer.write(TabNode.create(createTab(2L, "자식", "https://child.com"), 1));
+        writer.write(TabNode.create(createTab(3L, "손자", "https://grandchild.com"), 2));
+        writer.write(TabNode.create(createTab(4L, "두 번째 루트", "https://second.com"), 0));
+        writer.finish();
+
+        // when
+        List<ImportedTab> actual = new ArrayList<>();
+
+        new BookmarkHtmlTabImportReader(new StringReader(output.toString())).forEachRemaining(actual::add);
+
+        // then
+        assertThat(actual).extracting(ImportedTab::depth, ImportedTab::title, ImportedTab::url)
+                          .containsExactly(
+                                  tuple(0, "루트", "https://root.com"),
+                                  tuple(1, "자식", "https://child.com"),
+                                  tuple(2, "손자", "https://grandchild.com"),
+                                  tuple(0, "두 번째 루트", "https://second.com")
+                          );
+    }
+
+    private Tab createTab(Long id, String title, String url) {
+        return TabBuilder.builder()
+                         .id(id)
+                         .groupId(1L)
+                         .writerId(1L)
+                         .title(title)
+                         .url(url)
+                         .build();
+    }
+}
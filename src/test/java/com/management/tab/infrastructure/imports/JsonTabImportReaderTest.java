@@ -0,0 +1,70 @@
+package com.management.tab.infrastructure.imports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.management.tab.application.tab.dto.request.ImportedTab;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class JsonTabImportReaderTest {
+
+    @Test
+    void 중첩된_탭을_전위_순회_순서로_읽는다() {
+        // given
+        String json = """
+                [
+                  {"title": "A", "url": "https://a.com", "memo": {"ignored": true}, "children": [
+                    {"title": "A-1", "url": "https://a1.com", "children": []}
+                  ]},
+                  {"url": "https://b.com", "title": "B"}
+                ]
+                """;
+
+        // when
+        List<ImportedTab> actual = readAll(json);
+
+        // then
+        assertThat(actual).extracting(ImportedTab::depth, ImportedTab::title)
+                          .containsExactly(tuple(0, "A"), tuple(1, "A-1"), tuple(0, "B"));
+    }
+
+    @Test
+    void children_뒤에_title이_오면_예외가_발생한다() {
+        // given
+        String json = """
+                [{"children": [], "title": "A"}]
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> readAll(json))
+                .isInstanceOf(InvalidTabImportException.class);
+    }
+
+    @Test
+    void 배열이_아니면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> readAll("{\"title\": \"A\"}"))
+                .isInstanceOf(InvalidTabImportException.class);
+    }
+
+    private List<ImportedTab> readAll(String json) {
+        JsonTabImportReader reader = new JsonTabImportReader(
+                new JsonFactory(),
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))
+        );
+        List<ImportedTab> importedTabs = new ArrayList<>();
+
+        reader.forEachRemaining(importedTabs::add);
+        return importedTabs;
+    }
+}
@@ -0,0 +1,60 @@
+package com.management.tab.infrastructure.imports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.tab.application.tab.dto.request.ImportedTab;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class NdjsonTabImportReaderTest {
+
+    @Test
+    void 한_줄에_하나씩_탭을_읽는다() {
+        // given
+        String ndjson = """
+                {"depth": 0, "title": "A", "url": "https://a.com"}
+                {"depth": 1, "title": "A-1", "url": "https://a1.com"}
+                {"depth": 0, "title": "B", "url": "https://b.com"}
+                """;
+
+        // when
+        List<ImportedTab> actual = readAll(ndjson);
+
+        // then
+        assertThat(actual).extracting(ImportedTab::depth)
+                          .containsExactly(0, 1, 0);
+    }
+
+    @Test
+    void 이전_탭보다_두_단계_이상_깊어지면_예외가_발생한다() {
+        // given
+        String ndjson = """
+                {"depth": 0, "title": "A", "url": "https://a.com"}
+                {"depth": 2, "title": "A-1-1", "url": "https://a11.com"}
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> readAll(ndjson))
+                .isInstanceOf(InvalidTabImportException.class);
+    }
+
+    private List<ImportedTab> readAll(String ndjson) {
+        NdjsonTabImportReader reader = new NdjsonTabImportReader(
+                new ObjectMapper(),
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))
+        );
+        List<ImportedTab> importedTabs = new ArrayList<>();
+
+        reader.forEachRemaining(importedTabs::add);
+        return importedTabs;
+    }
+}
@@ -0,0 +1,115 @@
+package com.management.tab.infrastructure.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.management.tab.config.auth.security.enums.TokenType;
+import com.management.tab.config.properties.TokenProperties;
+import com.management.tab.domain.auth.PrivateClaims;
+import com.management.tab.infrastructure.jwt.CachingTokenDecoder.TokenCacheKey;
+import com.management.tab.infrastructure.jwt.JwtDecoder.ExpiredTokenException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.AESDecrypter;
+import com.nimbusds.jose.crypto.AESEncrypter;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CachingTokenDecoderTest {
+
+    TokenProperties tokenProperties = new TokenProperties(
+            "thisIsA32ByteAccessTokenKeyForHS",
+            "thisIsA32ByteRefreshTokenKeyForH",
+            "thisIsA32ByteEncryptionKeyForAES",
+            "issuer",
+            43200,
+            259200,
+            43200000L,
+            259200000L
+    );
+    Clock clock = Clock.systemDefaultZone();
+    Cache<TokenCacheKey, DecodedToken> cache;
+    JwtDecoder jwtDecoder;
+    JwtEncoder jwtEncoder;
+
+    @BeforeEach
+    void beforeEach() throws JOSEException {
+        SecretKey encryptionSecretKey = new SecretKeySpec(
+                "24ByteEncryptionKeyForJWE".getBytes(StandardCharsets.UTF_8), 0, 24, "AES"
+        );
+        SecretKey accessTokenSecretKey = new SecretKeySpec(
+                tokenProperties.accessKey().getBytes(StandardCharsets.UTF_8), "HmacSHA256"
+        );
+        SecretKey refreshTokenSecretKey = new SecretKeySpec(
+                tokenProperties.refreshKey().getBytes(StandardCharsets.UTF_8), "HmacSHA256"
+        );
+        JwsVerifierFinder jwsVerifierFinder = new JwsVerifierFinder(
+                new MACVerifier(accessTokenSecretKey),
+                new MACVerifier(refreshTokenSecretKey)
+        );
+        JwsSignerFinder jwsSignerFinder = new JwsSignerFinder(
+                new MACSigner(accessTokenSecretKey),
+                new MACSigner(refreshTokenSecretKey)
+        );
+
+        cache = Caffeine.newBuilder()
+                        .maximumSize(100)
+                        .recordStats()
+                        .build();
+        JwtEnvelope jwtEnvelope = JweEnvelope.keyWrapped(
+                new AESEncrypter(encryptionSecretKey),
+                new AESDecrypter(encryptionSecretKey)
+        );
+        JwtEnvelopeFinder jwtEnvelopeFinder = new JwtEnvelopeFinder(jwtEnvelope, jwtEnvelope);
+
+        jwtDecoder = new JwtDecoder(clock, jwtEnvelopeFinder, jwsVerifierFinder, tokenProperties);
+        jwtEncoder = new JwtEncoder(jwtEnvelopeFinder, jwsSignerFinder, tokenProperties);
+    }
+
+    @Test
+    void 같은_토큰을_다시_디코딩하면_캐시된_클레임을_반환한다() {
+        // given
+        CachingTokenDecoder cachingTokenDecoder = new CachingTokenDecoder(clock, jwtDecoder, cache);
+        String token = jwtEncoder.encode(LocalDateTime.now(), TokenType.ACCESS, 1L);
+        PrivateClaims expected = cachingTokenDecoder.decode(TokenType.ACCESS, token);
+
+        // when
+        PrivateClaims actual = cachingTokenDecoder.decode(TokenType.ACCESS, token);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(expected),
+                () -> assertThat(cache.stats().hitCount()).isEqualTo(1L),
+                () -> assertThat(cache.stats().missCount()).isEqualTo(1L)
+        );
+    }
+
+    @Test
+    void 캐시된_토큰이라도_만료_시각이_지나면_디코딩할_수_없다() {
+        // given
+        Clock expiredClock = Clock.offset(clock, Duration.ofDays(1));
+        CachingTokenDecoder cachingTokenDecoder = new CachingTokenDecoder(expiredClock, jwtDecoder, cache);
+        String token = jwtEncoder.encode(LocalDateTime.now(), TokenType.ACCESS, 1L);
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> cachingTokenDecoder.decode(TokenType.ACCESS, token))
+                        .isInstanceOf(ExpiredTokenException.class),
+                () -> assertThat(cache.estimatedSize()).isZero()
+        );
+    }
+}
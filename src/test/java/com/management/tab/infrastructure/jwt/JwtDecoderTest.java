@@ -10,13 +10,13 @@ import com.management.tab.config.auth.security.enums.TokenType;
 import com.management.tab.infrastructure.jwt.JwtDecoder.ExpiredTokenException;
 import com.management.tab.infrastructure.jwt.JwtDecoder.InvalidTokenException;
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.JWEDecrypter;
-import com.nimbusds.jose.JWEEncrypter;
 import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.KeyLengthException;
 import com.nimbusds.jose.crypto.AESDecrypter;
 import com.nimbusds.jose.crypto.AESEncrypter;
+import com.nimbusds.jose.crypto.DirectDecrypter;
+import com.nimbusds.jose.crypto.DirectEncrypter;
 import com.nimbusds.jose.crypto.MACSigner;
 import com.nimbusds.jose.crypto.MACVerifier;
 import java.nio.charset.StandardCharsets;
@@ -29,6 +29,7 @@ import javax.crypto.spec.SecretKeySpec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -48,20 +49,23 @@ class JwtDecoderTest {
             43200000L,
             259200000L
     );
+    Clock clock = Clock.systemDefaultZone();
     JwtDecoder jwtDecoder;
     JwtEncoder jwtEncoder;
-    JWEEncrypter jweEncrypter;
+    JwtEnvelopeFinder jwtEnvelopeFinder;
     JwsSignerFinder jwsSignerFinder;
+    JwsVerifierFinder jwsVerifierFinder;
 
     @BeforeEach
     void beforeEach() throws JOSEException {
-        Clock clock = Clock.systemDefaultZone();
-
         byte[] encryptionKeyBytes = "24ByteEncryptionKeyForJWE".getBytes(StandardCharsets.UTF_8);
         SecretKey encryptionSecretKey = new SecretKeySpec(encryptionKeyBytes, 0, 24, "AES");
 
-        JWEDecrypter jweDecrypter = new AESDecrypter(encryptionSecretKey);
-        jweEncrypter = new AESEncrypter(encryptionSecretKey);
+        JwtEnvelope jwtEnvelope = JweEnvelope.keyWrapped(
+                new AESEncrypter(encryptionSecretKey),
+                new AESDecrypter(encryptionSecretKey)
+        );
+        jwtEnvelopeFinder = new JwtEnvelopeFinder(jwtEnvelope, jwtEnvelope);
 
         byte[] accessTokenKeyBytes = tokenProperties.accessKey().getBytes(StandardCharsets.UTF_8);
         SecretKey accessTokenSecretKey = new SecretKeySpec(accessTokenKeyBytes, "HmacSHA256");
@@ -73,11 +77,11 @@ class JwtDecoderTest {
         JWSVerifier refreshTokenJwsVerifier = new MACVerifier(refreshTokenSecretKey);
         JWSSigner refreshTokenJwsSigner = new MACSigner(refreshTokenSecretKey);
 
-        JwsVerifierFinder jwsVerifierFinder = new JwsVerifierFinder(accessTokenJwsVerifier, refreshTokenJwsVerifier);
+        jwsVerifierFinder = new JwsVerifierFinder(accessTokenJwsVerifier, refreshTokenJwsVerifier);
 
         jwsSignerFinder = new JwsSignerFinder(accessTokenJwsSigner, refreshTokenJwsSigner);
-        jwtDecoder = new JwtDecoder(clock, jweDecrypter, jwsVerifierFinder, tokenProperties);
-        jwtEncoder = new JwtEncoder(jweEncrypter, jwsSignerFinder, tokenProperties);
+        jwtDecoder = new JwtDecoder(clock, jwtEnvelopeFinder, jwsVerifierFinder, tokenProperties);
+        jwtEncoder = new JwtEncoder(jwtEnvelopeFinder, jwsSignerFinder, tokenProperties);
     }
 
 
@@ -157,9 +161,12 @@ class JwtDecoderTest {
         );
         byte[] encryptionKeyBytes = "24ByteEncryptionKeyForJWE".getBytes(StandardCharsets.UTF_8);
         SecretKey encryptionSecretKey = new SecretKeySpec(encryptionKeyBytes, 0, 24, "AES");
-        JWEEncrypter otherServiceJweEncrypter = new AESEncrypter(encryptionSecretKey);
+        JwtEnvelope otherServiceJwtEnvelope = JweEnvelope.keyWrapped(
+                new AESEncrypter(encryptionSecretKey),
+                new AESDecrypter(encryptionSecretKey)
+        );
         JwtEncoder otherServiceJwtEncoder = new JwtEncoder(
-                otherServiceJweEncrypter,
+                new JwtEnvelopeFinder(otherServiceJwtEnvelope, otherServiceJwtEnvelope),
                 jwsSignerFinder,
                 otherIssuerTokenProperties
         );
@@ -170,4 +177,53 @@ class JwtDecoderTest {
                 .isInstanceOf(InvalidTokenException.class)
                 .hasMessage("서비스에서 발급한 토큰이 아닙니다.");
     }
+
+    @Test
+    void 직접_암호화_프로필의_토큰을_디코딩한다() throws KeyLengthException {
+        // given
+        byte[] directKeyBytes = "thisIsA32ByteDirectEncryptionKey".getBytes(StandardCharsets.UTF_8);
+        SecretKey directSecretKey = new SecretKeySpec(directKeyBytes, "AES");
+        JwtEnvelope directEnvelope = JweEnvelope.direct(
+                new DirectEncrypter(directSecretKey),
+                new DirectDecrypter(directSecretKey)
+        );
+        JwtEnvelopeFinder directEnvelopeFinder = new JwtEnvelopeFinder(directEnvelope, directEnvelope);
+        JwtEncoder directJwtEncoder = new JwtEncoder(directEnvelopeFinder, jwsSignerFinder, tokenProperties);
+        JwtDecoder directJwtDecoder = new JwtDecoder(clock, directEnvelopeFinder, jwsVerifierFinder, tokenProperties);
+        String token = directJwtEncoder.encode(LocalDateTime.now(), TokenType.ACCESS, 1L);
+
+        // when
+        PrivateClaims actual = directJwtDecoder.decode(TokenType.ACCESS, token);
+
+        // then
+        assertThat(actual.userId()).isEqualTo(1L);
+    }
+
+    @Test
+    void 서명_프로필의_토큰을_디코딩한다() {
+        // given
+        JwtEnvelopeFinder signedEnvelopeFinder = new JwtEnvelopeFinder(new JwsEnvelope(), new JwsEnvelope());
+        JwtEncoder signedJwtEncoder = new JwtEncoder(signedEnvelopeFinder, jwsSignerFinder, tokenProperties);
+        JwtDecoder signedJwtDecoder = new JwtDecoder(clock, signedEnvelopeFinder, jwsVerifierFinder, tokenProperties);
+        String token = signedJwtEncoder.encode(LocalDateTime.now(), TokenType.ACCESS, 1L);
+
+        // when
+        PrivateClaims actual = signedJwtDecoder.decode(TokenType.ACCESS, token);
+
+        // then
+        assertThat(actual.userId()).isEqualTo(1L);
+    }
+
+    @Test
+    void 설정된_프로필과_다른_형식의_토큰은_디코딩_할_수_없다() {
+        // given
+        JwtEnvelopeFinder signedEnvelopeFinder = new JwtEnvelopeFinder(new JwsEnvelope(), new JwsEnvelope());
+        JwtEncoder signedJwtEncoder = new JwtEncoder(signedEnvelopeFinder, jwsSignerFinder, tokenProperties);
+        String token = signedJwtEncoder.encode(LocalDateTime.now(), TokenType.ACCESS, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> jwtDecoder.decode(TokenType.ACCESS, token))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("유효한 토큰이 아닙니다.");
+    }
 }
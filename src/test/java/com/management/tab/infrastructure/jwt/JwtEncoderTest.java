@@ -5,7 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.management.tab.config.properties.TokenProperties;
 import com.management.tab.config.auth.security.enums.TokenType;
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.JWEEncrypter;
+import com.nimbusds.jose.crypto.AESDecrypter;
 import com.nimbusds.jose.crypto.AESEncrypter;
 import com.nimbusds.jose.crypto.MACSigner;
 import java.nio.charset.StandardCharsets;
@@ -39,7 +39,10 @@ class JwtEncoderTest {
     void beforeEach() throws JOSEException {
         byte[] encryptionKeyBytes = "24ByteEncryptionKeyForJWE".getBytes(StandardCharsets.UTF_8);
         SecretKey encryptionSecretKey = new SecretKeySpec(encryptionKeyBytes, 0, 24, "AES");
-        JWEEncrypter jweEncrypter = new AESEncrypter(encryptionSecretKey);
+        JwtEnvelope jwtEnvelope = JweEnvelope.keyWrapped(
+                new AESEncrypter(encryptionSecretKey),
+                new AESDecrypter(encryptionSecretKey)
+        );
 
         byte[] accessTokenKeyBytes = tokenProperties.accessKey().getBytes(StandardCharsets.UTF_8);
         SecretKey accessTokenSecretKey = new SecretKeySpec(accessTokenKeyBytes, "HmacSHA256");
@@ -51,7 +54,7 @@ class JwtEncoderTest {
 
         JwsSignerFinder jwsSignerFinder = new JwsSignerFinder(accessTokenSigner, refreshTokenSigner);
 
-        jwtEncoder = new JwtEncoder(jweEncrypter, jwsSignerFinder, tokenProperties);
+        jwtEncoder = new JwtEncoder(new JwtEnvelopeFinder(jwtEnvelope, jwtEnvelope), jwsSignerFinder, tokenProperties);
     }
 
 
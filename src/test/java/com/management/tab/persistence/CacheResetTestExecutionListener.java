@@ -0,0 +1,20 @@
+package com.management.tab.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+public class CacheResetTestExecutionListener extends AbstractTestExecutionListener {
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        if (!testContext.hasApplicationContext()) {
+            return;
+        }
+
+        testContext.getApplicationContext()
+                   .getBeansOfType(Cache.class)
+                   .values()
+                   .forEach(Cache::invalidateAll);
+    }
+}
@@ -0,0 +1,202 @@
+package com.management.tab.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.management.tab.application.tab.TabService;
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.tab.PersistentTabTree;
+import com.management.tab.domain.tab.TabTree;
+import com.management.tab.domain.tab.vo.TabId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Sql(scripts = {"classpath:sql/schema.sql", "classpath:sql/service/tab-service-test-data.sql"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class CachingTabRepositoryTest {
+
+    private static final TabGroupId GROUP_ID = TabGroupId.create(1L);
+
+    @Autowired
+    TabService tabService;
+
+    @Autowired
+    JdbcTabRepository jdbcTabRepository;
+
+    @Autowired
+    Cache<TabGroupId, PersistentTabTree> tabTreeCache;
+
+    @BeforeEach
+    void setUp() {
+        tabTreeCache.invalidateAll();
+    }
+
+    @Test
+    void 캐시가_켜져_있으면_같은_그룹의_트리를_캐시에서_반환한다() {
+        // given
+        TabTree first = tabService.getTabTree(1L);
+
+        // when
+        TabTree actual = tabService.getTabTree(1L);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isSameAs(first),
+                () -> assertThat(tabTreeCache.getIfPresent(GROUP_ID).toTabTree()).isSameAs(first)
+        );
+    }
+
+    @Test
+    void 탭을_변경하면_다음_조회는_변경된_트리를_반환한다() {
+        // given
+        TabTree before = tabService.getTabTree(1L);
+
+        // when
+        tabService.createRootTab(1L, 1L, "새 루트 탭", "https://new-root.com");
+
+        // then
+        TabTree actual = tabService.getTabTree(1L);
+
+        assertAll(
+                () -> assertThat(actual).isNotSameAs(before),
+                () -> assertThat(actual.getTotalCount()).isEqualTo(before.getTotalCount() + 1)
+        );
+    }
+
+    @Test
+    void 커밋된_쓰기는_캐시된_트리에_바로_반영한다() {
+        // given
+        tabService.getTabTree(1L);
+
+        // when
+        tabService.updateTab(100L, 1L, "수정된 루트 탭", "https://updated-root.com");
+
+        // then
+        PersistentTabTree cached = tabTreeCache.getIfPresent(GROUP_ID);
+
+        assertAll(
+                () -> assertThat(cached).isNotNull(),
+                () -> assertThat(cached.findNode(TabId.create(100L)).get().getTab().getTitle()).isEqualTo("수정된 루트 탭"),
+                () -> assertThat(tabService.getTabTree(1L)).isSameAs(cached.toTabTree())
+        );
+    }
+
+    @Test
+    void 자식_탭을_생성하면_캐시된_트리가_저장된_트리와_같다() {
+        // given
+        tabService.getTabTree(1L);
+
+        // when
+        tabService.createChildTab(101L, 1L, "새 자식 탭", "https://new-child.com");
+
+        // then
+        assertCachedTreeMatchesDatabase();
+    }
+
+    @Test
+    void 탭만_이동하면_캐시된_트리가_저장된_트리와_같다() {
+        // given
+        tabService.getTabTree(1L);
+
+        // when
+        tabService.move(101L, 300L, 1L);
+
+        // then
+        assertCachedTreeMatchesDatabase();
+    }
+
+    @Test
+    void 서브트리와_함께_이동하면_캐시된_트리가_저장된_트리와_같다() {
+        // given
+        tabService.getTabTree(1L);
+
+        // when
+        tabService.moveWithSubtree(102L, 300L, 1L);
+
+        // then
+        assertCachedTreeMatchesDatabase();
+    }
+
+    @Test
+    void 루트로_이동하면_캐시된_트리가_저장된_트리와_같다() {
+        // given
+        tabService.getTabTree(1L);
+
+        // when
+        tabService.moveRoot(101L, 1L);
+
+        // then
+        assertCachedTreeMatchesDatabase();
+    }
+
+    @Test
+    void 탭만_삭제하면_캐시된_트리가_저장된_트리와_같다() {
+        // given
+        TabTree before = tabService.getTabTree(1L);
+
+        // when
+        tabService.deleteTab(101L, 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(tabService.getTabTree(1L).getTotalCount()).isEqualTo(before.getTotalCount() - 1),
+                this::assertCachedTreeMatchesDatabase
+        );
+    }
+
+    @Test
+    void 서브트리와_함께_삭제하면_캐시된_트리가_저장된_트리와_같다() {
+        // given
+        tabService.getTabTree(1L);
+
+        // when
+        tabService.deleteTabWithSubtree(100L, 1L);
+
+        // then
+        assertCachedTreeMatchesDatabase();
+    }
+
+    @Test
+    void 순서를_변경하면_캐시된_트리가_저장된_트리와_같다() {
+        // given
+        tabService.getTabTree(1L);
+
+        // when
+        tabService.reorderTab(100L, 300L, 1L, true);
+
+        // then
+        assertCachedTreeMatchesDatabase();
+    }
+
+    private void assertCachedTreeMatchesDatabase() {
+        PersistentTabTree cached = tabTreeCache.getIfPresent(GROUP_ID);
+
+        assertThat(cached).isNotNull();
+        assertThat(snapshot(cached.toTabTree())).isEqualTo(snapshot(jdbcTabRepository.findTabTree(GROUP_ID)));
+    }
+
+    private List<String> snapshot(TabTree tabTree) {
+        return tabTree.getAllTabs()
+                      .stream()
+                      .map(tab -> String.join(
+                              ":",
+                              String.valueOf(tab.getId()),
+                              String.valueOf(tab.getParentId()),
+                              String.valueOf(tab.getPosition()),
+                              tab.getTitle(),
+                              tab.getUrl(),
+                              String.valueOf(tabTree.findDepth(tab.id()))
+                      ))
+                      .sorted()
+                      .toList();
+    }
+}
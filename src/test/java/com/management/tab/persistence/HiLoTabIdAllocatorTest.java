@@ -0,0 +1,80 @@
+package com.management.tab.persistence;
+
+import com.management.tab.domain.tab.vo.TabId;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Sql(scripts = {"classpath:sql/schema.sql", "classpath:sql/dao/insert-tab-dao-test-data.sql"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class HiLoTabIdAllocatorTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void 처음_할당한_식별자는_기존_탭_식별자보다_크다() {
+        // given
+        HiLoTabIdAllocator allocator = new HiLoTabIdAllocator(jdbcTemplate, transactionManager, 10);
+
+        // when
+        List<TabId> actual = allocator.allocate(3);
+
+        // then
+        assertThat(actual).extracting(TabId::getValue)
+                          .containsExactly(110L, 111L, 112L);
+    }
+
+    @Test
+    void 블록_크기보다_많은_식별자를_한_번에_할당한다() {
+        // given
+        HiLoTabIdAllocator allocator = new HiLoTabIdAllocator(jdbcTemplate, transactionManager, 10);
+
+        // when
+        List<TabId> actual = allocator.allocate(25);
+
+        // then
+        Long nextHi = jdbcTemplate.queryForObject("SELECT next_hi FROM id_sequences", Long.class);
+
+        assertThat(actual).extracting(TabId::getValue)
+                          .doesNotHaveDuplicates()
+                          .startsWith(110L)
+                          .endsWith(134L);
+        assertThat(nextHi).isEqualTo(14L);
+    }
+
+    @Test
+    void 서로_다른_할당기가_같은_식별자를_할당하지_않는다() {
+        // given
+        HiLoTabIdAllocator first = new HiLoTabIdAllocator(jdbcTemplate, transactionManager, 10);
+        HiLoTabIdAllocator second = new HiLoTabIdAllocator(jdbcTemplate, transactionManager, 10);
+
+        // when
+        List<TabId> firstIds = first.allocate(5);
+        List<TabId> secondIds = second.allocate(5);
+
+        // then
+        assertThat(firstIds).doesNotContainAnyElementsOf(secondIds);
+    }
+
+    @Test
+    void 블록_크기가_양수가_아니면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> new HiLoTabIdAllocator(jdbcTemplate, transactionManager, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
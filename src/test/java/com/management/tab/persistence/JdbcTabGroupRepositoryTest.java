@@ -27,7 +27,7 @@ class JdbcTabGroupRepositoryTest {
     @Test
     void 모든_탭_그룹을_조회할_수_있다() {
         // when
-        List<TabGroup> actual = jdbcTabGroupRepository.findAll();
+        List<TabGroup> actual = jdbcTabGroupRepository.findAll(0L, 10);
 
         // then
         assertThat(actual).isNotEmpty();
@@ -36,7 +36,7 @@ class JdbcTabGroupRepositoryTest {
     @Test
     void 조회한_탭_그룹_목록에_모든_그룹이_포함된다() {
         // when
-        List<TabGroup> actual = jdbcTabGroupRepository.findAll();
+        List<TabGroup> actual = jdbcTabGroupRepository.findAll(0L, 10);
 
         // then
         assertThat(actual).hasSizeGreaterThanOrEqualTo(2);
@@ -140,7 +140,7 @@ class JdbcTabGroupRepositoryTest {
     @Test
     void 특정_작성자의_모든_탭_그룹을_조회할_수_있다() {
         // when
-        List<TabGroup> actual = jdbcTabGroupRepository.findAllByWriterId(1L);
+        List<TabGroup> actual = jdbcTabGroupRepository.findAllByWriterId(1L, 0L, 10);
 
         // then
         assertThat(actual).hasSize(2);
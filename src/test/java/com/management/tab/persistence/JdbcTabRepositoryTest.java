@@ -7,6 +7,7 @@ import com.management.tab.domain.tab.TabBuilder;
 import com.management.tab.domain.tab.TabTree;
 import com.management.tab.domain.tab.vo.TabId;
 import com.management.tab.domain.tab.vo.TabPosition;
+import com.management.tab.persistence.dao.TabGroupDao;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,9 @@ class JdbcTabRepositoryTest {
     @Autowired
     JdbcTabRepository jdbcTabRepository;
 
+    @Autowired
+    TabGroupDao tabGroupDao;
+
     @Test
     void 루트_탭을_저장할_수_있다() {
         // given
@@ -110,6 +114,23 @@ class JdbcTabRepositoryTest {
         );
     }
 
+    @Test
+    void 그룹의_탭_트리_조회_시_부모와_자식이_연결된다() {
+        // given
+        TabGroupId groupId = TabGroupId.create(1L);
+
+        // when
+        TabTree actual = jdbcTabRepository.findTabTree(groupId);
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getRootTabNodes()).hasSize(1),
+                () -> assertThat(actual.findSiblings(TabId.create(103L))).hasSize(2),
+                () -> assertThat(actual.findDepth(TabId.create(105L))).isEqualTo(2),
+                () -> assertThat(actual.getMaxDepth()).isEqualTo(2)
+        );
+    }
+
     @Test
     void 탭의_부모_ID를_조회할_수_있다() {
         // given
@@ -174,7 +195,7 @@ class JdbcTabRepositoryTest {
     @Test
     void 루트_레벨_형제들을_조회할_수_있다() {
         // when
-        List<Tab> actual = jdbcTabRepository.findRootSiblings();
+        List<Tab> actual = jdbcTabRepository.findRootSiblings(TabGroupId.create(1L));
 
         // then
         assertThat(actual).isNotEmpty();
@@ -183,7 +204,7 @@ class JdbcTabRepositoryTest {
     @Test
     void 루트_레벨_형제_조회_시_모두_루트_탭이다() {
         // when
-        List<Tab> actual = jdbcTabRepository.findRootSiblings();
+        List<Tab> actual = jdbcTabRepository.findRootSiblings(TabGroupId.create(1L));
 
         // then
         assertThat(actual).isNotEmpty()
@@ -258,11 +279,11 @@ class JdbcTabRepositoryTest {
     @Test
     void 탭의_위치를_변경할_수_있다() {
         // given
-        TabId tabId = TabId.create(101L);
-        TabPosition newPosition = TabPosition.create(10);
+        Tab repositionedTab = jdbcTabRepository.findTab(101L)
+                                               .updatePosition(10);
 
         // when
-        jdbcTabRepository.updatePosition(tabId, newPosition);
+        jdbcTabRepository.updatePosition(repositionedTab);
 
         // then
         Tab actual = jdbcTabRepository.findTab(101L);
@@ -352,4 +373,18 @@ class JdbcTabRepositoryTest {
                 () -> jdbcTabRepository.findTab(105L)
         );
     }
+
+    @Test
+    void 탭을_변경할_때마다_그룹의_버전이_증가한다() {
+        // given
+        Tab rootTab = TabBuilder.createRoot(1L, 1L, "새 루트 탭", "https://new-root.com", TabPosition.create(10))
+                                .build();
+        Tab savedTab = jdbcTabRepository.saveRoot(rootTab);
+
+        // when
+        jdbcTabRepository.updateTabInfo(savedTab.updateInfo("수정된 탭", "https://updated.com"));
+
+        // then
+        assertThat(tabGroupDao.findVersion(1L)).contains(2L);
+    }
 }
@@ -0,0 +1,229 @@
+package com.management.tab.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.tab.PersistentTabTree;
+import com.management.tab.domain.tab.TabTree;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TabTreeCacheTest {
+
+    private static final TabGroupId GROUP_ID = TabGroupId.create(1L);
+
+    Cache<TabGroupId, PersistentTabTree> cache;
+    TabTreeCache tabTreeCache;
+    AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder()
+                        .maximumWeight(100)
+                        .weigher((TabGroupId groupId, PersistentTabTree tabTree) -> tabTree.getTotalCount() + 1)
+                        .recordStats()
+                        .build();
+        tabTreeCache = new TabTreeCache(cache);
+        loadCount = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+
+    @Test
+    void 한_번_로드한_트리는_캐시에서_재사용된다() {
+        // when
+        TabTree first = tabTreeCache.get(GROUP_ID, countingLoader());
+        TabTree second = tabTreeCache.get(GROUP_ID, countingLoader());
+
+        // then
+        assertAll(
+                () -> assertThat(second).isSameAs(first),
+                () -> assertThat(loadCount).hasValue(1),
+                () -> assertThat(cache.stats().hitCount()).isEqualTo(1),
+                () -> assertThat(cache.stats().missCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 무효화된_그룹의_트리는_다시_로드한다() {
+        // given
+        tabTreeCache.get(GROUP_ID, countingLoader());
+
+        // when
+        tabTreeCache.invalidate(GROUP_ID);
+        tabTreeCache.get(GROUP_ID, countingLoader());
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void 로드하는_동안_무효화되면_로드한_트리를_캐시에_저장하지_않는다() {
+        // given
+        Function<TabGroupId, TabTree> invalidatingLoader = groupId -> {
+            loadCount.incrementAndGet();
+            tabTreeCache.invalidate(groupId);
+
+            return TabTree.create(groupId.getValue());
+        };
+
+        // when
+        tabTreeCache.get(GROUP_ID, invalidatingLoader);
+
+        // then
+        assertThat(cache.getIfPresent(GROUP_ID)).isNull();
+    }
+
+    @Test
+    void 트랜잭션_안의_쓰기가_끝나기_전에는_트리를_캐시에_저장하지_않는다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        tabTreeCache.invalidate(GROUP_ID);
+
+        // when
+        tabTreeCache.get(GROUP_ID, countingLoader());
+        tabTreeCache.get(GROUP_ID, countingLoader());
+
+        // then
+        assertAll(
+                () -> assertThat(loadCount).hasValue(2),
+                () -> assertThat(cache.getIfPresent(GROUP_ID)).isNull()
+        );
+    }
+
+    @Test
+    void 트랜잭션이_끝나면_다시_트리를_캐시에_저장한다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        tabTreeCache.invalidate(GROUP_ID);
+        completeTransaction();
+
+        // when
+        tabTreeCache.get(GROUP_ID, countingLoader());
+        tabTreeCache.get(GROUP_ID, countingLoader());
+
+        // then
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void 다른_그룹의_쓰기는_캐시된_트리에_영향을_주지_않는다() {
+        // given
+        TabTree cached = tabTreeCache.get(GROUP_ID, countingLoader());
+
+        // when
+        tabTreeCache.invalidate(TabGroupId.create(2L));
+
+        // then
+        assertThat(tabTreeCache.get(GROUP_ID, countingLoader())).isSameAs(cached);
+    }
+
+    @Test
+    void 다른_그룹의_쓰기는_진행_중인_로드의_캐시_저장을_막지_않는다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        Function<TabGroupId, TabTree> otherGroupWritingLoader = groupId -> {
+            loadCount.incrementAndGet();
+            tabTreeCache.invalidate(TabGroupId.create(2L));
+
+            return TabTree.create(groupId.getValue());
+        };
+
+        // when
+        TabTree loaded = tabTreeCache.get(GROUP_ID, otherGroupWritingLoader);
+
+        // then
+        assertThat(cache.getIfPresent(GROUP_ID).toTabTree()).isSameAs(loaded);
+    }
+
+    @Test
+    void 쓰기가_끝나기_전에_시작한_로드는_쓰기가_끝난_뒤에도_트리를_캐시에_저장하지_않는다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        tabTreeCache.invalidate(GROUP_ID);
+        Function<TabGroupId, TabTree> completingLoader = groupId -> {
+            loadCount.incrementAndGet();
+            completeTransaction();
+
+            return TabTree.create(groupId.getValue());
+        };
+
+        // when
+        tabTreeCache.get(GROUP_ID, completingLoader);
+
+        // then
+        assertThat(cache.getIfPresent(GROUP_ID)).isNull();
+    }
+
+    @Test
+    void 로드가_시작된_뒤_트랜잭션_없이_무효화되면_트리를_캐시에_저장하지_않는다() {
+        // given
+        Function<TabGroupId, TabTree> otherInvalidatingLoader = groupId -> {
+            loadCount.incrementAndGet();
+            tabTreeCache.invalidate(groupId);
+
+            return TabTree.create(groupId.getValue());
+        };
+
+        // when
+        tabTreeCache.get(GROUP_ID, otherInvalidatingLoader);
+        tabTreeCache.get(GROUP_ID, countingLoader());
+        tabTreeCache.get(GROUP_ID, countingLoader());
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void 로드가_실패해도_이후_로드는_캐시에_저장된다() {
+        // given
+        Function<TabGroupId, TabTree> failingLoader = groupId -> {
+            throw new IllegalStateException();
+        };
+
+        // when
+        assertThatThrownBy(() -> tabTreeCache.get(GROUP_ID, failingLoader)).isInstanceOf(IllegalStateException.class);
+        TabTree loaded = tabTreeCache.get(GROUP_ID, countingLoader());
+
+        // then
+        assertThat(cache.getIfPresent(GROUP_ID).toTabTree()).isSameAs(loaded);
+    }
+
+    private Function<TabGroupId, TabTree> countingLoader() {
+        return groupId -> {
+            loadCount.incrementAndGet();
+
+            return TabTree.create(groupId.getValue());
+        };
+    }
+
+    private void completeTransaction() {
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private void completeTransaction(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(status);
+        }
+
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
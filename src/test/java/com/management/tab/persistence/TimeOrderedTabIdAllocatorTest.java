@@ -0,0 +1,107 @@
+package com.management.tab.persistence;
+
+import com.management.tab.domain.tab.vo.TabId;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TimeOrderedTabIdAllocatorTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-01T00:00:01Z"), ZoneOffset.UTC);
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+    private static final int TIMESTAMP_SHIFT =
+            TimeOrderedTabIdAllocator.NODE_ID_BITS + TimeOrderedTabIdAllocator.SEQUENCE_BITS;
+
+    @Test
+    void 같은_시각에_할당한_식별자도_순서대로_증가한다() {
+        // given
+        TimeOrderedTabIdAllocator allocator = new TimeOrderedTabIdAllocator(CLOCK, 1L);
+
+        // when
+        List<Long> actual = allocator.allocate(3)
+                                     .stream()
+                                     .map(TabId::getValue)
+                                     .toList();
+
+        // then
+        assertThat(actual).isSorted()
+                          .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void 식별자에_시각과_노드_번호가_담긴다() {
+        // given
+        TimeOrderedTabIdAllocator allocator = new TimeOrderedTabIdAllocator(CLOCK, 7L);
+
+        // when
+        long actual = allocator.allocate(1).get(0).getValue();
+
+        // then
+        assertAll(
+                () -> assertThat(actual >> TIMESTAMP_SHIFT).isEqualTo(1L),
+                () -> assertThat((actual >> TimeOrderedTabIdAllocator.SEQUENCE_BITS) & 1023L).isEqualTo(7L)
+        );
+    }
+
+    @Test
+    void 같은_초의_시퀀스를_모두_쓰면_다음_초로_넘어간다() {
+        // given
+        TimeOrderedTabIdAllocator allocator = new TimeOrderedTabIdAllocator(CLOCK, 1L);
+
+        // when
+        List<TabId> actual = allocator.allocate(4097);
+
+        // then
+        long last = actual.get(actual.size() - 1).getValue();
+
+        assertAll(
+                () -> assertThat(actual).doesNotHaveDuplicates(),
+                () -> assertThat(last >> TIMESTAMP_SHIFT).isEqualTo(2L)
+        );
+    }
+
+    @Test
+    void 마지막_시각의_식별자도_자바스크립트_안전_정수_범위_안에_있다() {
+        // given
+        Clock lastClock = Clock.fixed(Instant.ofEpochSecond(lastEpochSecond()), ZoneOffset.UTC);
+        TimeOrderedTabIdAllocator allocator = new TimeOrderedTabIdAllocator(lastClock, 1023L);
+
+        // when
+        long actual = allocator.allocate(4096).get(4095).getValue();
+
+        // then
+        assertThat(actual).isEqualTo(MAX_SAFE_INTEGER);
+    }
+
+    @Test
+    void 시각_범위를_넘으면_예외가_발생한다() {
+        // given
+        Clock overflowClock = Clock.fixed(Instant.ofEpochSecond(lastEpochSecond() + 1), ZoneOffset.UTC);
+        TimeOrderedTabIdAllocator allocator = new TimeOrderedTabIdAllocator(overflowClock, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> allocator.allocate(1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 노드_번호가_범위를_벗어나면_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> new TimeOrderedTabIdAllocator(CLOCK, 1024L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long lastEpochSecond() {
+        return TimeOrderedTabIdAllocator.EPOCH_SECONDS + (1L << TimeOrderedTabIdAllocator.TIMESTAMP_BITS) - 1;
+    }
+}
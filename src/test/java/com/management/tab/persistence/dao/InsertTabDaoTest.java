@@ -11,8 +11,10 @@ import org.springframework.test.context.jdbc.Sql;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 @SpringBootTest
@@ -242,7 +244,7 @@ class InsertTabDaoTest {
         );
 
         // then
-        List<TabDto> actual = selectTabDao.findRootSiblings();
+        List<TabDto> actual = selectTabDao.findRootSiblings(1L);
         assertAll(
                 () -> assertThat(actual).hasSize(4),
                 () -> assertThat(actual).filteredOn(t -> t.position() == 0).hasSize(2),
@@ -250,4 +252,116 @@ class InsertTabDaoTest {
                 () -> assertThat(actual).anyMatch(t -> t.position() == 2)
         );
     }
+
+    @Test
+    void 같은_레벨의_탭들을_한_번에_저장한다() {
+        // given
+        List<TabDto> tabDtos = List.of(
+                createTabDto(null, "루트", 1024),
+                createTabDto(100L, "자식 1", 1024),
+                createTabDto(100L, "자식 2", 2048)
+        );
+
+        // when
+        List<Long> actual = insertTabDao.saveTabs(tabDtos);
+
+        // then
+        List<TabDto> children = selectTabDao.findSiblings(100L);
+
+        assertAll(
+                () -> assertThat(actual).hasSize(3)
+                                        .doesNotContainNull(),
+                () -> assertThat(children).extracting(TabDto::id)
+                                          .containsSubsequence(actual.get(1), actual.get(2)),
+                () -> assertThat(selectTabDao.findById(actual.get(0))).hasValueSatisfying(
+                        tab -> assertThat(tab.parentId()).isNull()
+                )
+        );
+    }
+
+    @Test
+    void 한_번에_저장한_탭들의_경로가_함께_저장된다() {
+        // given
+        Long childId = insertTabDao.saveTabs(List.of(createTabDto(100L, "자식", 0)))
+                                   .get(0);
+
+        // when
+        Long grandChildId = insertTabDao.saveTabs(List.of(createTabDto(childId, "손자", 0)))
+                                        .get(0);
+
+        // then
+        List<TabWithDepthDto> actual = selectTabDao.findTreeByGroup(1L);
+
+        assertThat(actual).filteredOn(tab -> tab.id().equals(grandChildId))
+                          .singleElement()
+                          .satisfies(tab -> assertThat(tab.depth()).isEqualTo(2));
+    }
+
+    @Test
+    void 한_번에_저장하는_탭이_많아도_모든_탭의_경로가_저장된다() {
+        // given
+        List<TabDto> tabDtos = IntStream.range(0, 2_500)
+                                        .mapToObj(i -> createTabDto(100L, "자식 " + i, i))
+                                        .toList();
+
+        // when
+        List<Long> actual = insertTabDao.saveTabs(tabDtos);
+
+        // then
+        List<TabWithDepthDto> savedTabs = selectTabDao.findTreeByGroup(1L);
+
+        assertAll(
+                () -> assertThat(actual).hasSize(2_500),
+                () -> assertThat(savedTabs).filteredOn(tab -> actual.contains(tab.id()))
+                                           .hasSize(2_500)
+                                           .allSatisfy(tab -> assertThat(tab.depth()).isEqualTo(1))
+        );
+    }
+
+    @Test
+    void 저장할_탭이_없으면_빈_리스트를_반환한다() {
+        // when
+        List<Long> actual = insertTabDao.saveTabs(List.of());
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 미리_할당한_식별자로_트리를_한_번에_저장한다() {
+        // given
+        List<TabDto> tabDtos = List.of(
+                createTabDto(500L, 100L, "자식", 0),
+                createTabDto(501L, 500L, "손자", 0),
+                createTabDto(502L, null, "루트", 1024)
+        );
+
+        // when
+        insertTabDao.saveTabsWithIds(tabDtos);
+
+        // then
+        List<TabWithDepthDto> actual = selectTabDao.findTreeByGroup(1L);
+
+        assertThat(actual).filteredOn(tab -> tab.id() >= 500L)
+                          .extracting(TabWithDepthDto::id, TabWithDepthDto::depth)
+                          .containsExactlyInAnyOrder(tuple(500L, 1), tuple(501L, 2), tuple(502L, 0));
+    }
+
+    private TabDto createTabDto(Long parentId, String title, int position) {
+        return createTabDto(null, parentId, title, position);
+    }
+
+    private TabDto createTabDto(Long id, Long parentId, String title, int position) {
+        return new TabDto(
+                id,
+                1L,
+                parentId,
+                1L,
+                title,
+                "http://test.com",
+                position,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
 }
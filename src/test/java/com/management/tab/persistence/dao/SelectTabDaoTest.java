@@ -1,13 +1,19 @@
 package com.management.tab.persistence.dao;
 
+import com.management.tab.domain.tab.TabCursor;
+import com.management.tab.domain.tab.TabNode;
+import com.management.tab.domain.tab.TabOutline;
 import com.management.tab.persistence.dao.dto.TabDto;
 import com.management.tab.persistence.dao.dto.TabWithDepthDto;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.util.List;
@@ -25,6 +31,9 @@ class SelectTabDaoTest {
     @Autowired
     SelectTabDao selectTabDao;
 
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @Test
     void ID로_탭을_조회한다() {
         // when
@@ -105,6 +114,94 @@ class SelectTabDaoTest {
         assertThat(actual).noneMatch(t -> t.id().equals(200L));
     }
 
+    @Test
+    void 그룹별_트리를_한_번의_순회로_조회한다() {
+        // given
+        TabTreeRowCallbackHandler rowCallbackHandler = new TabTreeRowCallbackHandler();
+
+        // when
+        selectTabDao.streamTreeByGroup(1L, rowCallbackHandler);
+
+        // then
+        List<TabNode> actual = rowCallbackHandler.getRootNodes();
+        TabNode grandChild = actual.get(0).getChildren().get(1).getChildren().get(0);
+
+        assertAll(
+                () -> assertThat(actual).extracting(node -> node.getId().getValue())
+                                        .containsExactly(100L, 104L),
+                () -> assertThat(actual.get(0).getChildren()).extracting(node -> node.getId().getValue())
+                                                             .containsExactly(101L, 102L),
+                () -> assertThat(grandChild.getId().getValue()).isEqualTo(103L),
+                () -> assertThat(grandChild.getDepth()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 트리를_한_번의_순회로_조회할_때_다른_그룹의_탭은_조회되지_않는다() {
+        // given
+        TabTreeRowCallbackHandler rowCallbackHandler = new TabTreeRowCallbackHandler();
+
+        // when
+        selectTabDao.streamTreeByGroup(2L, rowCallbackHandler);
+
+        // then
+        assertThat(rowCallbackHandler.getRootNodes()).extracting(node -> node.getId().getValue())
+                                                     .containsExactly(200L);
+    }
+
+    @Test
+    void 그룹의_탭을_전위_순회_순서로_조회한다() {
+        // given
+        List<TabNode> actual = new ArrayList<>();
+
+        // when
+        selectTabDao.streamPreOrderByGroup(1L, new TabPreOrderRowCallbackHandler(actual::add));
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(node -> node.getId().getValue())
+                                        .containsExactly(100L, 101L, 102L, 103L, 104L),
+                () -> assertThat(actual).extracting(TabNode::getDepth)
+                                        .containsExactly(0, 1, 1, 2, 0)
+        );
+    }
+
+    @Test
+    void 전위_순회_번호가_최신이면_번호_순서로_스트리밍한다() {
+        // given
+        List<TabNode> actual = new ArrayList<>();
+
+        jdbcTemplate.update("""
+                UPDATE tabs
+                SET pre_order = CASE id WHEN 100 THEN 0 WHEN 101 THEN 1 WHEN 102 THEN 2 WHEN 103 THEN 3 ELSE 4 END
+                WHERE group_id = 1
+                """);
+        jdbcTemplate.update("UPDATE tab_groups SET pre_order_version = version WHERE id = 1");
+
+        // when
+        selectTabDao.streamNumberedPreOrderByGroup(1L, new TabPreOrderRowCallbackHandler(actual::add));
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(node -> node.getId().getValue())
+                                        .containsExactly(100L, 101L, 102L, 103L, 104L),
+                () -> assertThat(actual).extracting(TabNode::getDepth)
+                                        .containsExactly(0, 1, 1, 2, 0)
+        );
+    }
+
+    @Test
+    void 전위_순회_번호가_오래되었으면_번호_순서로_스트리밍하지_않는다() {
+        // given
+        TabPreOrderRowCallbackHandler rowCallbackHandler = new TabPreOrderRowCallbackHandler(node -> { });
+
+        // when
+        selectTabDao.streamNumberedPreOrderByGroup(1L, rowCallbackHandler);
+
+        // then
+        assertThat(rowCallbackHandler.getRowCount()).isZero();
+    }
+
     @Test
     void 부모_ID를_조회한다() {
         // when
@@ -165,11 +262,48 @@ class SelectTabDaoTest {
     @Test
     void 루트_레벨_형제들을_조회한다() {
         // when
-        List<TabDto> actual = selectTabDao.findRootSiblings();
+        List<TabDto> actual = selectTabDao.findRootSiblings(1L);
+
+        // then
+        assertThat(actual).extracting(TabDto::id)
+                          .containsExactly(100L, 104L);
+    }
+
+    @Test
+    void 루트_레벨_형제_조회_시_다른_그룹의_루트_탭은_조회되지_않는다() {
+        // when
+        List<TabDto> actual = selectTabDao.findRootSiblings(2L);
 
         // then
-        assertThat(actual).filteredOn(t -> t.groupId().equals(1L))
-                          .hasSizeGreaterThanOrEqualTo(1);
+        assertThat(actual).extracting(TabDto::id)
+                          .containsExactly(200L);
+    }
+
+    @Test
+    void 다른_그룹의_루트_탭이_많아도_루트_레벨_형제는_그룹_인덱스로_해당_그룹만_조회한다() {
+        // given
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tabs (id, writer_id, group_id, parent_id, title, url, position, created_at, updated_at) "
+                        + "VALUES (?, 1, 2, NULL, '다른 그룹 탭', 'http://other.com', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                IntStream.range(0, 5_000)
+                         .mapToObj(i -> new Object[]{10_000L + i, i + 1})
+                         .toList()
+        );
+
+        // when
+        List<TabDto> actual = selectTabDao.findRootSiblings(1L);
+
+        // then
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM tabs WHERE group_id = 1 AND parent_id IS NULL ORDER BY position, id",
+                String.class
+        );
+
+        assertAll(
+                () -> assertThat(actual).extracting(TabDto::id)
+                                        .containsExactly(100L, 104L),
+                () -> assertThat(plan).containsIgnoringCase("idx_tabs_group_parent_position")
+        );
     }
 
     @Test
@@ -238,4 +372,73 @@ class SelectTabDaoTest {
                 () -> assertThat(group2ChildPosition).isGreaterThanOrEqualTo(0)
         );
     }
+
+    @Test
+    void 지정한_깊이까지_하위_트리를_조회한다() {
+        // when
+        List<TabOutline> actual = selectTabDao.findSubtree(100L, 1, 500, 500);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(outline -> outline.tab().getId())
+                                        .containsExactly(100L, 101L, 102L),
+                () -> assertThat(actual).extracting(TabOutline::depth)
+                                        .containsExactly(0, 1, 1),
+                () -> assertThat(actual).extracting(TabOutline::childCount)
+                                        .containsExactly(2, 0, 1)
+        );
+    }
+
+    @Test
+    void 하위_트리는_부모마다_자식_수를_제한한다() {
+        // when
+        List<TabOutline> actual = selectTabDao.findSubtree(100L, 2, 1, 500);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(outline -> outline.tab().getId())
+                                        .containsExactly(100L, 101L),
+                () -> assertThat(actual).extracting(TabOutline::childCount)
+                                        .containsExactly(2, 0)
+        );
+    }
+
+    @Test
+    void 하위_트리는_전체_행_수를_제한한다() {
+        // when
+        List<TabOutline> actual = selectTabDao.findSubtree(100L, 2, 500, 2);
+
+        // then
+        assertThat(actual).extracting(outline -> outline.tab().getId())
+                          .containsExactly(100L, 101L);
+    }
+
+    @Test
+    void 자식_탭을_커서_기반으로_페이지_조회한다() {
+        // given
+        List<TabOutline> firstPage = selectTabDao.findChildrenPage(1L, 100L, TabCursor.FIRST, 1);
+        TabCursor cursor = TabCursor.after(firstPage.get(0).tab());
+
+        // when
+        List<TabOutline> actual = selectTabDao.findChildrenPage(1L, 100L, cursor, 1);
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage).extracting(outline -> outline.tab().getId())
+                                           .containsExactly(101L),
+                () -> assertThat(actual).extracting(outline -> outline.tab().getId())
+                                        .containsExactly(102L),
+                () -> assertThat(actual.get(0).childCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 부모가_없으면_그룹의_루트_탭을_페이지_조회한다() {
+        // when
+        List<TabOutline> actual = selectTabDao.findChildrenPage(1L, null, TabCursor.FIRST, 10);
+
+        // then
+        assertThat(actual).extracting(outline -> outline.tab().getId())
+                          .containsExactly(100L, 104L);
+    }
 }
@@ -1,6 +1,7 @@
 package com.management.tab.persistence.dao;
 
 import com.management.tab.persistence.dao.dto.TabGroupDto;
+import com.management.tab.persistence.dao.dto.TabGroupSummaryDto;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -27,7 +28,7 @@ class TabGroupDaoTest {
     @Test
     void 모든_탭_그룹을_조회할_수_있다() {
         // when
-        List<TabGroupDto> actual = tabGroupDao.findAll();
+        List<TabGroupDto> actual = tabGroupDao.findAll(0L, 10);
 
         // then
         assertThat(actual).hasSize(3);
@@ -121,7 +122,7 @@ class TabGroupDaoTest {
     @Test
     void 모든_탭_그룹은_ID_순서로_정렬되어_조회된다() {
         // when
-        List<TabGroupDto> actual = tabGroupDao.findAll();
+        List<TabGroupDto> actual = tabGroupDao.findAll(0L, 10);
 
         // then
         assertAll(
@@ -134,9 +135,93 @@ class TabGroupDaoTest {
     @Test
     void 특정_사용자의_모든_탭_그룹을_조회할_수_있다() {
         // when
-        List<TabGroupDto> actual = tabGroupDao.findAllByWriterId(1L);
+        List<TabGroupDto> actual = tabGroupDao.findAllByWriterId(1L, 0L, 10);
 
         // then
         assertThat(actual).hasSize(3);
     }
+
+    @Test
+    void 탭_그룹의_버전을_증가시킨다() {
+        // when
+        tabGroupDao.increaseVersion(1L);
+
+        // then
+        assertThat(tabGroupDao.findVersion(1L)).contains(1L);
+    }
+
+    @Test
+    void 탭_식별자로_탭이_속한_그룹의_버전을_증가시킨다() {
+        // when
+        tabGroupDao.increaseVersionByTabId(3L);
+
+        // then
+        assertAll(
+                () -> assertThat(tabGroupDao.findVersion(1L)).contains(0L),
+                () -> assertThat(tabGroupDao.findVersionByTabId(3L)).contains(1L)
+        );
+    }
+
+    @Test
+    void 탭_그룹의_이름을_수정하면_버전이_증가한다() {
+        // when
+        tabGroupDao.update(1L, "수정된 탭");
+
+        // then
+        assertThat(tabGroupDao.findVersion(1L)).contains(1L);
+    }
+
+    @Test
+    void 탭_그룹의_버전을_잠그고_조회한다() {
+        // given
+        tabGroupDao.increaseVersion(1L);
+
+        // when
+        Optional<Long> actual = tabGroupDao.lockVersion(1L);
+
+        // then
+        assertThat(actual).contains(1L);
+    }
+
+    @Test
+    void 존재하지_않는_탭_그룹의_버전을_잠그면_빈_Optional을_반환한다() {
+        // when
+        Optional<Long> actual = tabGroupDao.lockVersion(999L);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 존재하지_않는_탭_그룹의_버전을_조회하면_빈_Optional을_반환한다() {
+        // when
+        Optional<Long> actual = tabGroupDao.findVersion(999L);
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 커서_이후의_탭_그룹을_지정한_개수만큼_조회한다() {
+        // when
+        List<TabGroupDto> actual = tabGroupDao.findAll(1L, 1);
+
+        // then
+        assertThat(actual).extracting(TabGroupDto::id)
+                          .containsExactly(2L);
+    }
+
+    @Test
+    void 탭_그룹별_요약을_집계하여_조회한다() {
+        // when
+        List<TabGroupSummaryDto> actual = tabGroupDao.findSummaries(0L, 10);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(summary -> summary.tabGroup().id())
+                                        .containsExactly(1L, 2L, 3L),
+                () -> assertThat(actual).extracting(TabGroupSummaryDto::tabCount)
+                                        .containsExactly(2, 1, 0)
+        );
+    }
 }
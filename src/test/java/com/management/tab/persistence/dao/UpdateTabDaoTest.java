@@ -9,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -115,6 +116,21 @@ class UpdateTabDaoTest {
                 .hasValueSatisfying(tab -> assertThat(tab.position()).isEqualTo(5));
     }
 
+    @Test
+    void 여러_탭의_position을_한_번에_업데이트한다() {
+        // when
+        updateTabDao.updatePositions(Map.of(301L, 1024, 302L, 2048));
+
+        // then
+        Optional<TabDto> first = selectTabDao.findById(301L);
+        Optional<TabDto> second = selectTabDao.findById(302L);
+
+        assertAll(
+                () -> assertThat(first).hasValueSatisfying(tab -> assertThat(tab.position()).isEqualTo(1024)),
+                () -> assertThat(second).hasValueSatisfying(tab -> assertThat(tab.position()).isEqualTo(2048))
+        );
+    }
+
     @Test
     void 탭_정보를_업데이트한다() {
         // when
@@ -0,0 +1,180 @@
+package com.management.tab.presentation.group;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Sql(scripts = {"classpath:sql/schema.sql", "classpath:sql/service/tab-group-service-test-data.sql"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TabGroupControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    static Stream<MediaType> allEncodings() {
+        return Stream.of(
+                MediaType.APPLICATION_JSON,
+                MediaType.APPLICATION_CBOR,
+                MediaType.valueOf("application/x-jackson-smile")
+        );
+    }
+
+    static Stream<Arguments> binaryEncodings() {
+        return Stream.of(
+                Arguments.of(MediaType.APPLICATION_CBOR, new ObjectMapper(new CBORFactory())),
+                Arguments.of(MediaType.valueOf("application/x-jackson-smile"), new ObjectMapper(new SmileFactory()))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("binaryEncodings")
+    void 바이너리_인코딩으로_그룹_목록을_요청하면_JSON과_같은_날짜_형식으로_응답한다(
+            MediaType mediaType,
+            ObjectMapper binaryMapper
+    ) throws Exception {
+        // given
+        JsonNode expected = readJson("/api/groups");
+
+        // when
+        JsonNode actual = readBinary("/api/groups", mediaType, binaryMapper);
+
+        // then
+        JsonNode expectedGroup = expected.get("groups").get(0);
+        JsonNode actualGroup = actual.get("groups").get(0);
+
+        assertAll(
+                () -> assertThat(actual).isEqualTo(expected),
+                () -> assertThat(actualGroup.get("createdAt").asText()).isEqualTo(expectedGroup.get("createdAt").asText()),
+                () -> assertThat(actualGroup.get("updatedAt").asText()).isEqualTo(expectedGroup.get("updatedAt").asText())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("binaryEncodings")
+    void 바이너리_인코딩으로_그룹을_요청하면_JSON과_같은_날짜_형식으로_응답한다(
+            MediaType mediaType,
+            ObjectMapper binaryMapper
+    ) throws Exception {
+        // given
+        JsonNode expected = readJson("/api/groups/1");
+
+        // when
+        JsonNode actual = readBinary("/api/groups/1", mediaType, binaryMapper);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo(expected),
+                () -> assertThat(actual.get("createdAt").asText()).isEqualTo(expected.get("createdAt").asText()),
+                () -> assertThat(actual.get("updatedAt").asText()).isEqualTo(expected.get("updatedAt").asText())
+        );
+    }
+
+    @Test
+    void 그룹_응답은_인코딩을_포함한_ETag와_Vary_헤더를_가진다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/groups/1").accept(MediaType.APPLICATION_JSON))
+               .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.ETAG, endsWith("-json\"")))
+               .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    @ParameterizedTest
+    @MethodSource("allEncodings")
+    void 같은_인코딩의_ETag로_조건부_요청하면_304를_응답한다(MediaType mediaType) throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/api/groups/1").accept(mediaType))
+                             .andReturn()
+                             .getResponse()
+                             .getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/api/groups/1").accept(mediaType).header(HttpHeaders.IF_NONE_MATCH, eTag))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string(HttpHeaders.ETAG, eTag))
+               .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    @ParameterizedTest
+    @MethodSource("binaryEncodings")
+    void JSON_응답의_ETag로_바이너리_인코딩을_조건부_요청하면_본문을_다시_응답한다(
+            MediaType mediaType,
+            ObjectMapper binaryMapper
+    ) throws Exception {
+        // given
+        String jsonETag = mockMvc.perform(get("/api/groups/1").accept(MediaType.APPLICATION_JSON))
+                                 .andReturn()
+                                 .getResponse()
+                                 .getHeader(HttpHeaders.ETAG);
+
+        // when
+        MockHttpServletResponse actual = mockMvc.perform(get("/api/groups/1").accept(mediaType)
+                                                                     .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                                                .andExpect(status().isOk())
+                                                .andReturn()
+                                                .getResponse();
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getHeader(HttpHeaders.ETAG)).isNotEqualTo(jsonETag),
+                () -> assertThat(binaryMapper.readTree(actual.getContentAsByteArray())).isNotEmpty()
+        );
+    }
+
+    @Test
+    void 이전_버전의_ETag로_조건부_요청하면_본문을_다시_응답한다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/groups/1").accept(MediaType.APPLICATION_JSON)
+                                     .header(HttpHeaders.IF_NONE_MATCH, "\"-1-json\""))
+               .andExpect(status().isOk())
+               .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    private JsonNode readJson(String uri) throws Exception {
+        byte[] content = mockMvc.perform(get(uri).accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andReturn()
+                                .getResponse()
+                                .getContentAsByteArray();
+
+        return objectMapper.readTree(content);
+    }
+
+    private JsonNode readBinary(String uri, MediaType mediaType, ObjectMapper binaryMapper) throws Exception {
+        byte[] content = mockMvc.perform(get(uri).accept(mediaType))
+                                .andExpect(status().isOk())
+                                .andReturn()
+                                .getResponse()
+                                .getContentAsByteArray();
+
+        return binaryMapper.readTree(content);
+    }
+}
@@ -0,0 +1,93 @@
+package com.management.tab.presentation.tab;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.management.tab.application.auth.GenerateTokenService;
+import com.management.tab.application.tab.dto.request.InsertMultipleTabRequest;
+import com.management.tab.domain.group.vo.TabGroupId;
+import com.management.tab.domain.repository.TabRepository;
+import com.management.tab.domain.tab.TabTree;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Sql(scripts = {"classpath:sql/schema.sql", "classpath:sql/service/insert-multiple-tab-service-test-data.sql"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class InsertMultipleTabControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    GenerateTokenService generateTokenService;
+
+    @Autowired
+    TabRepository tabRepository;
+
+    static Stream<Arguments> binaryEncodings() {
+        return Stream.of(
+                Arguments.of(MediaType.APPLICATION_CBOR, new ObjectMapper(new CBORFactory())),
+                Arguments.of(MediaType.valueOf("application/x-jackson-smile"), new ObjectMapper(new SmileFactory()))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("binaryEncodings")
+    void 바이너리_인코딩으로_여러_탭을_생성하고_같은_인코딩으로_응답한다(MediaType mediaType, ObjectMapper binaryMapper) throws Exception {
+        // given
+        List<InsertMultipleTabRequest> requests = List.of(
+                new InsertMultipleTabRequest(
+                        "바이너리 루트",
+                        "https://binary-root.com",
+                        List.of(new InsertMultipleTabRequest("바이너리 자식", "https://binary-child.com", null))
+                ),
+                new InsertMultipleTabRequest("바이너리 루트 2", "https://binary-root2.com", null)
+        );
+        String accessToken = generateTokenService.generate(1L).accessToken();
+        int beforeCount = tabRepository.findTabTree(TabGroupId.create(1L)).getTotalCount();
+
+        // when
+        MockHttpServletResponse actual = mockMvc.perform(
+                                                        post("/api/groups/1/tabs/multiple")
+                                                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                                                                .contentType(mediaType)
+                                                                .accept(mediaType)
+                                                                .content(binaryMapper.writeValueAsBytes(requests))
+                                                )
+                                                .andExpect(status().isCreated())
+                                                .andReturn()
+                                                .getResponse();
+
+        // then
+        JsonNode response = binaryMapper.readTree(actual.getContentAsByteArray());
+        TabTree afterTree = tabRepository.findTabTree(TabGroupId.create(1L));
+
+        assertAll(
+                () -> assertThat(MediaType.valueOf(actual.getContentType()).isCompatibleWith(mediaType)).isTrue(),
+                () -> assertThat(response.get("tabIds")).hasSize(3),
+                () -> assertThat(afterTree.getTotalCount()).isEqualTo(beforeCount + 3)
+        );
+    }
+}
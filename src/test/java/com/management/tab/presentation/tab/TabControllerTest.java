@@ -0,0 +1,159 @@
+package com.management.tab.presentation.tab;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.management.tab.application.auth.GenerateTokenService;
+import com.management.tab.presentation.common.CursorToken;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Sql(scripts = {"classpath:sql/schema.sql", "classpath:sql/service/tab-service-test-data.sql"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TabControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    GenerateTokenService generateTokenService;
+
+    static Stream<MediaType> allEncodings() {
+        return Stream.of(
+                MediaType.APPLICATION_JSON,
+                MediaType.APPLICATION_CBOR,
+                MediaType.valueOf("application/x-jackson-smile")
+        );
+    }
+
+    static Stream<Arguments> binaryEncodings() {
+        return Stream.of(
+                Arguments.of(MediaType.APPLICATION_CBOR, new ObjectMapper(new CBORFactory())),
+                Arguments.of(MediaType.valueOf("application/x-jackson-smile"), new ObjectMapper(new SmileFactory()))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("binaryEncodings")
+    void 바이너리_인코딩으로_요청하면_JSON과_같은_탭_트리를_응답한다(MediaType mediaType, ObjectMapper binaryMapper) throws Exception {
+        // given
+        MockHttpServletResponse jsonResponse = mockMvc.perform(get("/api/tabs/groups/1/tree").accept(MediaType.APPLICATION_JSON))
+                                                      .andExpect(status().isOk())
+                                                      .andReturn()
+                                                      .getResponse();
+
+        // when
+        MockHttpServletResponse actual = mockMvc.perform(get("/api/tabs/groups/1/tree").accept(mediaType))
+                                                .andExpect(status().isOk())
+                                                .andReturn()
+                                                .getResponse();
+
+        // then
+        JsonNode expected = objectMapper.readTree(jsonResponse.getContentAsByteArray());
+
+        assertAll(
+                () -> assertThat(MediaType.valueOf(actual.getContentType()).isCompatibleWith(mediaType)).isTrue(),
+                () -> assertThat(binaryMapper.readTree(actual.getContentAsByteArray())).isEqualTo(expected),
+                () -> assertThat(expected.get("tabs")).hasSize(3)
+        );
+    }
+
+    @Test
+    void 탭_트리_응답은_인코딩을_포함한_ETag와_Vary_헤더를_가진다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/tabs/groups/1/tree").accept(MediaType.APPLICATION_JSON))
+               .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.ETAG, endsWith("-json\"")))
+               .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    @ParameterizedTest
+    @MethodSource("allEncodings")
+    void 같은_인코딩의_ETag로_조건부_요청하면_304를_응답한다(MediaType mediaType) throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/api/tabs/groups/1/tree").accept(mediaType))
+                             .andReturn()
+                             .getResponse()
+                             .getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/api/tabs/groups/1/tree").accept(mediaType).header(HttpHeaders.IF_NONE_MATCH, eTag))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string(HttpHeaders.ETAG, eTag))
+               .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    @ParameterizedTest
+    @MethodSource("binaryEncodings")
+    void JSON_응답의_ETag로_바이너리_인코딩을_조건부_요청하면_본문을_다시_응답한다(
+            MediaType mediaType,
+            ObjectMapper binaryMapper
+    ) throws Exception {
+        // given
+        String jsonETag = mockMvc.perform(get("/api/tabs/groups/1/tree").accept(MediaType.APPLICATION_JSON))
+                                 .andReturn()
+                                 .getResponse()
+                                 .getHeader(HttpHeaders.ETAG);
+
+        // when
+        MockHttpServletResponse actual = mockMvc.perform(get("/api/tabs/groups/1/tree").accept(mediaType)
+                                                                     .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                                                .andExpect(status().isOk())
+                                                .andReturn()
+                                                .getResponse();
+
+        // then
+        assertAll(
+                () -> assertThat(actual.getHeader(HttpHeaders.ETAG)).isNotEqualTo(jsonETag),
+                () -> assertThat(binaryMapper.readTree(actual.getContentAsByteArray())).isNotEmpty()
+        );
+    }
+
+    @Test
+    void 이전_버전의_ETag로_조건부_요청하면_본문을_다시_응답한다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/tabs/groups/1/tree").accept(MediaType.APPLICATION_JSON)
+                                     .header(HttpHeaders.IF_NONE_MATCH, "\"-1-json\""))
+               .andExpect(status().isOk())
+               .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void 위치가_int_범위를_벗어난_커서로_루트_탭을_조회하면_400을_응답한다() throws Exception {
+        // given
+        String accessToken = generateTokenService.generate(1L).accessToken();
+        String cursor = CursorToken.encode(Integer.MAX_VALUE + 1L, 100L);
+
+        // when & then
+        mockMvc.perform(get("/api/tabs/groups/1/roots").param("cursor", cursor)
+                                                       .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+               .andExpect(status().isBadRequest());
+    }
+}
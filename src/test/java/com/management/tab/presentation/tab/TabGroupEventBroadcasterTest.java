@@ -0,0 +1,205 @@
+package com.management.tab.presentation.tab;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core.api.InstanceOfAssertFactories.COLLECTION;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.management.tab.application.auth.GenerateTokenService;
+import com.management.tab.application.tab.TabGroupChangedEvent;
+import com.management.tab.application.tab.TabService;
+import com.management.tab.domain.group.vo.TabGroupId;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Sql(scripts = {"classpath:sql/schema.sql", "classpath:sql/service/tab-service-test-data.sql"})
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TabGroupEventBroadcasterTest {
+
+    private static final String EVENTS_URI = "/api/tabs/groups/1/events";
+    private static final String CHANGE_FRAME = "event:change\ndata:{\"groupId\":1,\"version\":1}\n\n";
+    private static final String RESYNC_FRAME = "event:resync\ndata:{\"groupId\":1}\n\n";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TabGroupEventBroadcaster tabGroupEventBroadcaster;
+
+    @Autowired
+    TabService tabService;
+
+    @Autowired
+    GenerateTokenService generateTokenService;
+
+    @BeforeEach
+    void setUp() {
+        subscribersByGroupId().clear();
+    }
+
+    @Test
+    void 같은_그룹의_구독자는_같은_변경_이벤트_프레임을_받는다() throws Exception {
+        // given
+        MvcResult firstSubscriber = subscribe();
+        MvcResult secondSubscriber = subscribe();
+
+        // when
+        tabService.updateTab(100L, 1L, "수정된 탭", "https://updated.com");
+
+        // then
+        String firstContent = awaitContent(firstSubscriber, CHANGE_FRAME);
+        String secondContent = awaitContent(secondSubscriber, CHANGE_FRAME);
+
+        assertAll(
+                () -> assertThat(firstContent).isEqualTo(secondContent),
+                () -> assertThat(firstContent).endsWith("id:1\n" + CHANGE_FRAME)
+        );
+    }
+
+    @Test
+    void 대기열이_가득_차면_재동기화_이벤트를_보내고_구독을_종료한다() throws Exception {
+        // given
+        CountDownLatch senderReleased = new CountDownLatch(1);
+        ExecutorService senderExecutor = (ExecutorService) ReflectionTestUtils.getField(
+                tabGroupEventBroadcaster,
+                "senderExecutor"
+        );
+
+        senderExecutor.execute(() -> awaitRelease(senderReleased));
+
+        MvcResult subscriber;
+
+        try {
+            subscriber = subscribe();
+
+            // when
+            for (int i = 0; i < 4; i++) {
+                tabGroupEventBroadcaster.broadcast(new TabGroupChangedEvent(TabGroupId.create(1L), 1L));
+            }
+        } finally {
+            senderReleased.countDown();
+        }
+
+        // then
+        String content = awaitContent(subscriber, RESYNC_FRAME);
+
+        mockMvc.perform(asyncDispatch(subscriber))
+               .andExpect(status().isOk());
+
+        assertAll(
+                () -> assertThat(content).isEqualTo(RESYNC_FRAME),
+                () -> assertThat(subscriber.getResponse().getContentAsString()).isEqualTo(RESYNC_FRAME),
+                () -> assertThat(subscribersByGroupId()).doesNotContainKey(1L)
+        );
+    }
+
+    @Test
+    void 연결_오류가_발생하면_구독을_해제한다() throws Exception {
+        // given
+        MvcResult subscriber = subscribe();
+        MockAsyncContext asyncContext = (MockAsyncContext) subscriber.getRequest().getAsyncContext();
+
+        awaitContent(subscriber, "event:change");
+
+        // when
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onError(new AsyncEvent(asyncContext, new IOException("연결 종료")));
+        }
+
+        // then
+        assertThat(subscribersByGroupId()).doesNotContainKey(1L);
+    }
+
+    @Test
+    void 전송이_제한_시간을_넘기면_구독을_해제하고_다른_구독자에게_계속_전송한다() throws Exception {
+        // given
+        CountDownLatch sendReleased = new CountDownLatch(1);
+        SseEmitter stalledEmitter = new SseEmitter() {
+            @Override
+            public void send(Set<DataWithMediaType> items) {
+                awaitRelease(sendReleased);
+            }
+        };
+
+        try {
+            tabGroupEventBroadcaster.subscribe(1L, stalledEmitter);
+
+            // when
+            MvcResult healthySubscriber = subscribe();
+
+            // then
+            String content = awaitContent(healthySubscriber, "event:change");
+
+            assertAll(
+                    () -> assertThat(content).contains("event:change"),
+                    () -> assertThat(subscribersByGroupId().get(1L)).asInstanceOf(COLLECTION).hasSize(1)
+            );
+        } finally {
+            sendReleased.countDown();
+        }
+    }
+
+    private MvcResult subscribe() throws Exception {
+        String accessToken = generateTokenService.generate(1L).accessToken();
+
+        return mockMvc.perform(get(EVENTS_URI).header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                      .andExpect(request().asyncStarted())
+                      .andReturn();
+    }
+
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (System.nanoTime() < deadline) {
+            String content = result.getResponse().getContentAsString();
+
+            if (content.contains(expected)) {
+                return content;
+            }
+
+            Thread.sleep(10L);
+        }
+
+        return fail("이벤트를 받지 못했습니다: " + expected);
+    }
+
+    private void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, ?> subscribersByGroupId() {
+        return (Map<Long, ?>) ReflectionTestUtils.getField(tabGroupEventBroadcaster, "subscribersByGroupId");
+    }
+}
@@ -0,0 +1,92 @@
+package com.management.tab.presentation.tab;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.tab.domain.tab.TabBuilder;
+import com.management.tab.domain.tab.TabNode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TabTreeColumnarJsonWriterTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 전위_순서대로_열_단위_배열을_쓴다() throws IOException {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        try (TabTreeColumnarJsonWriter writer = new TabTreeColumnarJsonWriter(objectMapper.getFactory().createGenerator(output))) {
+            for (long id = 1L; id <= 100L; id++) {
+                writer.write(createTabNode(id, id == 1L ? null : 1L, (int) id, id == 1L ? 0 : 1));
+            }
+            writer.finish();
+        }
+
+        // then
+        JsonNode actual = objectMapper.readTree(output.toByteArray());
+
+        assertThat(actual.get("ids")).hasSize(100);
+        assertThat(actual.get("ids").get(99).asLong()).isEqualTo(100L);
+        assertThat(actual.get("parentIds").get(0).isNull()).isTrue();
+        assertThat(actual.get("parentIds").get(1).asLong()).isEqualTo(1L);
+        assertThat(actual.get("positions").get(1).asInt()).isEqualTo(2);
+        assertThat(actual.get("depths").get(1).asInt()).isEqualTo(1);
+        assertThat(actual.get("titles").get(1).asText()).isEqualTo("탭 2");
+        assertThat(actual.get("urls").get(1).asText()).isEqualTo("https://tab2.com");
+    }
+
+    @Test
+    void 탭이_없으면_빈_열을_쓴다() throws IOException {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        try (TabTreeColumnarJsonWriter writer = new TabTreeColumnarJsonWriter(objectMapper.getFactory().createGenerator(output))) {
+            writer.finish();
+        }
+
+        // then
+        assertThat(output.toString()).isEqualTo(
+                "{\"ids\":[],\"parentIds\":[],\"positions\":[],\"depths\":[],\"titles\":[],\"urls\":[]}"
+        );
+    }
+
+    @Test
+    void 문서를_마치지_않고_닫으면_아무것도_쓰지_않는다() throws IOException {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        try (TabTreeColumnarJsonWriter writer = new TabTreeColumnarJsonWriter(objectMapper.getFactory().createGenerator(output))) {
+            writer.write(createTabNode(1L, null, 0, 0));
+        }
+
+        // then
+        assertThat(output.toByteArray()).isEmpty();
+    }
+
+    private TabNode createTabNode(Long id, Long parentId, int position, int depth) {
+        TabBuilder builder = TabBuilder.builder()
+                                       .id(id)
+                                       .groupId(1L)
+                                       .writerId(1L)
+                                       .title("탭 " + id)
+                                       .url("https://tab" + id + ".com")
+                                       .position(position);
+
+        if (parentId != null) {
+            builder.parentId(parentId);
+        }
+
+        return TabNode.create(builder.build(), depth);
+    }
+}
@@ -0,0 +1,75 @@
+package com.management.tab.presentation.tab;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.tab.domain.tab.TabBuilder;
+import com.management.tab.domain.tab.TabNode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TabTreeFlatJsonWriterTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 전위_순서대로_평탄한_탭_배열을_쓴다() throws IOException {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        try (TabTreeFlatJsonWriter writer = new TabTreeFlatJsonWriter(objectMapper.getFactory().createGenerator(output))) {
+            writer.write(createTabNode(1L, null, 0, 0));
+            writer.write(createTabNode(2L, 1L, 0, 1));
+            writer.finish();
+        }
+
+        // then
+        JsonNode actual = objectMapper.readTree(output.toByteArray());
+
+        assertThat(actual).isEqualTo(objectMapper.readTree("""
+                {"tabs":[
+                    {"id":1,"parentId":null,"position":0,"depth":0,"title":"탭 1","url":"https://tab1.com"},
+                    {"id":2,"parentId":1,"position":0,"depth":1,"title":"탭 2","url":"https://tab2.com"}
+                ]}
+                """));
+    }
+
+    @Test
+    void 문서를_마치지_않고_닫으면_닫는_괄호를_쓰지_않는다() throws IOException {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        try (TabTreeFlatJsonWriter writer = new TabTreeFlatJsonWriter(objectMapper.getFactory().createGenerator(output))) {
+            writer.write(createTabNode(1L, null, 0, 0));
+        }
+
+        // then
+        assertThat(output.toString()).isEqualTo(
+                "{\"tabs\":[{\"id\":1,\"parentId\":null,\"position\":0,\"depth\":0,\"title\":\"탭 1\",\"url\":\"https://tab1.com\"}"
+        );
+    }
+
+    private TabNode createTabNode(Long id, Long parentId, int position, int depth) {
+        TabBuilder builder = TabBuilder.builder()
+                                       .id(id)
+                                       .groupId(1L)
+                                       .writerId(1L)
+                                       .title("탭 " + id)
+                                       .url("https://tab" + id + ".com")
+                                       .position(position);
+
+        if (parentId != null) {
+            builder.parentId(parentId);
+        }
+
+        return TabNode.create(builder.build(), depth);
+    }
+}
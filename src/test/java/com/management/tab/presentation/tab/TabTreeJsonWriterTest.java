@@ -0,0 +1,101 @@
+package com.management.tab.presentation.tab;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.tab.domain.tab.Tab;
+import com.management.tab.domain.tab.TabBuilder;
+import com.management.tab.domain.tab.TabNode;
+import com.management.tab.domain.tab.TabTree;
+import com.management.tab.presentation.tab.dto.response.TabTreeResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TabTreeJsonWriterTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 전위_순회_스트림으로_기존_트리_응답과_같은_JSON을_쓴다() throws IOException {
+        // given
+        TabNode root = TabNode.create(createTab(1L, null, 0), 0);
+        TabNode child = TabNode.create(createTab(2L, 1L, 0), 1);
+        TabNode grandChild = TabNode.create(createTab(3L, 2L, 0), 2);
+        TabNode secondChild = TabNode.create(createTab(4L, 1L, 1024), 1);
+        TabNode secondRoot = TabNode.create(createTab(5L, null, 1024), 0);
+
+        child.addChild(grandChild);
+        root.addChild(child);
+        root.addChild(secondChild);
+
+        TabTree tabTree = TabTree.create(1L, List.of(root, secondRoot));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        try (TabTreeJsonWriter writer = new TabTreeJsonWriter(objectMapper.getFactory().createGenerator(output))) {
+            List.of(root, child, grandChild, secondChild, secondRoot)
+                .forEach(writer::write);
+            writer.finish();
+        }
+
+        // then
+        JsonNode actual = objectMapper.readTree(output.toByteArray());
+        JsonNode expected = objectMapper.valueToTree(TabTreeResponse.from(tabTree));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void 탭이_없으면_빈_배열을_쓴다() throws IOException {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        try (TabTreeJsonWriter writer = new TabTreeJsonWriter(objectMapper.getFactory().createGenerator(output))) {
+            writer.finish();
+        }
+
+        // then
+        assertThat(output.toString()).isEqualTo("{\"tabs\":[]}");
+    }
+
+    @Test
+    void 문서를_마치지_않고_닫으면_닫는_괄호를_쓰지_않는다() throws IOException {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        try (TabTreeJsonWriter writer = new TabTreeJsonWriter(objectMapper.getFactory().createGenerator(output))) {
+            writer.write(TabNode.create(createTab(1L, null, 0), 0));
+        }
+
+        // then
+        assertThat(output.toString()).isEqualTo(
+                "{\"tabs\":[{\"id\":1,\"parentId\":null,\"title\":\"탭 1\",\"url\":\"https://tab1.com\","
+                        + "\"position\":0,\"depth\":0,\"children\":["
+        );
+    }
+
+    private Tab createTab(Long id, Long parentId, int position) {
+        TabBuilder builder = TabBuilder.builder()
+                                       .id(id)
+                                       .groupId(1L)
+                                       .writerId(1L)
+                                       .title("탭 " + id)
+                                       .url("https://tab" + id + ".com")
+                                       .position(position);
+
+        if (parentId != null) {
+            builder.parentId(parentId);
+        }
+
+        return builder.build();
+    }
+}
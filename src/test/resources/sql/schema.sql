@@ -1,8 +1,10 @@
+DROP TABLE IF EXISTS tab_changes;
 DROP TABLE IF EXISTS tab_contents;
 DROP TABLE IF EXISTS tab_tree_paths;
 DROP TABLE IF EXISTS tabs;
 DROP TABLE IF EXISTS tab_groups;
 DROP TABLE IF EXISTS users;
+DROP TABLE IF EXISTS id_sequences;
 
 CREATE TABLE users (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
@@ -17,12 +19,17 @@ CREATE TABLE tab_groups (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
     name VARCHAR(255) NOT NULL,
     writer_id BIGINT NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    compacted_version BIGINT NOT NULL DEFAULT 0,
+    pre_order_version BIGINT NOT NULL DEFAULT -1,
     created_at TIMESTAMP,
     updated_at TIMESTAMP,
 
     CONSTRAINT fk_tab_groups_writer_id FOREIGN KEY (writer_id) REFERENCES users(id) ON DELETE CASCADE
 );
 
+CREATE INDEX idx_tab_groups_writer_id ON tab_groups (writer_id, id);
+
 CREATE TABLE tabs (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     writer_id BIGINT NOT NULL,
@@ -31,6 +38,7 @@ CREATE TABLE tabs (
     title VARCHAR(500) NOT NULL,
     url TEXT,
     position INT NOT NULL DEFAULT 0,
+    pre_order INT,
     created_at TIMESTAMP,
     updated_at TIMESTAMP,
 
@@ -39,6 +47,9 @@ CREATE TABLE tabs (
     CONSTRAINT fk_tabs_writer_id FOREIGN KEY (writer_id) REFERENCES users(id) ON DELETE CASCADE
 );
 
+CREATE INDEX idx_tabs_group_parent_position ON tabs (group_id, parent_id, position);
+CREATE INDEX idx_tabs_group_pre_order ON tabs (group_id, pre_order);
+
 CREATE TABLE tab_tree_paths (
     ancestor_id BIGINT NOT NULL,
     descendant_id BIGINT NOT NULL,
@@ -58,3 +69,27 @@ CREATE TABLE tab_contents (
 
     CONSTRAINT fk_tab_contents_tab FOREIGN KEY (tab_id) REFERENCES tabs(id) ON DELETE CASCADE
 );
+
+CREATE TABLE tab_changes (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    group_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    operation VARCHAR(20) NOT NULL,
+    tab_id BIGINT NOT NULL,
+    parent_id BIGINT,
+    title VARCHAR(500),
+    url TEXT,
+    position INT,
+    with_subtree BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP,
+
+    CONSTRAINT fk_tab_changes_group FOREIGN KEY (group_id) REFERENCES tab_groups(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_tab_changes_group_version ON tab_changes (group_id, version);
+CREATE INDEX idx_tab_changes_created_at ON tab_changes (created_at, group_id, version);
+
+CREATE TABLE id_sequences (
+    name VARCHAR(50) PRIMARY KEY,
+    next_hi BIGINT NOT NULL
+);
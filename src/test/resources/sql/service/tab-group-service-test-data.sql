@@ -75,6 +75,13 @@ VALUES
     (102, 105, 1),
     (100, 105, 2);
 
+-- 탭 컨텐츠
+INSERT INTO tab_contents (id, tab_id, content, created_at, updated_at)
+VALUES
+    (1, 101, '자식_탭1 메모', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (2, 105, '손자_탭3 메모', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
 -- H2 시퀀스 리셋
 ALTER TABLE tab_groups ALTER COLUMN id RESTART WITH 3;
 ALTER TABLE tabs ALTER COLUMN id RESTART WITH 106;
+ALTER TABLE tab_contents ALTER COLUMN id RESTART WITH 3;